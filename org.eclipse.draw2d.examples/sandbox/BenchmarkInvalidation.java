@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.draw2d.DeferredUpdateManager;
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.UpdateManager;
+
+/**
+ * Measures how long it takes the {@link DeferredUpdateManager} to queue and
+ * validate 50.000 invalid figures, as e.g. caused by a large model import. The
+ * figures are split into containers, which are invalidated as well. Laying out
+ * a container invalidates its children, so every child which is validated
+ * before its container has to be laid out twice.
+ */
+public class BenchmarkInvalidation {
+
+	private static final int CONTAINERS = 500;
+	private static final int CHILDREN = 100;
+	private static final int RUNS = 20;
+
+	public static void main(String[] args) {
+		DeferredUpdateManager updateManager = new DeferredUpdateManager() {
+			@Override
+			protected void sendUpdateRequest() {
+				// validation is triggered manually
+			}
+		};
+		IFigure root = new Figure() {
+			@Override
+			public UpdateManager getUpdateManager() {
+				return updateManager;
+			}
+		};
+		List<IFigure> figures = new ArrayList<>();
+		for (int i = 0; i < CONTAINERS; i++) {
+			IFigure container = new ValidationRoot();
+			for (int j = 0; j < CHILDREN; j++) {
+				IFigure child = new ValidationRoot();
+				container.add(child);
+				figures.add(child);
+			}
+			root.add(container);
+			figures.add(container);
+		}
+		updateManager.setRoot(root);
+		root.validate();
+
+		// Warm-up
+		invalidate(figures, updateManager);
+		ValidationRoot.layouts = 0;
+
+		long queueTime = 0;
+		long validateTime = 0;
+		for (int i = 0; i < RUNS; i++) {
+			long start = System.nanoTime();
+			figures.forEach(IFigure::revalidate);
+			long end = System.nanoTime();
+			queueTime += end - start;
+
+			start = System.nanoTime();
+			updateManager.performValidation();
+			end = System.nanoTime();
+			validateTime += end - start;
+		}
+
+		System.out.println("Figures: " + figures.size()); //$NON-NLS-1$
+		System.out.println("Average queue millis: " + queueTime / RUNS / 1_000_000.0); //$NON-NLS-1$
+		System.out.println("Average validation millis: " + validateTime / RUNS / 1_000_000.0); //$NON-NLS-1$
+		System.out.println("Layouts per run: " + ValidationRoot.layouts / RUNS); //$NON-NLS-1$
+	}
+
+	private static void invalidate(List<IFigure> figures, UpdateManager updateManager) {
+		figures.forEach(IFigure::revalidate);
+		updateManager.performValidation();
+	}
+
+	private static class ValidationRoot extends Figure {
+		private static int layouts;
+
+		@Override
+		public boolean isValidationRoot() {
+			return true;
+		}
+
+		@Override
+		protected void layout() {
+			layouts++;
+			// Simulates a layout manager which resizes the children
+			getChildren().forEach(IFigure::invalidate);
+		}
+	}
+}
@@ -0,0 +1,274 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.draw2d.graph.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.draw2d.graph.Edge;
+import org.eclipse.draw2d.graph.Node;
+import org.eclipse.draw2d.graph.Rank;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the crossings counted by the accumulator tree of the
+ * {@code CrossingCounter} with the crossings of all pairs of edges. The counter
+ * is package private, so it is accessed via reflection.
+ */
+@SuppressWarnings("nls")
+public class CrossingCounterTest {
+	private static final int RUNS = 500;
+
+	private Random random;
+	private Object counter;
+	private Method countCrossings;
+	private Method countInversions;
+	private Method compareAdjacent;
+	private Method getIndexForRank;
+
+	@BeforeEach
+	public void setUp() throws ReflectiveOperationException {
+		random = new Random(42);
+		Class<?> type = Class.forName("org.eclipse.draw2d.graph.CrossingCounter", true, Node.class.getClassLoader());
+		Constructor<?> constructor = type.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		counter = constructor.newInstance();
+		countCrossings = type.getDeclaredMethod("countCrossings", Rank.class);
+		countCrossings.setAccessible(true);
+		countInversions = type.getDeclaredMethod("countInversions", int[].class, int.class, int.class);
+		countInversions.setAccessible(true);
+		compareAdjacent = type.getDeclaredMethod("compareAdjacent", Node.class, Node.class, boolean.class,
+				int[].class);
+		compareAdjacent.setAccessible(true);
+		getIndexForRank = Edge.class.getDeclaredMethod("getIndexForRank", int.class);
+		getIndexForRank.setAccessible(true);
+	}
+
+	@Test
+	public void testCountInversions() throws ReflectiveOperationException {
+		for (int run = 0; run < RUNS; run++) {
+			int size = 1 + random.nextInt(40);
+			int length = random.nextInt(60);
+			// The sequence may be longer than the counted part
+			int[] sequence = new int[length + random.nextInt(3)];
+			for (int i = 0; i < sequence.length; i++) {
+				sequence[i] = random.nextInt(size);
+			}
+			long expected = 0;
+			for (int i = 0; i < length; i++) {
+				for (int j = i + 1; j < length; j++) {
+					if (sequence[i] > sequence[j]) {
+						expected++;
+					}
+				}
+			}
+			assertEquals(expected, countInversions.invoke(counter, sequence, Integer.valueOf(length),
+					Integer.valueOf(size)));
+		}
+	}
+
+	@Test
+	public void testCountCrossings() throws ReflectiveOperationException {
+		for (int run = 0; run < RUNS; run++) {
+			Rank upper = createRank(0, 1 + random.nextInt(12));
+			Rank lower = createRank(1, 1 + random.nextInt(12));
+			// Edges which skip the lower rank are not counted
+			Rank skipped = createRank(2, 3);
+			List<Edge> edges = new ArrayList<>();
+			int edgeCount = random.nextInt(40);
+			for (int i = 0; i < edgeCount; i++) {
+				Node source = upper.get(random.nextInt(upper.size()));
+				if (random.nextInt(10) == 0) {
+					new Edge(source, skipped.get(random.nextInt(skipped.size())));
+				} else {
+					edges.add(new Edge(source, lower.get(random.nextInt(lower.size()))));
+				}
+			}
+			long expected = 0;
+			for (int i = 0; i < edges.size(); i++) {
+				for (int j = i + 1; j < edges.size(); j++) {
+					Edge e1 = edges.get(i);
+					Edge e2 = edges.get(j);
+					if ((getIndex(e1.source) - getIndex(e2.source)) * (getIndex(e1.target) - getIndex(e2.target)) < 0) {
+						expected++;
+					}
+				}
+			}
+			assertEquals(expected, countCrossings.invoke(counter, upper));
+		}
+	}
+
+	@Test
+	public void testCompareAdjacent() throws ReflectiveOperationException {
+		for (int run = 0; run < RUNS; run++) {
+			Rank upper = createRank(0, 1 + random.nextInt(6));
+			Rank middle = createRank(1, 2);
+			Rank lower = createRank(2, 1 + random.nextInt(6));
+			for (Node node : middle) {
+				int incoming = random.nextInt(6);
+				for (int i = 0; i < incoming; i++) {
+					Edge edge = new Edge(upper.get(random.nextInt(upper.size())), node);
+					// Few distinct offsets, so that edges often share their position
+					if (random.nextBoolean()) {
+						edge.setSourceOffset(10 * random.nextInt(3));
+					}
+				}
+				int outgoing = random.nextInt(6);
+				for (int i = 0; i < outgoing; i++) {
+					Edge edge = new Edge(node, lower.get(random.nextInt(lower.size())));
+					if (random.nextBoolean()) {
+						edge.setTargetOffset(10 * random.nextInt(3));
+					}
+				}
+			}
+			assertCompareAdjacent(middle.get(0), middle.get(1));
+			assertCompareAdjacent(middle.get(1), middle.get(0));
+		}
+	}
+
+	@Test
+	public void testCompareAdjacentEqualOffsets() throws ReflectiveOperationException {
+		Rank upper = createRank(0, 2);
+		Rank middle = createRank(1, 2);
+		// Both edges start at the same position
+		new Edge(upper.get(1), middle.get(0)).setSourceOffset(10);
+		new Edge(upper.get(1), middle.get(1)).setSourceOffset(10);
+		assertArrayEquals(new int[] { 0, 0 }, assertCompareAdjacent(middle.get(0), middle.get(1)));
+		// The edges of the right node start further left
+		new Edge(upper.get(1), middle.get(1)).setSourceOffset(5);
+		new Edge(upper.get(0), middle.get(1));
+		assertArrayEquals(new int[] { 2, 0 }, assertCompareAdjacent(middle.get(0), middle.get(1)));
+	}
+
+	/**
+	 * Asserts that the crossings before and after swapping the given nodes are
+	 * the same as when comparing every pair of their edges.
+	 *
+	 * @return the number of crossings before and after the swap
+	 */
+	private int[] assertCompareAdjacent(Node current, Node next) throws ReflectiveOperationException {
+		int[] expected = compareAdjacentPairwise(current, next);
+		int[] actual = new int[2];
+		compareAdjacent.invoke(counter, current, next, Boolean.TRUE, actual);
+		compareAdjacent.invoke(counter, current, next, Boolean.FALSE, actual);
+		assertArrayEquals(expected, actual);
+		return actual;
+	}
+
+	/**
+	 * The comparison of LocalOptimizer.shouldSwap() before the crossings were
+	 * counted by merging the sorted edges.
+	 */
+	private int[] compareAdjacentPairwise(Node current, Node next) throws ReflectiveOperationException {
+		int crossCount = 0;
+		int invertedCrossCount = 0;
+
+		int rank = getRank(current) - 1;
+
+		for (Edge currentEdge : current.incoming) {
+			int iCurrent = getIndexForRank(currentEdge, rank);
+			for (Edge nextEdge : next.incoming) {
+				int iNext = getIndexForRank(nextEdge, rank);
+				if (iNext < iCurrent) {
+					crossCount++;
+				} else if (iNext > iCurrent) {
+					invertedCrossCount++;
+				} else {
+					// edges go to the same location
+					int offsetDiff = nextEdge.getSourceOffset() - currentEdge.getSourceOffset();
+					if (offsetDiff < 0) {
+						crossCount++;
+					} else if (offsetDiff > 0) {
+						invertedCrossCount++;
+					}
+				}
+			}
+		}
+
+		rank = getRank(current) + 1;
+
+		for (Edge currentEdge : current.outgoing) {
+			int iCurrent = getIndexForRank(currentEdge, rank);
+			for (Edge nextEdge : next.outgoing) {
+				int iNext = getIndexForRank(nextEdge, rank);
+				if (iNext < iCurrent) {
+					crossCount++;
+				} else if (iNext > iCurrent) {
+					invertedCrossCount++;
+				} else {
+					// edges go to the same location
+					int offsetDiff = nextEdge.getTargetOffset() - currentEdge.getTargetOffset();
+					if (offsetDiff < 0) {
+						crossCount++;
+					} else if (offsetDiff > 0) {
+						invertedCrossCount++;
+					}
+				}
+			}
+		}
+
+		return new int[] { crossCount, invertedCrossCount };
+	}
+
+	/**
+	 * Creates a rank with the given number of nodes. Like the indices assigned
+	 * by the layout, the indices of the nodes increase along the rank, but are
+	 * not necessarily consecutive.
+	 */
+	private Rank createRank(int rank, int size) throws ReflectiveOperationException {
+		Rank result = new Rank();
+		int index = 0;
+		for (int i = 0; i < size; i++) {
+			Node node = new Node("n" + rank + "." + i);
+			index += 1 + random.nextInt(3);
+			setField(node, "rank", rank);
+			setField(node, "index", index);
+			result.add(node);
+		}
+		return result;
+	}
+
+	private int getIndexForRank(Edge edge, int rank) throws ReflectiveOperationException {
+		return ((Integer) getIndexForRank.invoke(edge, Integer.valueOf(rank))).intValue();
+	}
+
+	private static int getRank(Node node) throws ReflectiveOperationException {
+		return getField(node, "rank");
+	}
+
+	private static int getIndex(Node node) throws ReflectiveOperationException {
+		return getField(node, "index");
+	}
+
+	private static int getField(Node node, String name) throws ReflectiveOperationException {
+		Field field = Node.class.getDeclaredField(name);
+		field.setAccessible(true);
+		return field.getInt(node);
+	}
+
+	private static void setField(Node node, String name, int value) throws ReflectiveOperationException {
+		Field field = Node.class.getDeclaredField(name);
+		field.setAccessible(true);
+		field.setInt(node, value);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Patrick Ziegler and others.
+ * Copyright (c) 2023, 2026 Patrick Ziegler and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,13 +13,21 @@
 
 package org.eclipse.draw2d.graph.test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 
+import org.eclipse.draw2d.geometry.Rectangle;
 import org.eclipse.draw2d.graph.DirectedGraph;
 import org.eclipse.draw2d.graph.DirectedGraphLayout;
 import org.eclipse.draw2d.graph.Edge;
@@ -92,6 +100,200 @@ public class DirectedGraphLayoutTest {
 		assertEquals(getRank(n3), 0);
 	}
 
+	@Test
+	public void test_componentPacking() {
+		Node n4 = new Node("n4");
+		Node n5 = new Node("n5");
+		Edge e4 = new Edge(n4, n5);
+		g.nodes.addAll(List.of(n4, n5));
+		g.edges.add(e4);
+
+		layout.setComponentPacking(DirectedGraphLayout.PACKING_ROW);
+		layout.visit(g);
+
+		Rectangle first = getBounds(n1).union(getBounds(n2)).union(getBounds(n3));
+		Rectangle second = getBounds(n4).union(getBounds(n5));
+		// Separated by the default padding of both nodes
+		assertEquals(first.right() + 32, second.x);
+		assertEquals(n3.y, n4.y);
+		assertEquals(n4.x + n4.width / 2, e4.getPoints().getFirstPoint().x);
+		assertEquals(n4.y + n4.height, e4.getPoints().getFirstPoint().y);
+		assertTrue(new Rectangle(0, 0, g.getLayoutSize().width, g.getLayoutSize().height)
+				.contains(first.getUnion(second)));
+		assertTrue(e2.isFeedback());
+	}
+
+	@Test
+	public void test_parallelComponentLayout() {
+		DirectedGraph g1 = createForest();
+		DirectedGraphLayout layout1 = new DirectedGraphLayout();
+		layout1.setComponentPacking(DirectedGraphLayout.PACKING_SHELF);
+		layout1.visit(g1);
+
+		DirectedGraph g2 = createForest();
+		DirectedGraphLayout layout2 = new DirectedGraphLayout();
+		layout2.setComponentPacking(DirectedGraphLayout.PACKING_SHELF);
+		layout2.setParallelLayoutEnabled(true);
+		layout2.visit(g2);
+
+		assertEquals(g1.getLayoutSize(), g2.getLayoutSize());
+		for (int i = 0; i < g1.nodes.size(); i++) {
+			assertEquals(getBounds(g1.nodes.get(i)), getBounds(g2.nodes.get(i)));
+		}
+		for (int i = 0; i < g1.edges.size(); i++) {
+			assertArrayEquals(g1.edges.get(i).getPoints().toIntArray(), g2.edges.get(i).getPoints().toIntArray());
+		}
+		for (int i = 0; i < g1.nodes.size(); i++) {
+			for (int j = i + 1; j < g1.nodes.size(); j++) {
+				assertFalse(getBounds(g1.nodes.get(i)).intersects(getBounds(g1.nodes.get(j))));
+			}
+		}
+	}
+
+	/**
+	 * The components must be laid out with copies of the steps of the layout,
+	 * including steps which have been removed from it.
+	 */
+	@Test
+	public void test_componentLayoutSteps() {
+		List<DirectedGraphLayout> componentLayouts = Collections.synchronizedList(new ArrayList<>());
+		DirectedGraphLayout layout = new DirectedGraphLayout() {
+			@Override
+			protected DirectedGraphLayout createComponentLayout() {
+				DirectedGraphLayout componentLayout = super.createComponentLayout();
+				componentLayouts.add(componentLayout);
+				return componentLayout;
+			}
+		};
+		// Removes the horizontal placement
+		getSteps(layout).removeLast();
+		layout.setComponentPacking(DirectedGraphLayout.PACKING_ROW);
+		layout.setParallelLayoutEnabled(true);
+		layout.visit(createForest());
+
+		assertFalse(componentLayouts.isEmpty());
+		for (DirectedGraphLayout componentLayout : componentLayouts) {
+			Deque<?> steps = getSteps(layout);
+			Deque<?> copies = getSteps(componentLayout);
+			assertEquals(steps.size(), copies.size());
+			Iterator<?> iterator = copies.iterator();
+			for (Object step : steps) {
+				Object copy = iterator.next();
+				assertEquals(step.getClass(), copy.getClass());
+				assertNotSame(step, copy);
+			}
+		}
+	}
+
+	/**
+	 * The ranks and coordinates of random graphs must be the same as with the
+	 * network simplex on the graph objects, which was replaced by the network
+	 * simplex on a packed copy of the graph. The expected values have been
+	 * computed with the previous implementation.
+	 */
+	@Test
+	public void test_networkSimplex() {
+		assertLayout(1, //
+				new int[] { 0, 1, 2, 4, 5, 2, 3, 3, 3, 1, 3, 6, 6, 7, 4, 2, 3, 1, 2, 4, 4, 4, 5, 3, 8, 9, 4, 3, 4, 5 },
+				new int[] { 631, 332, 367, 358, 369, 257, 367, 246, 122, 267, 189, 311, 390, 303, 280, 631, 419, 685,
+						196, 175, 16, 665, 656, 597, 303, 301, 79, 507, 449, 270 },
+				new int[] { 16, 86, 163, 317, 396, 163, 241, 241, 241, 86, 241, 472, 472, 531, 317, 163, 241, 86, 163,
+						317, 317, 317, 396, 241, 586, 653, 317, 241, 317, 396 });
+		assertLayout(2, //
+				new int[] { 0, 1, 2, 2, 3, 4, 4, 3, 4, 3, 3, 3, 4, 5, 1, 2, 2, 4, 3, 6, 4, 4, 5, 4, 5, 5, 5, 5, 5, 5 },
+				new int[] { 649, 500, 341, 92, 167, 65, 254, 571, 574, 716, 306, 491, 157, 254, 573, 408, 16, 635, 418,
+						429, 487, 716, 613, 418, 683, 728, 422, 376, 82, 509 },
+				new int[] { 16, 70, 141, 141, 222, 299, 299, 222, 299, 222, 222, 222, 299, 373, 70, 141, 141, 299, 222,
+						452, 299, 299, 373, 299, 373, 373, 373, 373, 373, 373 });
+		assertLayout(3, //
+				new int[] { 0, 4, 1, 2, 3, 5, 4, 6, 4, 3, 7, 3, 4, 3, 4, 6, 5, 5, 6, 7, 8, 8, 2, 4, 5, 6, 7, 5, 5, 5 },
+				new int[] { 468, 499, 421, 263, 156, 533, 154, 576, 24, 82, 568, 316, 104, 235, 364, 256, 16, 621, 124,
+						643, 638, 582, 406, 457, 242, 412, 182, 113, 457, 385 },
+				new int[] { 16, 272, 78, 124, 196, 352, 272, 432, 272, 196, 494, 196, 272, 196, 272, 432, 352, 352, 432,
+						494, 563, 563, 124, 272, 352, 432, 494, 352, 352, 352 });
+	}
+
+	private static void assertLayout(long seed, int[] ranks, int[] x, int[] y) {
+		DirectedGraph graph = createRandomGraph(seed, ranks.length);
+		new DirectedGraphLayout().visit(graph);
+		for (int i = 0; i < ranks.length; i++) {
+			Node node = graph.nodes.getNode(i);
+			assertEquals(ranks[i], getRank(node));
+			assertEquals(x[i], node.x);
+			assertEquals(y[i], node.y);
+		}
+	}
+
+	/**
+	 * Creates a connected, acyclic graph with random node sizes and edge weights.
+	 */
+	private static DirectedGraph createRandomGraph(long seed, int nodeCount) {
+		Random random = new Random(seed);
+		DirectedGraph graph = new DirectedGraph();
+		for (int i = 0; i < nodeCount; i++) {
+			Node node = new Node("n" + i);
+			node.width = 10 + random.nextInt(60);
+			node.height = 10 + random.nextInt(40);
+			graph.nodes.add(node);
+			if (i > 0) {
+				addEdge(graph, graph.nodes.getNode(random.nextInt(i)), node, random);
+			}
+		}
+		for (int i = 0; i < nodeCount; i++) {
+			int source = random.nextInt(nodeCount);
+			int target = random.nextInt(nodeCount);
+			if (source < target) {
+				addEdge(graph, graph.nodes.getNode(source), graph.nodes.getNode(target), random);
+			}
+		}
+		return graph;
+	}
+
+	private static void addEdge(DirectedGraph graph, Node source, Node target, Random random) {
+		Edge edge = new Edge(source, target);
+		edge.weight = 1 + random.nextInt(3);
+		graph.edges.add(edge);
+	}
+
+	/**
+	 * Creates a graph of binary trees with different depths.
+	 */
+	private static DirectedGraph createForest() {
+		DirectedGraph graph = new DirectedGraph();
+		for (int depth = 1; depth <= 5; depth++) {
+			Node root = new Node("root" + depth);
+			graph.nodes.add(root);
+			addChildren(graph, root, depth);
+		}
+		return graph;
+	}
+
+	private static void addChildren(DirectedGraph graph, Node parent, int depth) {
+		if (depth == 0) {
+			return;
+		}
+		for (int i = 0; i < 2; i++) {
+			Node child = new Node(parent.data + "." + i);
+			graph.nodes.add(child);
+			graph.edges.add(new Edge(parent, child));
+			addChildren(graph, child, depth - 1);
+		}
+	}
+
+	private static Rectangle getBounds(Node n) {
+		return new Rectangle(n.x, n.y, n.width, n.height);
+	}
+
+	private static Deque<?> getSteps(DirectedGraphLayout layout) {
+		try {
+			Field f = DirectedGraphLayout.class.getDeclaredField("steps");
+			f.setAccessible(true);
+			return (Deque<?>) f.get(layout);
+		} catch (ReflectiveOperationException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
 	private static final int getRank(Node n) {
 		try {
 			Field f = Node.class.getDeclaredField("rank");
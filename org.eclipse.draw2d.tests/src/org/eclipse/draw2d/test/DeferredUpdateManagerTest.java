@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.draw2d.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.draw2d.DeferredUpdateManager;
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.Graphics;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.UpdateListener;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the validation and damage repair of the {@link DeferredUpdateManager}.
+ * Updates are performed synchronously and painting is simulated by recording
+ * the clip of each requested {@link Graphics}.
+ */
+public class DeferredUpdateManagerTest {
+
+	private TestUpdateManager updateManager;
+	private IFigure root;
+	private Rectangle notifiedDamage;
+	private List<Rectangle> notifiedRegions;
+
+	@BeforeEach
+	public void setUp() {
+		root = new Figure();
+		root.setBounds(new Rectangle(0, 0, 1000, 1000));
+		updateManager = new TestUpdateManager();
+		updateManager.setRoot(root);
+		updateManager.addUpdateListener(new UpdateListener.Stub() {
+			@Override
+			public void notifyPainting(Rectangle damage, Map<IFigure, Rectangle> dirtyRegions) {
+				notifiedDamage = damage;
+			}
+
+			@Override
+			public void notifyPainting(List<Rectangle> damagedRegions, Map<IFigure, Rectangle> dirtyRegions) {
+				notifiedRegions = new ArrayList<>(damagedRegions);
+				super.notifyPainting(damagedRegions, dirtyRegions);
+			}
+		});
+	}
+
+	@Test
+	public void testSingleDamageRegion() {
+		addDirtyChild(new Rectangle(0, 0, 10, 10));
+		addDirtyChild(new Rectangle(990, 990, 10, 10));
+		updateManager.performUpdate();
+
+		assertEquals(List.of(new Rectangle(0, 0, 1000, 1000)), updateManager.paintedRegions);
+		assertEquals(new Rectangle(0, 0, 1000, 1000), notifiedDamage);
+		assertNull(notifiedRegions);
+	}
+
+	@Test
+	public void testDisjointDamageRegions() {
+		updateManager.setMaxDamageRegions(4);
+		addDirtyChild(new Rectangle(0, 0, 10, 10));
+		addDirtyChild(new Rectangle(990, 990, 10, 10));
+		updateManager.performUpdate();
+
+		assertEquals(2, updateManager.paintedRegions.size());
+		assertTrue(updateManager.paintedRegions.contains(new Rectangle(0, 0, 10, 10)));
+		assertTrue(updateManager.paintedRegions.contains(new Rectangle(990, 990, 10, 10)));
+		assertEquals(updateManager.paintedRegions, notifiedRegions);
+		// Listeners which aren't aware of multiple regions receive the union
+		assertEquals(new Rectangle(0, 0, 1000, 1000), notifiedDamage);
+	}
+
+	@Test
+	public void testClippedDamageRegions() {
+		updateManager.setMaxDamageRegions(4);
+		IFigure child = new Figure();
+		child.setBounds(new Rectangle(2000, 2000, 10, 10));
+		root.add(child);
+		updateManager.addDirtyRegion(child, child.getBounds());
+		updateManager.performUpdate();
+
+		assertEquals(List.of(), notifiedRegions);
+		// Listeners which aren't aware of multiple regions never receive null
+		assertEquals(new Rectangle(), notifiedDamage);
+	}
+
+	@Test
+	public void testCoalesceDamageRegions() {
+		updateManager.setMaxDamageRegions(4);
+		addDirtyChild(new Rectangle(100, 100, 50, 50));
+		addDirtyChild(new Rectangle(120, 120, 50, 50));
+		addDirtyChild(new Rectangle(150, 100, 50, 50));
+		updateManager.performUpdate();
+
+		// Overlapping and adjacent regions are painted together
+		assertEquals(List.of(new Rectangle(100, 100, 100, 70)), updateManager.paintedRegions);
+	}
+
+	@Test
+	public void testMaxDamageRegions() {
+		updateManager.setMaxDamageRegions(2);
+		addDirtyChild(new Rectangle(0, 0, 10, 10));
+		addDirtyChild(new Rectangle(0, 990, 10, 10));
+		addDirtyChild(new Rectangle(990, 990, 10, 10));
+		updateManager.performUpdate();
+
+		assertEquals(2, updateManager.paintedRegions.size());
+		for (int i = 0; i < updateManager.paintedRegions.size(); ++i) {
+			for (int j = i + 1; j < updateManager.paintedRegions.size(); ++j) {
+				assertFalse(updateManager.paintedRegions.get(i).intersects(updateManager.paintedRegions.get(j)));
+			}
+		}
+		assertEquals(new Rectangle(0, 0, 1000, 1000), notifiedDamage);
+
+		assertThrows(IllegalArgumentException.class, () -> updateManager.setMaxDamageRegions(0));
+	}
+
+	@Test
+	public void testAddInvalidFigure() {
+		List<IFigure> layouts = new ArrayList<>();
+		IFigure parent = new ValidationRoot(layouts);
+		IFigure child = new ValidationRoot(layouts);
+		parent.add(child);
+		root.add(parent);
+		root.validate();
+		layouts.clear();
+
+		child.invalidate();
+		updateManager.addInvalidFigure(child);
+		updateManager.addInvalidFigure(child);
+		parent.invalidate();
+		updateManager.addInvalidFigure(parent);
+		updateManager.addInvalidFigure(child);
+		updateManager.performValidation();
+
+		// The child is validated together with its parent
+		assertEquals(List.of(parent, child), layouts);
+
+		// Figures can be queued again once they have been validated
+		layouts.clear();
+		child.invalidate();
+		updateManager.addInvalidFigure(child);
+		updateManager.performValidation();
+		assertEquals(List.of(child), layouts);
+	}
+
+	@Test
+	public void testAddInvalidFigureWithValidAncestor() {
+		List<IFigure> layouts = new ArrayList<>();
+		IFigure parent = new ValidationRoot(layouts);
+		IFigure child = new ValidationRoot(layouts);
+		parent.add(child);
+		root.add(parent);
+		root.validate();
+		layouts.clear();
+
+		// The parent is queued, but has already been validated otherwise
+		child.invalidate();
+		updateManager.addInvalidFigure(child);
+		updateManager.addInvalidFigure(parent);
+		updateManager.performValidation();
+
+		assertEquals(List.of(child), layouts);
+	}
+
+	/**
+	 * Dirty regions are collected per figure, so each region needs its own figure.
+	 */
+	private void addDirtyChild(Rectangle bounds) {
+		IFigure child = new Figure();
+		child.setBounds(bounds);
+		root.add(child);
+		updateManager.addDirtyRegion(child, bounds);
+	}
+
+	private static class ValidationRoot extends Figure {
+		private final List<IFigure> layouts;
+
+		public ValidationRoot(List<IFigure> layouts) {
+			this.layouts = layouts;
+		}
+
+		@Override
+		public boolean isValidationRoot() {
+			return true;
+		}
+
+		@Override
+		protected void layout() {
+			layouts.add(this);
+		}
+	}
+
+	private static class TestUpdateManager extends DeferredUpdateManager {
+		private final List<Rectangle> paintedRegions = new ArrayList<>();
+
+		@Override
+		protected void sendUpdateRequest() {
+			// updates are performed manually
+		}
+
+		@Override
+		protected Graphics getGraphics(Rectangle region) {
+			paintedRegions.add(region.getCopy());
+			return null;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.draw2d.test;
 
+import org.eclipse.draw2d.graph.test.CrossingCounterTest;
 import org.eclipse.draw2d.graph.test.DirectedGraphLayoutTest;
 
 import org.junit.platform.suite.api.SelectClasses;
@@ -34,6 +35,7 @@ import org.junit.platform.suite.api.Suite;
 	FlowBorderTests.class,
 	GraphicsClipping.class,
 	PaintDamageEraseTest.class,
+	DeferredUpdateManagerTest.class,
 	LayeredPaneTest.class,
 	ConnectionEndPointMoveTest.class,
 	ImageUtilitiesTest.class,
@@ -48,6 +50,10 @@ import org.junit.platform.suite.api.Suite;
 	ThumbnailTest.class,
 	FigurePaintingTest.class,
 	FigureUtilitiesTest.class,
+	FigureSpatialIndexTest.class,
+	FigureImageCacheTest.class,
+	FreeformLayerTest.class,
+	EventListenerListTest.class,
 	RectangleTest.class,
 	ColorConstantTest.class,
 	VectorTest.class,
@@ -59,6 +65,7 @@ import org.junit.platform.suite.api.Suite;
 	ShapeTest.class,
 	InsetsTest.class,
 	DirectedGraphLayoutTest.class,
+	CrossingCounterTest.class,
 	ScrollPaneTests.class
 })
 public class Draw2dTestSuite {
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.draw2d.CoordinateListener;
+import org.eclipse.draw2d.EventListenerList;
+import org.eclipse.draw2d.FigureListener;
+import org.eclipse.draw2d.IFigure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EventListenerListTest {
+
+	private EventListenerList listeners;
+
+	@BeforeEach
+	public void setUp() {
+		listeners = new EventListenerList();
+	}
+
+	private static <T> List<T> toList(Iterable<T> iterable) {
+		List<T> list = new ArrayList<>();
+		iterable.forEach(list::add);
+		return list;
+	}
+
+	@Test
+	public void testListenersOfMultipleTypes() {
+		FigureListener first = source -> {
+		};
+		FigureListener second = source -> {
+		};
+		CoordinateListener coordinateListener = source -> {
+		};
+		assertFalse(listeners.containsListener(FigureListener.class));
+		assertFalse(listeners.getListeners(FigureListener.class).hasNext());
+
+		listeners.addListener(FigureListener.class, first);
+		listeners.addListener(CoordinateListener.class, coordinateListener);
+		listeners.addListener(FigureListener.class, second);
+		assertTrue(listeners.containsListener(FigureListener.class));
+		assertTrue(listeners.containsListener(CoordinateListener.class));
+		assertEquals(List.of(first, second), toList(listeners.getListenersIterable(FigureListener.class)));
+		assertEquals(List.of(coordinateListener), toList(listeners.getListenersIterable(CoordinateListener.class)));
+
+		listeners.removeListener(FigureListener.class, first);
+		assertEquals(List.of(second), toList(listeners.getListenersIterable(FigureListener.class)));
+		listeners.removeListener(CoordinateListener.class, coordinateListener);
+		assertFalse(listeners.containsListener(CoordinateListener.class));
+		listeners.removeListener(FigureListener.class, second);
+		assertFalse(listeners.containsListener(FigureListener.class));
+	}
+
+	@Test
+	public void testRemoveFirstOccurrence() {
+		FigureListener listener = source -> {
+		};
+		FigureListener other = source -> {
+		};
+		listeners.addListener(FigureListener.class, listener);
+		listeners.addListener(FigureListener.class, other);
+		listeners.addListener(FigureListener.class, listener);
+		listeners.removeListener(FigureListener.class, listener);
+		assertEquals(List.of(other, listener), toList(listeners.getListenersIterable(FigureListener.class)));
+	}
+
+	@Test
+	public void testChangesDuringIteration() {
+		List<IFigure> notified = new ArrayList<>();
+		FigureListener second = notified::add;
+		FigureListener third = notified::add;
+		FigureListener first = source -> {
+			listeners.removeListener(FigureListener.class, second);
+			listeners.addListener(FigureListener.class, third);
+		};
+		listeners.addListener(FigureListener.class, first);
+		listeners.addListener(FigureListener.class, second);
+
+		Iterator<FigureListener> iter = listeners.getListeners(FigureListener.class);
+		iter.next().figureMoved(null);
+		assertTrue(iter.hasNext());
+		iter.next().figureMoved(null);
+		assertFalse(iter.hasNext());
+		assertEquals(1, notified.size());
+		assertEquals(2, toList(listeners.getListenersIterable(FigureListener.class)).size());
+	}
+
+}
@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import java.lang.ref.WeakReference;
+
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.draw2d.ColorConstants;
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.FigureImageCache;
+import org.eclipse.draw2d.Graphics;
+import org.eclipse.draw2d.SWTGraphics;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FigureImageCacheTest extends BaseTestCase {
+
+	private static final class CountingFigure extends Figure {
+		private int paintCount;
+
+		@Override
+		protected void paintFigure(Graphics graphics) {
+			paintCount++;
+			graphics.setBackgroundColor(ColorConstants.blue);
+			graphics.fillRectangle(getBounds());
+		}
+	}
+
+	private Image image;
+	private Figure container;
+	private CountingFigure child;
+
+	@BeforeEach
+	public void setUp() {
+		image = new Image(Display.getDefault(), 100, 100);
+		container = new Figure();
+		container.setOpaque(true);
+		container.setBackgroundColor(ColorConstants.red);
+		container.setBounds(new Rectangle(10, 10, 50, 50));
+		child = new CountingFigure();
+		child.setBounds(new Rectangle(20, 20, 10, 10));
+		container.add(child);
+		container.setImageCacheEnabled(true);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		FigureImageCache.clear();
+		FigureImageCache.setMemoryBudget(FigureImageCache.DEFAULT_MEMORY_BUDGET);
+		image.dispose();
+	}
+
+	private void paint(Figure figure) {
+		GC gc = new GC(image);
+		SWTGraphics graphics = new SWTGraphics(gc);
+		try {
+			figure.paint(graphics);
+		} finally {
+			graphics.dispose();
+			gc.dispose();
+		}
+	}
+
+	@Test
+	public void testPaintFromCache() {
+		paint(container);
+		paint(container);
+		assertEquals(1, child.paintCount);
+		assertEquals(4L * 50 * 50, FigureImageCache.getMemoryUsage());
+	}
+
+	@Test
+	public void testRepaintInvalidatesAncestors() {
+		paint(container);
+		child.repaint();
+		paint(container);
+		assertEquals(2, child.paintCount);
+		child.revalidate();
+		paint(container);
+		assertEquals(3, child.paintCount);
+	}
+
+	@Test
+	public void testCachedImageMatchesDirectPainting() {
+		paint(container);
+		paint(container);
+		Image cached = new Image(Display.getDefault(), image.getImageData());
+		try {
+			container.setImageCacheEnabled(false);
+			assertEquals(0, FigureImageCache.getMemoryUsage());
+			paint(container);
+			assertEquals(cached, image);
+		} finally {
+			cached.dispose();
+		}
+	}
+
+	@Test
+	public void testEvictLeastRecentlyUsed() {
+		Figure other = new Figure();
+		other.setOpaque(true);
+		other.setBounds(new Rectangle(0, 0, 50, 50));
+		other.setImageCacheEnabled(true);
+		FigureImageCache.setMemoryBudget(4L * 50 * 50);
+
+		paint(container);
+		paint(other);
+		assertEquals(4L * 50 * 50, FigureImageCache.getMemoryUsage());
+		paint(container);
+		assertEquals(2, child.paintCount);
+	}
+
+	@Test
+	public void testCollectedFigureIsDisposed() {
+		Figure other = new Figure();
+		other.setOpaque(true);
+		other.setBounds(new Rectangle(0, 0, 20, 20));
+		other.setImageCacheEnabled(true);
+		paint(container);
+		paint(other);
+		assertEquals(4L * 50 * 50 + 4L * 20 * 20, FigureImageCache.getMemoryUsage());
+
+		// The cache must not keep the figure alive
+		WeakReference<Figure> ref = new WeakReference<>(other);
+		other = null;
+		for (int i = 0; i < 10 && ref.get() != null; i++) {
+			System.gc();
+		}
+		assertNull(ref.get());
+		paint(container);
+		assertEquals(4L * 50 * 50, FigureImageCache.getMemoryUsage());
+		assertEquals(1, child.paintCount);
+	}
+
+	@Test
+	public void testTransparentFigureIsNotCached() {
+		container.setOpaque(false);
+		paint(container);
+		paint(container);
+		assertEquals(2, child.paintCount);
+		assertEquals(0, FigureImageCache.getMemoryUsage());
+	}
+
+}
@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.draw2d.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.Graphics;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.Layer;
+import org.eclipse.draw2d.MouseListener;
+import org.eclipse.draw2d.SWTGraphics;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FigureSpatialIndexTest {
+
+	private Figure container;
+
+	@BeforeEach
+	public void setUp() {
+		container = new Figure();
+		container.setBounds(new Rectangle(0, 0, 2000, 2000));
+	}
+
+	@Test
+	public void testFindFigureAtMatchesLinearScan() {
+		Random random = new Random(42);
+		container.setSpatialIndexEnabled(true);
+		for (int i = 0; i < 500; ++i) {
+			container.add(createFigure(random));
+		}
+		// Figure spanning many cells
+		IFigure large = new Figure();
+		large.setBounds(new Rectangle(0, 0, 1900, 1900));
+		container.add(large, 250);
+		assertFindFigureAt(random);
+
+		// Move, hide, add at index and remove children
+		for (int i = 0; i < 100; ++i) {
+			IFigure child = container.getChildren().get(random.nextInt(container.getChildren().size()));
+			child.setBounds(createBounds(random));
+		}
+		for (int i = 0; i < 50; ++i) {
+			container.getChildren().get(random.nextInt(container.getChildren().size())).setVisible(false);
+		}
+		for (int i = 0; i < 50; ++i) {
+			container.add(createFigure(random), random.nextInt(container.getChildren().size()));
+		}
+		for (int i = 0; i < 50; ++i) {
+			container.remove(container.getChildren().get(random.nextInt(container.getChildren().size())));
+		}
+		assertFindFigureAt(random);
+	}
+
+	@Test
+	public void testEnableAfterChildrenAdded() {
+		IFigure bottom = new Figure();
+		bottom.setBounds(new Rectangle(10, 10, 100, 100));
+		IFigure top = new Figure();
+		top.setBounds(new Rectangle(50, 50, 100, 100));
+		container.add(bottom);
+		container.add(top);
+
+		container.setSpatialIndexEnabled(true);
+		assertTrue(container.isSpatialIndexEnabled());
+		assertSame(top, container.findFigureAt(75, 75));
+		assertSame(bottom, container.findFigureAt(20, 20));
+		assertSame(container, container.findFigureAt(500, 500));
+
+		// The index must follow the z-order of the children
+		container.remove(bottom);
+		container.add(bottom);
+		assertSame(bottom, container.findFigureAt(75, 75));
+
+		container.setSpatialIndexEnabled(false);
+		assertFalse(container.isSpatialIndexEnabled());
+		assertSame(bottom, container.findFigureAt(75, 75));
+	}
+
+	@Test
+	public void testTransparentLayer() {
+		Layer layer = new Layer();
+		layer.setBounds(new Rectangle(0, 0, 1000, 1000));
+		layer.setSpatialIndexEnabled(true);
+
+		IFigure child = new Figure();
+		child.setBounds(new Rectangle(600, 600, 50, 50));
+		layer.add(child);
+
+		assertNull(layer.findFigureAt(100, 100));
+		assertFalse(layer.containsPoint(100, 100));
+		assertSame(child, layer.findFigureAt(610, 610));
+		assertTrue(layer.containsPoint(610, 610));
+
+		child.setBounds(new Rectangle(90, 90, 50, 50));
+		assertSame(child, layer.findFigureAt(100, 100));
+		assertNull(layer.findFigureAt(610, 610));
+	}
+
+	@Test
+	public void testPaintChildrenMatchesLinearScan() {
+		Random random = new Random(42);
+		List<IFigure> painted = new ArrayList<>();
+		for (int i = 0; i < 500; ++i) {
+			IFigure child = new Figure() {
+				@Override
+				public void paint(Graphics graphics) {
+					painted.add(this);
+				}
+			};
+			child.setBounds(createBounds(random));
+			child.setVisible(random.nextInt(10) != 0);
+			container.add(child, random.nextInt(container.getChildren().size() + 1));
+		}
+
+		Image image = new Image(Display.getDefault(), 2000, 2000);
+		GC gc = new GC(image);
+		SWTGraphics graphics = new SWTGraphics(gc);
+		try {
+			for (int i = 0; i < 50; ++i) {
+				Rectangle clip = new Rectangle(random.nextInt(2000) - 100, random.nextInt(2000) - 100,
+						random.nextInt(800), random.nextInt(800));
+				container.setSpatialIndexEnabled(false);
+				graphics.pushState();
+				graphics.clipRect(clip);
+				container.paint(graphics);
+				graphics.popState();
+				List<IFigure> expected = new ArrayList<>(painted);
+				painted.clear();
+
+				container.setSpatialIndexEnabled(true);
+				graphics.pushState();
+				graphics.clipRect(clip);
+				container.paint(graphics);
+				graphics.popState();
+				assertEquals(expected, painted);
+				painted.clear();
+			}
+		} finally {
+			graphics.dispose();
+			gc.dispose();
+			image.dispose();
+		}
+	}
+
+	/**
+	 * Compares the figures found with the spatial index against the figures found
+	 * by visiting all children.
+	 */
+	private void assertFindFigureAt(Random random) {
+		List<int[]> points = new ArrayList<>();
+		List<IFigure> actual = new ArrayList<>();
+		List<IFigure> actualTargets = new ArrayList<>();
+		for (int i = 0; i < 2000; ++i) {
+			int[] point = { random.nextInt(2100) - 50, random.nextInt(2100) - 50 };
+			points.add(point);
+			actual.add(container.findFigureAt(point[0], point[1]));
+			actualTargets.add(container.findMouseEventTargetAt(point[0], point[1]));
+		}
+
+		container.setSpatialIndexEnabled(false);
+		for (int i = 0; i < points.size(); ++i) {
+			int[] point = points.get(i);
+			assertSame(container.findFigureAt(point[0], point[1]), actual.get(i));
+			assertSame(container.findMouseEventTargetAt(point[0], point[1]), actualTargets.get(i));
+		}
+		container.setSpatialIndexEnabled(true);
+	}
+
+	private static IFigure createFigure(Random random) {
+		IFigure figure = new Figure();
+		figure.setBounds(createBounds(random));
+		if (random.nextBoolean()) {
+			figure.addMouseListener(new MouseListener.Stub());
+		}
+		return figure;
+	}
+
+	private static Rectangle createBounds(Random random) {
+		return new Rectangle(random.nextInt(2000) - 50, random.nextInt(2000) - 50, random.nextInt(300),
+				random.nextInt(300));
+	}
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.FreeformLayer;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FreeformLayerTest {
+
+	private FreeformLayer layer;
+	private int extentChanges;
+
+	@BeforeEach
+	public void setUp() {
+		layer = new FreeformLayer();
+		layer.addFreeformListener(() -> extentChanges++);
+	}
+
+	private Figure addChild(int x, int y, int w, int h) {
+		Figure child = new Figure();
+		child.setBounds(new Rectangle(x, y, w, h));
+		layer.add(child);
+		return child;
+	}
+
+	private Rectangle computeExtent() {
+		Rectangle extent = null;
+		for (IFigure child : layer.getChildren()) {
+			if (extent == null) {
+				extent = child.getBounds().getCopy();
+			} else {
+				extent.union(child.getBounds());
+			}
+		}
+		return extent == null ? new Rectangle() : extent;
+	}
+
+	@Test
+	public void testMoveInsideExtent() {
+		addChild(0, 0, 10, 10);
+		addChild(90, 90, 10, 10);
+		Figure inner = addChild(40, 40, 10, 10);
+		assertEquals(new Rectangle(0, 0, 100, 100), layer.getFreeformExtent());
+
+		extentChanges = 0;
+		inner.setLocation(inner.getLocation().translate(5, 5));
+		inner.setLocation(inner.getLocation().translate(0, 45));
+		assertEquals(0, extentChanges);
+		assertEquals(new Rectangle(0, 0, 100, 100), layer.getFreeformExtent());
+	}
+
+	@Test
+	public void testGrowAndShrink() {
+		addChild(0, 0, 10, 10);
+		Figure outer = addChild(90, 90, 10, 10);
+		layer.getFreeformExtent();
+
+		extentChanges = 0;
+		outer.setLocation(outer.getLocation().translate(50, 0));
+		assertEquals(1, extentChanges);
+		assertEquals(new Rectangle(0, 0, 150, 100), layer.getFreeformExtent());
+
+		outer.setLocation(outer.getLocation().translate(-100, -50));
+		assertEquals(2, extentChanges);
+		assertEquals(new Rectangle(0, 0, 50, 50), layer.getFreeformExtent());
+
+		layer.remove(outer);
+		assertEquals(3, extentChanges);
+		assertEquals(new Rectangle(0, 0, 10, 10), layer.getFreeformExtent());
+	}
+
+	@Test
+	public void testSharedBoundary() {
+		addChild(0, 0, 10, 10);
+		Figure first = addChild(90, 0, 10, 10);
+		Figure second = addChild(90, 50, 10, 10);
+		layer.getFreeformExtent();
+
+		extentChanges = 0;
+		first.setLocation(first.getLocation().translate(-20, 0));
+		assertEquals(0, extentChanges);
+		layer.remove(first);
+		assertEquals(0, extentChanges);
+		second.setLocation(second.getLocation().translate(-20, 0));
+		assertEquals(1, extentChanges);
+		assertEquals(new Rectangle(0, 0, 80, 60), layer.getFreeformExtent());
+	}
+
+	@Test
+	public void testRandomMoves() {
+		Random random = new Random(0);
+		List<Figure> children = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			children.add(addChild(random.nextInt(1000), random.nextInt(1000), 1 + random.nextInt(50),
+					1 + random.nextInt(50)));
+		}
+		for (int i = 0; i < 2000; i++) {
+			Rectangle expected = computeExtent();
+			assertEquals(expected, layer.getFreeformExtent());
+
+			Figure child = children.get(random.nextInt(children.size()));
+			int action = random.nextInt(10);
+			if (action == 0) {
+				layer.remove(child);
+				children.remove(child);
+				children.add(addChild(random.nextInt(1000), random.nextInt(1000), 1 + random.nextInt(50),
+						1 + random.nextInt(50)));
+			} else if (action < 3) {
+				child.setSize(1 + random.nextInt(50), 1 + random.nextInt(50));
+			} else {
+				child.setLocation(child.getLocation().translate(random.nextInt(101) - 50, random.nextInt(101) - 50));
+			}
+
+			if (!computeExtent().equals(expected)) {
+				assertTrue(extentChanges > 0);
+			}
+			extentChanges = 0;
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,9 +12,15 @@
  *******************************************************************************/
 package org.eclipse.draw2d.test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.PointList;
 import org.eclipse.draw2d.geometry.Rectangle;
@@ -678,4 +684,81 @@ public class ShortestPathRoutingTest {
 		doTestTopRightIntersection();
 	}
 
+	@Test
+	public void testUpdateObstacleDirtiesAffectedPaths() {
+		doTestUpdateObstacle(1);
+	}
+
+	@Test
+	public void testUpdateObstacleDirtiesAffectedPathsAfterManyChanges() {
+		doTestUpdateObstacle(20);
+	}
+
+	/**
+	 * Moves an obstacle across the lower of two straight paths, which must only
+	 * dirty the lower path.
+	 */
+	private void doTestUpdateObstacle(int moves) {
+		for (int i = 0; i < 100; i++) {
+			routing.addObstacle(new Rectangle(i % 10 * 150, 100 + i / 10 * 150, 60, 40));
+		}
+		Rectangle obstacle = new Rectangle(1400, 1600, 60, 40);
+		routing.addObstacle(obstacle);
+		Path upper = new Path(new Point(0, 0), new Point(1500, 0));
+		Path lower = new Path(new Point(0, 1700), new Point(1500, 1700));
+		routing.addPath(upper);
+		routing.addPath(lower);
+		routing.solve();
+		assertEquals(2, lower.getPoints().size());
+
+		for (int i = 1; i < moves; i++) {
+			Rectangle newBounds = obstacle.getTranslated(-10, 0);
+			routing.updateObstacle(obstacle, newBounds);
+			obstacle = newBounds;
+		}
+		assertFalse(upper.isDirty);
+		assertFalse(lower.isDirty);
+
+		Rectangle newBounds = new Rectangle(700, 1680, 60, 40);
+		routing.updateObstacle(obstacle, newBounds);
+		assertFalse(upper.isDirty);
+		assertTrue(lower.isDirty);
+
+		routing.solve();
+		assertEquals(2, upper.getPoints().size());
+		assertTrue(lower.getPoints().size() > 2);
+	}
+
+	@Test
+	public void testParallelSolving() {
+		List<Path> sequential = doSetUpRandom(routing);
+		ShortestPathRouter parallelRouting = new ShortestPathRouter();
+		parallelRouting.setParallelSolvingEnabled(true);
+		List<Path> parallel = doSetUpRandom(parallelRouting);
+		routing.solve();
+		parallelRouting.solve();
+		for (int i = 0; i < sequential.size(); i++) {
+			assertArrayEquals(sequential.get(i).getPoints().toIntArray(), parallel.get(i).getPoints().toIntArray());
+		}
+	}
+
+	private static List<Path> doSetUpRandom(ShortestPathRouter router) {
+		Random random = new Random(42);
+		Rectangle[] bounds = new Rectangle[49];
+		for (int i = 0; i < bounds.length; i++) {
+			bounds[i] = new Rectangle(i % 7 * 150 + random.nextInt(40), i / 7 * 150 + random.nextInt(40),
+					40 + random.nextInt(40), 30 + random.nextInt(30));
+			router.addObstacle(bounds[i]);
+		}
+		List<Path> paths = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			Rectangle source = bounds[random.nextInt(bounds.length)];
+			Rectangle target = bounds[random.nextInt(bounds.length)];
+			Path path = new Path(source.getCenter(), target.getCenter());
+			router.addPath(path);
+			paths.add(path);
+		}
+		return paths;
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2010 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,13 +12,19 @@
  *******************************************************************************/
 package org.eclipse.draw2d.test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Map;
+
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Display;
 
 import org.eclipse.draw2d.Ellipse;
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.Graphics;
 import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.RectangleFigure;
 import org.eclipse.draw2d.geometry.Rectangle;
 import org.eclipse.draw2d.parts.Thumbnail;
 
@@ -63,4 +69,66 @@ public class ThumbnailTest {
 		assertTrue(img == null);
 	}
 
+	/**
+	 * Each tile of the thumbnail is rendered by painting the source figure once.
+	 * Only the tiles intersecting the damaged area may be rendered again.
+	 */
+	@Test
+	public void testIncrementalUpdate() {
+		TestThumbnail thumb = new TestThumbnail();
+		int[] renders = new int[1];
+		IFigure fig = new Figure() {
+			@Override
+			public void paint(Graphics graphics) {
+				renders[0]++;
+				super.paint(graphics);
+			}
+		};
+		fig.setBounds(new Rectangle(0, 0, 1024, 1024));
+		fig.setFont(Display.getDefault().getSystemFont());
+		IFigure child1 = new RectangleFigure();
+		child1.setBounds(new Rectangle(10, 10, 20, 20));
+		fig.add(child1);
+		IFigure child2 = new RectangleFigure();
+		child2.setBounds(new Rectangle(900, 520, 20, 20));
+		fig.add(child2);
+		thumb.setSource(fig);
+		thumb.setBounds(new Rectangle(0, 0, 256, 256));
+
+		// The initial update renders all 4x4 tiles
+		thumb.getThumbnailImage();
+		runUpdater();
+		assertEquals(16, renders[0]);
+
+		// Without damage, nothing is rendered again
+		renders[0] = 0;
+		thumb.getThumbnailImage();
+		runUpdater();
+		assertEquals(0, renders[0]);
+
+		// A single edit only renders the tile containing the modified figure
+		thumb.notifyPainting(child1.getBounds(), Map.of(child1, child1.getBounds()));
+		thumb.getThumbnailImage();
+		runUpdater();
+		assertEquals(1, renders[0]);
+
+		renders[0] = 0;
+		thumb.notifyPainting(child1.getBounds(), Map.of(child1, child1.getBounds(), child2, child2.getBounds()));
+		thumb.getThumbnailImage();
+		runUpdater();
+		assertEquals(2, renders[0]);
+
+		// Changes which are not reported as dirty region render all tiles
+		renders[0] = 0;
+		thumb.setDirty(true);
+		thumb.getThumbnailImage();
+		runUpdater();
+		assertEquals(16, renders[0]);
+	}
+
+	private static void runUpdater() {
+		while (Display.getDefault().readAndDispatch()) {
+			// process all pending tiles
+		}
+	}
 }
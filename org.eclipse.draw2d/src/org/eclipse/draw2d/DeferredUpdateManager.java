@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,9 +13,13 @@
 package org.eclipse.draw2d;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
@@ -52,6 +56,7 @@ public class DeferredUpdateManager extends UpdateManager {
 
 	private GraphicsSource graphicsSource;
 	private final List<IFigure> invalidFigures = new ArrayList<>();
+	private final Set<IFigure> queuedFigures = Collections.newSetFromMap(new IdentityHashMap<>());
 	private IFigure root;
 	private boolean updateQueued;
 
@@ -59,6 +64,7 @@ public class DeferredUpdateManager extends UpdateManager {
 	private boolean validating;
 	private RunnableChain afterUpdate;
 	private int refreshRate = -1;
+	private int maxDamageRegions = 1;
 
 	private static class RunnableChain {
 		RunnableChain next;
@@ -128,7 +134,7 @@ public class DeferredUpdateManager extends UpdateManager {
 	 */
 	@Override
 	public synchronized void addInvalidFigure(IFigure f) {
-		if (invalidFigures.contains(f)) {
+		if (!queuedFigures.add(f)) {
 			return;
 		}
 		queueWork();
@@ -209,6 +215,12 @@ public class DeferredUpdateManager extends UpdateManager {
 	}
 
 	/**
+	 * Validates all invalid figures in the order in which they were added. A figure
+	 * with an ancestor which is also waiting for validation is deferred until that
+	 * ancestor has been validated. Validating the ancestor usually validates the
+	 * figure as well, in which case the figure doesn't have to be laid out a second
+	 * time.
+	 *
 	 * @see UpdateManager#performValidation()
 	 */
 	@Override
@@ -220,17 +232,39 @@ public class DeferredUpdateManager extends UpdateManager {
 			IFigure fig;
 			validating = true;
 			fireValidating();
-			for (int i = 0; i < invalidFigures.size(); i++) {
-				fig = invalidFigures.get(i);
-				invalidFigures.set(i, null);
-				fig.validate();
+			List<IFigure> deferredFigures = new ArrayList<>();
+			while (!invalidFigures.isEmpty()) {
+				// Figures may be added while validating
+				for (int i = 0; i < invalidFigures.size(); i++) {
+					fig = invalidFigures.get(i);
+					invalidFigures.set(i, null);
+					if (hasQueuedAncestor(fig)) {
+						deferredFigures.add(fig);
+					} else {
+						queuedFigures.remove(fig);
+						fig.validate();
+					}
+				}
+				invalidFigures.clear();
+				invalidFigures.addAll(deferredFigures);
+				deferredFigures.clear();
 			}
 		} finally {
 			invalidFigures.clear();
+			queuedFigures.clear();
 			validating = false;
 		}
 	}
 
+	private boolean hasQueuedAncestor(IFigure fig) {
+		for (IFigure parent = fig.getParent(); parent != null; parent = parent.getParent()) {
+			if (queuedFigures.contains(parent)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Adds the given exposed region to the update queue and then performs the
 	 * update.
@@ -284,7 +318,11 @@ public class DeferredUpdateManager extends UpdateManager {
 	/**
 	 * Repaints the dirty regions on the update queue and calls
 	 * {@link UpdateManager#firePainting(Rectangle, Map)}, unless there are no dirty
-	 * regions.
+	 * regions. If more than one damage region is allowed, the damaged area is
+	 * painted as a list of disjoint rectangles and
+	 * {@link UpdateManager#firePainting(List, Map)} is called instead.
+	 *
+	 * @see #setMaxDamageRegions(int)
 	 */
 	protected void repairDamage() {
 		// Any regions marked dirty while calculating
@@ -292,6 +330,7 @@ public class DeferredUpdateManager extends UpdateManager {
 		Map<IFigure, Rectangle> oldRegions = dirtyRegions;
 		dirtyRegions = new HashMap<>();
 
+		List<Rectangle> damagedRegions = new ArrayList<>();
 		oldRegions.forEach((figure, contribution) -> {
 			IFigure walker = figure.getParent();
 			// A figure can't paint beyond its own bounds
@@ -301,18 +340,30 @@ public class DeferredUpdateManager extends UpdateManager {
 				contribution.intersect(walker.getBounds());
 				walker = walker.getParent();
 			}
-			if (damage == null) {
-				damage = new Rectangle(contribution);
-			} else {
-				damage.union(contribution);
+			if (maxDamageRegions == 1) {
+				if (damage == null) {
+					damage = new Rectangle(contribution);
+				} else {
+					damage.union(contribution);
+				}
+			} else if (!contribution.isEmpty()) {
+				addDamagedRegion(damagedRegions, new Rectangle(contribution));
 			}
 		});
 
-		if (!oldRegions.isEmpty()) {
-			firePainting(damage, oldRegions);
+		if (maxDamageRegions == 1) {
+			if (!oldRegions.isEmpty()) {
+				firePainting(damage, oldRegions);
+			}
+			if (damage != null && !damage.isEmpty()) {
+				damagedRegions.add(damage);
+			}
+		} else if (!oldRegions.isEmpty()) {
+			firePainting(damagedRegions, oldRegions);
 		}
 
-		if (damage != null && !damage.isEmpty()) {
+		for (Rectangle damagedRegion : damagedRegions) {
+			damage = damagedRegion;
 			Graphics graphics = getGraphics(damage);
 			if (graphics != null) {
 				root.paint(graphics);
@@ -322,6 +373,61 @@ public class DeferredUpdateManager extends UpdateManager {
 		damage = null;
 	}
 
+	/**
+	 * Adds the given rectangle to the list of disjoint damaged regions. Regions
+	 * which overlap are always coalesced. Regions which don't overlap are coalesced
+	 * if their union isn't much larger than the regions themselves, as painting a
+	 * single area is cheaper than painting multiple areas of roughly the same size.
+	 * If the list exceeds the maximum number of regions afterwards, the two regions
+	 * whose union adds the least area are coalesced.
+	 */
+	private void addDamagedRegion(List<Rectangle> damagedRegions, Rectangle region) {
+		boolean coalesced;
+		do {
+			coalesced = false;
+			for (Iterator<Rectangle> iter = damagedRegions.iterator(); iter.hasNext();) {
+				Rectangle other = iter.next();
+				if (region.intersects(other) || getWaste(region, other) <= (area(region) + area(other)) / 2) {
+					region.union(other);
+					iter.remove();
+					coalesced = true;
+				}
+			}
+		} while (coalesced);
+		damagedRegions.add(region);
+
+		if (damagedRegions.size() > maxDamageRegions) {
+			int index1 = 0;
+			int index2 = 1;
+			long minWaste = Long.MAX_VALUE;
+			for (int i = 0; i < damagedRegions.size(); ++i) {
+				for (int j = i + 1; j < damagedRegions.size(); ++j) {
+					long waste = getWaste(damagedRegions.get(i), damagedRegions.get(j));
+					if (waste < minWaste) {
+						minWaste = waste;
+						index1 = i;
+						index2 = j;
+					}
+				}
+			}
+			Rectangle r2 = damagedRegions.remove(index2);
+			Rectangle r1 = damagedRegions.remove(index1);
+			addDamagedRegion(damagedRegions, r1.union(r2));
+		}
+	}
+
+	/**
+	 * Returns the area which is painted unnecessarily, when the two rectangles are
+	 * replaced by their union.
+	 */
+	private static long getWaste(Rectangle r1, Rectangle r2) {
+		return area(r1.getUnion(r2)) - area(r1) - area(r2);
+	}
+
+	private static long area(Rectangle r) {
+		return (long) r.width * r.height;
+	}
+
 	/**
 	 * Adds the given runnable and queues an update if an update is not under
 	 * progress.
@@ -356,6 +462,26 @@ public class DeferredUpdateManager extends UpdateManager {
 		root = figure;
 	}
 
+	/**
+	 * Sets the maximum number of disjoint rectangles the damaged area is split
+	 * into. Each rectangle is painted separately, using its own clip. By default,
+	 * all dirty regions are merged into a single rectangle, which may cover almost
+	 * the entire canvas when two small figures in opposite corners change. Allowing
+	 * multiple rectangles makes the paint cost proportional to the area which has
+	 * actually changed. Listeners are then notified via
+	 * {@link UpdateListener#notifyPainting(List, Map)}.
+	 *
+	 * @param maxDamageRegions the maximum number of damaged regions, must be
+	 *                         positive
+	 * @since 3.20
+	 */
+	public void setMaxDamageRegions(int maxDamageRegions) {
+		if (maxDamageRegions < 1) {
+			throw new IllegalArgumentException("The number of damaged regions must be positive"); //$NON-NLS-1$
+		}
+		this.maxDamageRegions = maxDamageRegions;
+	}
+
 	/**
 	 * Sets the rate with paint requests are executed. If set to either {@code 0} or
 	 * a negative value, requests are executed as fast as possible (default
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,12 +12,10 @@
  *******************************************************************************/
 package org.eclipse.draw2d;
 
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.NoSuchElementException;
 
 /**
  * This class is intended for internal use only. TODO: If this is for internal
@@ -25,7 +23,62 @@ import java.util.concurrent.CopyOnWriteArrayList;
  */
 public final class EventListenerList {
 
-	private final Map<Class<?>, List<Object>> listeners = new HashMap<>();
+	private static final Object[] EMPTY = {};
+
+	/**
+	 * The listeners, stored as pairs of their type followed by the listener
+	 * itself. Most figures have no or only a single listener, for which this
+	 * array is empty or contains a single pair. The array is never modified, but
+	 * replaced whenever a listener is added or removed. Iterating over the
+	 * listeners therefore doesn't require a lock and isn't affected by listeners
+	 * which are added or removed while the iteration is in progress.
+	 */
+	private volatile Object[] listeners = EMPTY;
+
+	/**
+	 * Iterates over all listeners of a single type within a snapshot of the
+	 * listener array.
+	 */
+	private static final class ListenerIterator<T> implements Iterator<T> {
+		private final Object[] snapshot;
+		private final Class<T> type;
+		private int next;
+
+		private ListenerIterator(Object[] snapshot, Class<T> type, int first) {
+			this.snapshot = snapshot;
+			this.type = type;
+			this.next = first;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next != -1;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T next() {
+			if (next == -1) {
+				throw new NoSuchElementException();
+			}
+			T listener = (T) snapshot[next + 1];
+			next = indexOf(snapshot, type, next + 2);
+			return listener;
+		}
+	}
+
+	/**
+	 * Returns the index of the first listener of type <i>c</i> at or after the
+	 * given index, or <code>-1</code> if there is none.
+	 */
+	private static int indexOf(Object[] snapshot, Class<?> c, int start) {
+		for (int i = start; i < snapshot.length; i += 2) {
+			if (snapshot[i] == c) {
+				return i;
+			}
+		}
+		return -1;
+	}
 
 	/**
 	 * Adds a listener of type <i>c</i> to the list.
@@ -38,7 +91,11 @@ public final class EventListenerList {
 			throw new IllegalArgumentException();
 		}
 
-		listeners.computeIfAbsent(c, newC -> new CopyOnWriteArrayList<>()).add(listener);
+		Object[] snapshot = listeners;
+		Object[] newListeners = Arrays.copyOf(snapshot, snapshot.length + 2);
+		newListeners[snapshot.length] = c;
+		newListeners[snapshot.length + 1] = listener;
+		listeners = newListeners;
 	}
 
 	/**
@@ -48,8 +105,8 @@ public final class EventListenerList {
 	 * @param c the type
 	 * @return whether this list contains a listener of type <i>c</i>
 	 */
-	public synchronized <T> boolean containsListener(Class<T> c) {
-		return listeners.containsKey(c);
+	public <T> boolean containsListener(Class<T> c) {
+		return indexOf(listeners, c, 0) != -1;
 	}
 
 	/**
@@ -58,9 +115,13 @@ public final class EventListenerList {
 	 * @param listenerType the type
 	 * @return an Iterator of all the listeners of type <i>c</i>
 	 */
-	@SuppressWarnings("unchecked")
-	public synchronized <T> Iterator<T> getListeners(final Class<T> listenerType) {
-		return (Iterator<T>) listeners.getOrDefault(listenerType, Collections.emptyList()).iterator();
+	public <T> Iterator<T> getListeners(final Class<T> listenerType) {
+		Object[] snapshot = listeners;
+		int first = indexOf(snapshot, listenerType, 0);
+		if (first == -1) {
+			return Collections.emptyIterator();
+		}
+		return new ListenerIterator<>(snapshot, listenerType, first);
 	}
 
 	/**
@@ -70,9 +131,13 @@ public final class EventListenerList {
 	 * @return an Iterable of all the listeners of type <i>c</i>
 	 * @since 3.13
 	 */
-	@SuppressWarnings("unchecked")
-	public synchronized <T> Iterable<T> getListenersIterable(final Class<T> listenerType) {
-		return (Iterable<T>) listeners.getOrDefault(listenerType, Collections.emptyList());
+	public <T> Iterable<T> getListenersIterable(final Class<T> listenerType) {
+		Object[] snapshot = listeners;
+		int first = indexOf(snapshot, listenerType, 0);
+		if (first == -1) {
+			return Collections.emptyList();
+		}
+		return () -> new ListenerIterator<>(snapshot, listenerType, first);
 	}
 
 	/**
@@ -86,11 +151,18 @@ public final class EventListenerList {
 			throw new IllegalArgumentException();
 		}
 
-		List<Object> specListeners = listeners.get(c);
-		if (specListeners != null) {
-			specListeners.remove(listener);
-			if (specListeners.isEmpty()) {
-				listeners.remove(c);
+		Object[] snapshot = listeners;
+		for (int i = indexOf(snapshot, c, 0); i != -1; i = indexOf(snapshot, c, i + 2)) {
+			if (listener.equals(snapshot[i + 1])) {
+				if (snapshot.length == 2) {
+					listeners = EMPTY;
+				} else {
+					Object[] newListeners = new Object[snapshot.length - 2];
+					System.arraycopy(snapshot, 0, newListeners, 0, i);
+					System.arraycopy(snapshot, i + 2, newListeners, i, snapshot.length - i - 2);
+					listeners = newListeners;
+				}
+				return;
 			}
 		}
 	}
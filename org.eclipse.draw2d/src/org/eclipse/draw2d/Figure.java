@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -52,6 +52,7 @@ public class Figure implements IFigure {
 	private static final int FLAG_FOCUS_TRAVERSABLE = 1 << 5;
 
 	static final int FLAG_REALIZED = 1 << 31;
+	static final int FLAG_IMAGE_CACHED = 1 << 30;
 
 	/**
 	 * The largest flag defined in this class. If subclasses define flags, they
@@ -131,6 +132,8 @@ public class Figure implements IFigure {
 
 	private AncestorHelper ancestorHelper;
 
+	private FigureSpatialIndex spatialIndex;
+
 	/**
 	 * Calls {@link #add(IFigure, Object, int)} with -1 as the index.
 	 *
@@ -172,6 +175,10 @@ public class Figure implements IFigure {
 		}
 		figure.setParent(this);
 
+		if (spatialIndex != null) {
+			spatialIndex.add(figure, index);
+		}
+
 		if (layoutManager != null) {
 			layoutManager.setConstraint(figure, constraint);
 		}
@@ -389,7 +396,7 @@ public class Figure implements IFigure {
 		x = PRIVATE_POINT.x;
 		y = PRIVATE_POINT.y;
 
-		for (IFigure fig : getChildrenRevIterable()) {
+		for (IFigure fig : getChildrenRevIterable(x, y)) {
 			if (fig.isVisible()) {
 				fig = fig.findFigureAt(x, y, search);
 				if (fig != null) {
@@ -495,7 +502,7 @@ public class Figure implements IFigure {
 			return null;
 		}
 
-		for (IFigure fig : getChildrenRevIterable()) {
+		for (IFigure fig : getChildrenRevIterable(x, y)) {
 			if (fig.isVisible() && fig.isEnabled() && fig.containsPoint(x, y)) {
 				fig = fig.findMouseEventTargetAt(x, y);
 				if (fig != null) {
@@ -652,6 +659,21 @@ public class Figure implements IFigure {
 		return () -> new ReverseFigureChildrenIterator(Figure.this);
 	}
 
+	/**
+	 * Returns the children which may contain the given point, in reverse order.
+	 * Without a spatial index, this is the same as
+	 * {@link #getChildrenRevIterable()}.
+	 *
+	 * @param x the x coordinate, relative to the children
+	 * @param y the y coordinate, relative to the children
+	 */
+	Iterable<IFigure> getChildrenRevIterable(int x, int y) {
+		if (spatialIndex == null) {
+			return getChildrenRevIterable();
+		}
+		return spatialIndex.findChildrenAt(x, y);
+	}
+
 	/**
 	 * @see IFigure#getClientArea(Rectangle)
 	 */
@@ -1099,6 +1121,9 @@ public class Figure implements IFigure {
 		if (layoutManager != null) {
 			layoutManager.invalidate();
 		}
+		if (getFlag(FLAG_IMAGE_CACHED)) {
+			FigureImageCache.invalidateImage(this);
+		}
 		setValid(false);
 	}
 
@@ -1183,6 +1208,29 @@ public class Figure implements IFigure {
 		return isVisible() && (getParent() == null || getParent().isShowing());
 	}
 
+	/**
+	 * Returns <code>true</code> if this figure is painted from an offscreen image.
+	 *
+	 * @return <code>true</code> if the image cache is enabled
+	 * @see #setImageCacheEnabled(boolean)
+	 * @since 3.20
+	 */
+	public boolean isImageCacheEnabled() {
+		return getFlag(FLAG_IMAGE_CACHED);
+	}
+
+	/**
+	 * Returns <code>true</code> if the bounds of this figure's children are kept
+	 * in a spatial index.
+	 *
+	 * @return <code>true</code> if the spatial index is enabled
+	 * @see #setSpatialIndexEnabled(boolean)
+	 * @since 3.20
+	 */
+	public boolean isSpatialIndexEnabled() {
+		return spatialIndex != null;
+	}
+
 	/**
 	 * Returns <code>true</code> if this Figure is valid.
 	 *
@@ -1226,12 +1274,14 @@ public class Figure implements IFigure {
 	}
 
 	/**
-	 * Paints this Figure and its children.
+	 * Paints this Figure and its children. If the image cache is enabled, the
+	 * cached image of this Figure is painted instead.
 	 *
 	 * @param graphics The Graphics object used for painting
 	 * @see #paintFigure(Graphics)
 	 * @see #paintClientArea(Graphics)
 	 * @see #paintBorder(Graphics)
+	 * @see #setImageCacheEnabled(boolean)
 	 */
 	@Override
 	public void paint(Graphics graphics) {
@@ -1245,6 +1295,17 @@ public class Figure implements IFigure {
 			graphics.setFont(getLocalFont());
 		}
 
+		if (getFlag(FLAG_IMAGE_CACHED) && FigureImageCache.paint(this, graphics)) {
+			return;
+		}
+		paintContents(graphics);
+	}
+
+	/**
+	 * Paints the figure, its client area and its border onto the given graphics,
+	 * which already holds the colors and font of this Figure.
+	 */
+	void paintContents(Graphics graphics) {
 		graphics.pushState();
 		try {
 			paintFigure(graphics);
@@ -1281,28 +1342,39 @@ public class Figure implements IFigure {
 	 * @since 2.0
 	 */
 	protected void paintChildren(Graphics graphics) {
-		for (IFigure child : children) {
+		Rectangle clip = graphics.getClip(new Rectangle());
+		List<? extends IFigure> candidates = children;
+		if (spatialIndex != null && clippingStrategy == null) {
+			// only the children intersecting the clip need to be painted
+			candidates = spatialIndex.findChildrenIntersecting(clip);
+		}
+		for (IFigure child : candidates) {
 			if (child.isVisible()) {
-				// determine clipping areas for child
-				Rectangle[] clipping = null;
 				if (clippingStrategy != null) {
-					clipping = clippingStrategy.getClip(child);
+					// determine clipping areas for child
+					for (Rectangle element : clippingStrategy.getClip(child)) {
+						paintChild(graphics, child, element, clip);
+					}
 				} else {
 					// default clipping behaviour is to clip at bounds
-					clipping = new Rectangle[] { child.getBounds() };
-				}
-				// child may now paint inside the clipping areas
-				for (Rectangle element : clipping) {
-					if (element.intersects(graphics.getClip(Rectangle.SINGLETON))) {
-						graphics.clipRect(element);
-						child.paint(graphics);
-						graphics.restoreState();
-					}
+					paintChild(graphics, child, child.getBounds(), clip);
 				}
 			}
 		}
 	}
 
+	/**
+	 * Paints the given child inside the given clipping area, if it intersects the
+	 * clip of the graphics.
+	 */
+	private static void paintChild(Graphics graphics, IFigure child, Rectangle clipping, Rectangle clip) {
+		if (clipping.intersects(clip)) {
+			graphics.clipRect(clipping);
+			child.paint(graphics);
+			graphics.restoreState();
+		}
+	}
+
 	/**
 	 * Paints this Figure's client area. The client area is typically defined as the
 	 * anything inside the Figure's {@link Border} or {@link Insets}, and by default
@@ -1408,6 +1480,9 @@ public class Figure implements IFigure {
 		figure.erase();
 		figure.setParent(null);
 		children.remove(figure);
+		if (spatialIndex != null) {
+			spatialIndex.remove(figure);
+		}
 		revalidate();
 	}
 
@@ -1529,6 +1604,9 @@ public class Figure implements IFigure {
 		if (internalGetEventDispatcher() != null) {
 			internalGetEventDispatcher().requestRemoveFocus(this);
 		}
+		if (getFlag(FLAG_IMAGE_CACHED)) {
+			FigureImageCache.discard(this);
+		}
 		setFlag(FLAG_REALIZED, false);
 	}
 
@@ -1568,6 +1646,7 @@ public class Figure implements IFigure {
 	@Override
 	public void repaint(int x, int y, int w, int h) {
 		if (isVisible()) {
+			FigureImageCache.invalidate(this);
 			getUpdateManager().addDirtyRegion(this, x, y, w, h);
 		}
 	}
@@ -1846,6 +1925,34 @@ public class Figure implements IFigure {
 		repaint();
 	}
 
+	/**
+	 * Enables or disables the image cache of this figure. When enabled, this
+	 * figure and all of its descendants are rendered once into an offscreen image
+	 * at the current zoom level, which is then copied whenever this figure is
+	 * painted. The image is rendered again after this figure or any of its
+	 * descendants has been repainted or revalidated. This is intended for complex
+	 * subtrees which rarely change, but are frequently painted, e.g. while
+	 * scrolling.
+	 * <p>
+	 * Only {@link #isOpaque() opaque} figures are cached, as the image has no
+	 * alpha channel. All images share the memory budget of the
+	 * {@link FigureImageCache}. Subclasses which override {@link #paint(Graphics)}
+	 * without calling the super implementation are never cached.
+	 *
+	 * @param enabled <code>true</code> to enable the image cache
+	 * @since 3.20
+	 */
+	public void setImageCacheEnabled(boolean enabled) {
+		if (enabled == isImageCacheEnabled()) {
+			return;
+		}
+		if (!enabled) {
+			FigureImageCache.discard(this);
+		}
+		setFlag(FLAG_IMAGE_CACHED, enabled);
+		repaint();
+	}
+
 	/**
 	 * @see IFigure#setLayoutManager(LayoutManager)
 	 */
@@ -1953,6 +2060,36 @@ public class Figure implements IFigure {
 		setFlag(FLAG_FOCUSABLE, requestFocusEnabled);
 	}
 
+	/**
+	 * Enables or disables the spatial index over the bounds of this figure's
+	 * children. When enabled, {@link #findFigureAt(int, int, TreeSearch)} and
+	 * {@link #findMouseEventTargetAt(int, int)} only visit the children whose
+	 * bounds contain the requested location, instead of all children. Unless a
+	 * {@link #setClippingStrategy(IClippingStrategy) clipping strategy} is set,
+	 * {@link #paintChildren(Graphics)} only visits the children intersecting the
+	 * clip of the graphics. This is intended for containers with a large number
+	 * of children, such as the primary layer of a diagram.
+	 * <p>
+	 * The index is updated whenever a child is added, removed or moved. Children
+	 * must therefore only contain points within their bounds, unless they are
+	 * {@link Connection connections} or other {@link AbstractPointListShape point
+	 * list shapes}, which are always visited.
+	 *
+	 * @param enabled <code>true</code> to enable the spatial index
+	 * @since 3.20
+	 */
+	public void setSpatialIndexEnabled(boolean enabled) {
+		if (enabled == isSpatialIndexEnabled()) {
+			return;
+		}
+		if (enabled) {
+			spatialIndex = new FigureSpatialIndex(this);
+		} else {
+			spatialIndex.dispose();
+			spatialIndex = null;
+		}
+	}
+
 	/**
 	 * @see IFigure#setSize(Dimension)
 	 */
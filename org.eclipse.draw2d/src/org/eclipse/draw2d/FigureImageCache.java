@@ -0,0 +1,311 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * Holds the offscreen images of all figures for which the image cache is
+ * {@link Figure#setImageCacheEnabled(boolean) enabled}. The image of a figure
+ * contains the figure, its border and all of its descendants, rendered at the
+ * absolute scale of the {@link Graphics} the figure is painted on. As long as
+ * neither the figure nor any of its descendants is repainted or revalidated,
+ * painting the figure only copies its image.
+ * <p>
+ * All images share a global memory budget. If the budget is exceeded, the
+ * images of the least recently used figures are disposed. Figures whose
+ * image alone would exceed the budget are painted directly.
+ * <p>
+ * The cache doesn't keep the figures alive. The image of a figure which is no
+ * longer referenced is disposed the next time the cache is accessed. All images
+ * of a display are disposed together with the display.
+ * <p>
+ * This class must only be accessed from the UI thread.
+ *
+ * @since 3.20
+ */
+public final class FigureImageCache {
+
+	/**
+	 * The default memory budget of 64 MB.
+	 */
+	public static final long DEFAULT_MEMORY_BUDGET = 64L * 1024 * 1024;
+
+	private static final class Entry extends WeakReference<Figure> {
+		private final Image image;
+		private final int width;
+		private final int height;
+		private double scale;
+		private boolean valid;
+		private boolean rendering;
+
+		private Entry(Figure figure, Image image, int width, int height) {
+			super(figure, QUEUE);
+			this.image = image;
+			this.width = width;
+			this.height = height;
+		}
+
+		private long getSize() {
+			return 4L * width * height;
+		}
+	}
+
+	/** The entries of the figures, which are only weakly referenced */
+	private static final Map<Figure, Entry> ENTRIES = new WeakHashMap<>();
+	/** The entries in the order in which they have been accessed */
+	private static final Set<Entry> RECENTLY_USED = Collections.newSetFromMap(new LinkedHashMap<>(16, 0.75f, true));
+	/** The entries whose figures have been garbage collected */
+	private static final ReferenceQueue<Figure> QUEUE = new ReferenceQueue<>();
+	/** The displays on which the images are disposed together with the display */
+	private static final Set<Display> DISPLAYS = new HashSet<>();
+	private static long memoryBudget = DEFAULT_MEMORY_BUDGET;
+	private static long memoryUsage;
+
+	private FigureImageCache() {
+		// this class is not intended to be instantiated
+	}
+
+	/**
+	 * Returns the maximum number of bytes occupied by all cached images.
+	 *
+	 * @return the memory budget in bytes
+	 */
+	public static long getMemoryBudget() {
+		return memoryBudget;
+	}
+
+	/**
+	 * Sets the maximum number of bytes occupied by all cached images. Images are
+	 * disposed until the new budget is met.
+	 *
+	 * @param budget the memory budget in bytes
+	 * @throws IllegalArgumentException if the budget is negative
+	 */
+	public static void setMemoryBudget(long budget) {
+		if (budget < 0) {
+			throw new IllegalArgumentException("Memory budget must not be negative"); //$NON-NLS-1$
+		}
+		memoryBudget = budget;
+		expunge();
+		evict(null);
+	}
+
+	/**
+	 * Returns the number of bytes currently occupied by all cached images.
+	 *
+	 * @return the memory usage in bytes
+	 */
+	public static long getMemoryUsage() {
+		return memoryUsage;
+	}
+
+	/**
+	 * Disposes all cached images.
+	 */
+	public static void clear() {
+		expunge();
+		Iterator<Entry> iter = RECENTLY_USED.iterator();
+		while (iter.hasNext()) {
+			Entry entry = iter.next();
+			if (!entry.rendering) {
+				iter.remove();
+				ENTRIES.remove(entry.get());
+				dispose(entry);
+			}
+		}
+	}
+
+	/**
+	 * Paints the given figure by copying its cached image, which is rendered
+	 * first, if it doesn't exist or is out of date. Returns <code>false</code> if
+	 * the figure can't be cached and has to be painted directly, because it is
+	 * transparent, empty or too large for the memory budget.
+	 */
+	static boolean paint(Figure figure, Graphics graphics) {
+		Display display = Display.getCurrent();
+		Rectangle bounds = figure.getBounds();
+		double scale = graphics.getAbsoluteScale();
+		int width = (int) Math.ceil(bounds.width * scale);
+		int height = (int) Math.ceil(bounds.height * scale);
+		// The image has no alpha channel, which is why only opaque figures can
+		// be cached
+		if (display == null || !figure.isOpaque() || width <= 0 || height <= 0
+				|| 4L * width * height > memoryBudget) {
+			discard(figure);
+			return false;
+		}
+
+		expunge();
+		Entry entry = ENTRIES.get(figure);
+		if (entry == null || entry.width != width || entry.height != height) {
+			discard(figure);
+			if (DISPLAYS.add(display)) {
+				display.disposeExec(() -> disposeAll(display));
+			}
+			entry = new Entry(figure, new Image(display, width, height), width, height);
+			ENTRIES.put(figure, entry);
+			memoryUsage += entry.getSize();
+		}
+		// Moves the entry to the end of the access order
+		RECENTLY_USED.add(entry);
+		evict(entry);
+		if (!entry.valid || entry.scale != scale) {
+			render(figure, graphics, entry, scale);
+		}
+		graphics.drawImage(entry.image, 0, 0, width, height, bounds.x, bounds.y, bounds.width, bounds.height);
+		return true;
+	}
+
+	private static void render(Figure figure, Graphics graphics, Entry entry, double scale) {
+		Rectangle bounds = figure.getBounds();
+		GC gc = new GC(entry.image);
+		SWTGraphics swtGraphics = new SWTGraphics(gc);
+		ScaledGraphics scaledGraphics = null;
+		Graphics g = swtGraphics;
+		if (scale != 1.0) {
+			scaledGraphics = new ScaledGraphics(swtGraphics);
+			scaledGraphics.scale(scale);
+			g = scaledGraphics;
+		}
+		// Repaints issued while painting leave the image out of date
+		entry.valid = true;
+		entry.scale = scale;
+		entry.rendering = true;
+		boolean completed = false;
+		try {
+			// Inherit the state which is otherwise passed down from the parent
+			g.setForegroundColor(graphics.getForegroundColor());
+			g.setBackgroundColor(graphics.getBackgroundColor());
+			g.setFont(graphics.getFont());
+			if (graphics.getAntialias() != SWT.DEFAULT) {
+				g.setAntialias(graphics.getAntialias());
+			}
+			if (graphics.getTextAntialias() != SWT.DEFAULT) {
+				g.setTextAntialias(graphics.getTextAntialias());
+			}
+			g.translate(-bounds.x, -bounds.y);
+			figure.paintContents(g);
+			completed = true;
+		} finally {
+			entry.valid &= completed;
+			entry.rendering = false;
+			if (scaledGraphics != null) {
+				scaledGraphics.dispose();
+			}
+			swtGraphics.dispose();
+			gc.dispose();
+		}
+	}
+
+	/**
+	 * Marks the images of the given figure and all of its ancestors as out of
+	 * date, which is the case whenever a part of the figure is repainted.
+	 */
+	static void invalidate(IFigure figure) {
+		if (ENTRIES.isEmpty()) {
+			return;
+		}
+		for (IFigure f = figure; f != null; f = f.getParent()) {
+			if (f instanceof Figure fig && fig.isImageCacheEnabled()) {
+				invalidateImage(fig);
+			}
+		}
+	}
+
+	/**
+	 * Marks the image of only the given figure as out of date.
+	 */
+	static void invalidateImage(Figure figure) {
+		Entry entry = ENTRIES.get(figure);
+		if (entry != null) {
+			entry.valid = false;
+		}
+	}
+
+	/**
+	 * Disposes the image of the given figure, if it exists.
+	 */
+	static void discard(Figure figure) {
+		Entry entry = ENTRIES.get(figure);
+		if (entry != null && !entry.rendering) {
+			ENTRIES.remove(figure);
+			RECENTLY_USED.remove(entry);
+			dispose(entry);
+		}
+	}
+
+	private static void evict(Entry keep) {
+		Iterator<Entry> iter = RECENTLY_USED.iterator();
+		while (memoryUsage > memoryBudget && iter.hasNext()) {
+			Entry entry = iter.next();
+			// Images which are currently rendered are still in use
+			if (entry != keep && !entry.rendering) {
+				iter.remove();
+				ENTRIES.remove(entry.get());
+				dispose(entry);
+			}
+		}
+	}
+
+	/**
+	 * Disposes the images of all figures which have been garbage collected.
+	 */
+	private static void expunge() {
+		for (Reference<? extends Figure> ref; (ref = QUEUE.poll()) != null;) {
+			Entry entry = (Entry) ref;
+			if (RECENTLY_USED.remove(entry)) {
+				dispose(entry);
+			}
+		}
+	}
+
+	/**
+	 * Disposes the images which have been created on the given display, which is
+	 * being disposed.
+	 */
+	private static void disposeAll(Display display) {
+		DISPLAYS.remove(display);
+		Iterator<Entry> iter = RECENTLY_USED.iterator();
+		while (iter.hasNext()) {
+			Entry entry = iter.next();
+			if (entry.image.getDevice() == display) {
+				iter.remove();
+				ENTRIES.remove(entry.get());
+				dispose(entry);
+			}
+		}
+	}
+
+	private static void dispose(Entry entry) {
+		memoryUsage -= entry.getSize();
+		entry.image.dispose();
+	}
+
+}
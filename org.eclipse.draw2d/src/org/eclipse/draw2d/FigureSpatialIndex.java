@@ -0,0 +1,273 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * A uniform grid over the bounds of the children of a single figure. The index
+ * is kept current by listening to the children's {@link FigureListener}
+ * notifications and is used to restrict the children which have to be visited
+ * when searching for a figure at a given location or when painting the children
+ * within the clip of the graphics.
+ * <p>
+ * Children whose bounds may change without a notification being fired (i.e.
+ * {@link Connection connections} and other {@link AbstractPointListShape point
+ * list shapes}) as well as children spanning a large number of cells are not
+ * put into the grid. Instead they are always considered as candidates.
+ * <p>
+ * The candidates returned by this index are ordered the same way as the
+ * children of the host figure, so that a search over the candidates yields the
+ * same result as a search over all children.
+ */
+class FigureSpatialIndex implements FigureListener {
+
+	private static final int CELL_SIZE = 256;
+	private static final int MAX_CELLS_PER_CHILD = 64;
+
+	private static final class Entry {
+		private final IFigure figure;
+		private final Rectangle bounds = new Rectangle();
+		private int order;
+		private int visited;
+		private boolean gridded;
+
+		private Entry(IFigure figure) {
+			this.figure = figure;
+		}
+	}
+
+	private final IFigure host;
+	private final Map<IFigure, Entry> entries = new IdentityHashMap<>();
+	private final Map<Long, List<Entry>> cells = new HashMap<>();
+	private final List<Entry> unindexed = new ArrayList<>();
+	private int nextOrder;
+	private boolean orderValid = true;
+	private int visitCount;
+
+	FigureSpatialIndex(IFigure host) {
+		this.host = host;
+		host.getChildren().forEach(child -> add(child, -1));
+	}
+
+	/**
+	 * Adds the given child to this index. The index is the position of the child
+	 * within its parent, or <code>-1</code> if it has been appended.
+	 *
+	 * @param child the new child
+	 * @param index the position of the child
+	 */
+	void add(IFigure child, int index) {
+		Entry entry = new Entry(child);
+		if (index == -1 || index == host.getChildren().size() - 1) {
+			entry.order = nextOrder++;
+		} else {
+			orderValid = false;
+		}
+		entries.put(child, entry);
+		insert(entry);
+		child.addFigureListener(this);
+	}
+
+	/**
+	 * Removes the given child from this index. Removing a child doesn't change the
+	 * relative order of the remaining children.
+	 *
+	 * @param child the removed child
+	 */
+	void remove(IFigure child) {
+		Entry entry = entries.remove(child);
+		if (entry != null) {
+			child.removeFigureListener(this);
+			delete(entry);
+		}
+	}
+
+	/**
+	 * Unhooks this index from all children.
+	 */
+	void dispose() {
+		entries.keySet().forEach(child -> child.removeFigureListener(this));
+		entries.clear();
+		cells.clear();
+		unindexed.clear();
+	}
+
+	/**
+	 * Returns all children which may contain the given point, in reverse z-order.
+	 * The point is expressed in the coordinate system of the children.
+	 *
+	 * @param x the x coordinate
+	 * @param y the y coordinate
+	 * @return the candidates, topmost child first
+	 */
+	List<IFigure> findChildrenAt(int x, int y) {
+		List<Entry> cell = cells.getOrDefault(key(Math.floorDiv(x, CELL_SIZE), Math.floorDiv(y, CELL_SIZE)),
+				Collections.emptyList());
+		List<Entry> candidates = new ArrayList<>(cell.size() + unindexed.size());
+		for (Entry entry : cell) {
+			if (entry.bounds.contains(x, y)) {
+				candidates.add(entry);
+			}
+		}
+		candidates.addAll(unindexed);
+		return toFigures(candidates, true);
+	}
+
+	/**
+	 * Returns all children which may intersect the given rectangle, in z-order.
+	 * The rectangle is expressed in the coordinate system of the children.
+	 *
+	 * @param rect the rectangle
+	 * @return the candidates, bottommost child first
+	 */
+	List<IFigure> findChildrenIntersecting(Rectangle rect) {
+		List<Entry> candidates = new ArrayList<>();
+		if (!rect.isEmpty()) {
+			int x1 = Math.floorDiv(rect.x, CELL_SIZE);
+			int y1 = Math.floorDiv(rect.y, CELL_SIZE);
+			int x2 = Math.floorDiv(rect.x + rect.width - 1, CELL_SIZE);
+			int y2 = Math.floorDiv(rect.y + rect.height - 1, CELL_SIZE);
+			// Children spanning multiple cells are only collected once
+			visitCount++;
+			if ((long) (x2 - x1 + 1) * (y2 - y1 + 1) <= cells.size()) {
+				for (int cx = x1; cx <= x2; cx++) {
+					for (int cy = y1; cy <= y2; cy++) {
+						List<Entry> cell = cells.get(key(cx, cy));
+						if (cell != null) {
+							collect(cell, rect, candidates);
+						}
+					}
+				}
+			} else {
+				// The rectangle covers more cells than are occupied
+				cells.values().forEach(cell -> collect(cell, rect, candidates));
+			}
+		}
+		candidates.addAll(unindexed);
+		return toFigures(candidates, false);
+	}
+
+	private void collect(List<Entry> cell, Rectangle rect, List<Entry> candidates) {
+		for (Entry entry : cell) {
+			if (entry.visited != visitCount) {
+				entry.visited = visitCount;
+				if (entry.bounds.intersects(rect)) {
+					candidates.add(entry);
+				}
+			}
+		}
+	}
+
+	@Override
+	public void figureMoved(IFigure source) {
+		Entry entry = entries.get(source);
+		if (entry == null || isVolatile(source) || entry.bounds.equals(source.getBounds())) {
+			return;
+		}
+		delete(entry);
+		insert(entry);
+	}
+
+	private List<IFigure> toFigures(List<Entry> candidates, boolean topmostFirst) {
+		if (candidates.isEmpty()) {
+			return Collections.emptyList();
+		}
+		if (!orderValid) {
+			updateOrder();
+		}
+		if (topmostFirst) {
+			candidates.sort((e1, e2) -> Integer.compare(e2.order, e1.order));
+		} else {
+			candidates.sort((e1, e2) -> Integer.compare(e1.order, e2.order));
+		}
+		List<IFigure> figures = new ArrayList<>(candidates.size());
+		candidates.forEach(entry -> figures.add(entry.figure));
+		return figures;
+	}
+
+	private void updateOrder() {
+		nextOrder = 0;
+		for (IFigure child : host.getChildren()) {
+			Entry entry = entries.get(child);
+			if (entry != null) {
+				entry.order = nextOrder++;
+			}
+		}
+		orderValid = true;
+	}
+
+	private void insert(Entry entry) {
+		if (isVolatile(entry.figure)) {
+			entry.gridded = false;
+			unindexed.add(entry);
+			return;
+		}
+		Rectangle r = entry.bounds.setBounds(entry.figure.getBounds());
+		int x1 = Math.floorDiv(r.x, CELL_SIZE);
+		int y1 = Math.floorDiv(r.y, CELL_SIZE);
+		int x2 = Math.floorDiv(r.x + Math.max(r.width, 1) - 1, CELL_SIZE);
+		int y2 = Math.floorDiv(r.y + Math.max(r.height, 1) - 1, CELL_SIZE);
+		if ((long) (x2 - x1 + 1) * (y2 - y1 + 1) > MAX_CELLS_PER_CHILD) {
+			entry.gridded = false;
+			unindexed.add(entry);
+			return;
+		}
+		entry.gridded = true;
+		for (int cx = x1; cx <= x2; cx++) {
+			for (int cy = y1; cy <= y2; cy++) {
+				cells.computeIfAbsent(key(cx, cy), k -> new ArrayList<>(4)).add(entry);
+			}
+		}
+	}
+
+	private void delete(Entry entry) {
+		if (!entry.gridded) {
+			unindexed.remove(entry);
+			return;
+		}
+		Rectangle r = entry.bounds;
+		int x1 = Math.floorDiv(r.x, CELL_SIZE);
+		int y1 = Math.floorDiv(r.y, CELL_SIZE);
+		int x2 = Math.floorDiv(r.x + Math.max(r.width, 1) - 1, CELL_SIZE);
+		int y2 = Math.floorDiv(r.y + Math.max(r.height, 1) - 1, CELL_SIZE);
+		for (int cx = x1; cx <= x2; cx++) {
+			for (int cy = y1; cy <= y2; cy++) {
+				Long key = key(cx, cy);
+				List<Entry> cell = cells.get(key);
+				if (cell != null) {
+					cell.remove(entry);
+					if (cell.isEmpty()) {
+						cells.remove(key);
+					}
+				}
+			}
+		}
+	}
+
+	private static boolean isVolatile(IFigure child) {
+		return child instanceof Connection || child instanceof AbstractPointListShape;
+	}
+
+	private static Long key(int cx, int cy) {
+		return Long.valueOf(((long) cx << 32) | (cy & 0xFFFFFFFFL));
+	}
+
+}
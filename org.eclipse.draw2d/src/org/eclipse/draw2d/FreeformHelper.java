@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,15 +12,25 @@
  *******************************************************************************/
 package org.eclipse.draw2d;
 
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
 import org.eclipse.draw2d.geometry.Insets;
 import org.eclipse.draw2d.geometry.Rectangle;
 
 class FreeformHelper implements FreeformListener {
 
+	private static final int LEFT = 1;
+	private static final int TOP = 1 << 1;
+	private static final int RIGHT = 1 << 2;
+	private static final int BOTTOM = 1 << 3;
+	private static final int[] SIDES = { LEFT, TOP, RIGHT, BOTTOM };
+
 	class ChildTracker implements FigureListener {
 		@Override
 		public void figureMoved(IFigure source) {
-			invalidate();
+			childMoved(source);
 		}
 	}
 
@@ -28,6 +38,20 @@ class FreeformHelper implements FreeformListener {
 	private Rectangle freeformExtent;
 	private final FigureListener figureListener = new ChildTracker();
 
+	/**
+	 * The union of the extents of all children, or <code>null</code> if it has to
+	 * be recomputed.
+	 */
+	private Rectangle childExtent;
+
+	/**
+	 * The children touching the sides of the child extent, mapped to the sides
+	 * they touch. Only as long as each side is touched by at least one child, the
+	 * child extent can be updated without visiting all children.
+	 */
+	private final Map<IFigure, Integer> boundaryChildren = new IdentityHashMap<>();
+	private final int[] boundaryCounts = new int[SIDES.length];
+
 	FreeformHelper(FreeformFigure host) {
 		this.host = host;
 	}
@@ -36,38 +60,183 @@ class FreeformHelper implements FreeformListener {
 		if (freeformExtent != null) {
 			return freeformExtent;
 		}
-		Rectangle r;
-		for (IFigure child : host.getChildren()) {
-			if (child instanceof FreeformFigure freeFormFig) {
-				r = freeFormFig.getFreeformExtent();
-			} else {
-				r = child.getBounds();
-			}
-			if (freeformExtent == null) {
-				freeformExtent = r.getCopy();
-			} else {
-				freeformExtent.union(r);
-			}
+		if (childExtent == null) {
+			computeChildExtent();
 		}
 		Insets insets = host.getInsets();
-		if (freeformExtent == null) {
+		if (childExtent == null) {
 			freeformExtent = new Rectangle(0, 0, insets.getWidth(), insets.getHeight());
 		} else {
+			freeformExtent = childExtent.getCopy();
 			host.translateToParent(freeformExtent);
 			freeformExtent.expand(insets);
 		}
 		return freeformExtent;
 	}
 
+	private static Rectangle getExtent(IFigure child) {
+		if (child instanceof FreeformFigure freeFormFig) {
+			return freeFormFig.getFreeformExtent();
+		}
+		return child.getBounds();
+	}
+
+	private void computeChildExtent() {
+		for (IFigure child : host.getChildren()) {
+			Rectangle r = getExtent(child);
+			if (childExtent == null) {
+				childExtent = r.getCopy();
+			} else {
+				childExtent.union(r);
+			}
+		}
+		boundaryChildren.clear();
+		for (int i = 0; i < SIDES.length; i++) {
+			boundaryCounts[i] = 0;
+		}
+		if (childExtent != null) {
+			for (IFigure child : host.getChildren()) {
+				addBoundaryChild(child, getExtent(child));
+			}
+		}
+	}
+
+	private int getTouchedSides(Rectangle r) {
+		int sides = 0;
+		if (r.x == childExtent.x) {
+			sides |= LEFT;
+		}
+		if (r.y == childExtent.y) {
+			sides |= TOP;
+		}
+		if (r.right() == childExtent.right()) {
+			sides |= RIGHT;
+		}
+		if (r.bottom() == childExtent.bottom()) {
+			sides |= BOTTOM;
+		}
+		return sides;
+	}
+
+	private void addBoundaryChild(IFigure child, Rectangle r) {
+		int sides = getTouchedSides(r);
+		if (sides != 0) {
+			boundaryChildren.put(child, Integer.valueOf(sides));
+			for (int i = 0; i < SIDES.length; i++) {
+				if ((sides & SIDES[i]) != 0) {
+					boundaryCounts[i]++;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Removes the given child from the boundary children. Returns
+	 * <code>true</code> if a side of the child extent is no longer touched by any
+	 * child, in which case the child extent may have shrunk.
+	 */
+	private boolean removeBoundaryChild(IFigure child) {
+		Integer sides = boundaryChildren.remove(child);
+		boolean shrunk = false;
+		if (sides != null) {
+			for (int i = 0; i < SIDES.length; i++) {
+				if ((sides.intValue() & SIDES[i]) != 0) {
+					shrunk |= --boundaryCounts[i] == 0;
+				}
+			}
+		}
+		return shrunk;
+	}
+
+	/**
+	 * Removes the given side from all boundary children, once the child extent has
+	 * grown beyond it.
+	 */
+	private void clearBoundarySide(int side) {
+		Iterator<Map.Entry<IFigure, Integer>> iter = boundaryChildren.entrySet().iterator();
+		while (iter.hasNext()) {
+			Map.Entry<IFigure, Integer> entry = iter.next();
+			int sides = entry.getValue().intValue() & ~side;
+			if (sides == 0) {
+				iter.remove();
+			} else {
+				entry.setValue(Integer.valueOf(sides));
+			}
+		}
+	}
+
+	/**
+	 * Updates the child extent after the given child has been added or moved. The
+	 * child extent grows in constant time, but has to be recomputed if the child
+	 * was the last one touching a side and has moved inward.
+	 */
+	private void childMoved(IFigure child) {
+		if (childExtent == null) {
+			// Not computed yet, the new extent is unknown
+			invalidate();
+			return;
+		}
+		Rectangle r = getExtent(child);
+		boolean changed = false;
+		boolean shrunk = removeBoundaryChild(child);
+		if (r.x < childExtent.x) {
+			childExtent.width += childExtent.x - r.x;
+			childExtent.x = r.x;
+			growSide(0);
+			changed = true;
+		}
+		if (r.y < childExtent.y) {
+			childExtent.height += childExtent.y - r.y;
+			childExtent.y = r.y;
+			growSide(1);
+			changed = true;
+		}
+		if (r.right() > childExtent.right()) {
+			childExtent.width = r.right() - childExtent.x;
+			growSide(2);
+			changed = true;
+		}
+		if (r.bottom() > childExtent.bottom()) {
+			childExtent.height = r.bottom() - childExtent.y;
+			growSide(3);
+			changed = true;
+		}
+		addBoundaryChild(child, r);
+		if (shrunk) {
+			for (int count : boundaryCounts) {
+				if (count == 0) {
+					// The extent has shrunk and is recomputed on demand
+					childExtent = null;
+					changed = true;
+					break;
+				}
+			}
+		}
+		if (changed) {
+			invalidate();
+		}
+	}
+
+	private void growSide(int index) {
+		clearBoundarySide(SIDES[index]);
+		boundaryCounts[index] = 0;
+	}
+
 	public void hookChild(IFigure child) {
-		invalidate();
 		if (child instanceof FreeformFigure freeFormFig) {
+			childExtent = null;
+			invalidate();
 			freeFormFig.addFreeformListener(this);
 		} else {
+			childMoved(child);
 			child.addFigureListener(figureListener);
 		}
 	}
 
+	/**
+	 * Discards the freeform extent after it has changed and notifies the
+	 * listeners of the host.
+	 */
 	void invalidate() {
 		freeformExtent = null;
 		host.fireExtentChanged();
@@ -82,6 +251,7 @@ class FreeformHelper implements FreeformListener {
 	public void notifyFreeformExtentChanged() {
 		// A childs freeform extent has changed, therefore this extent must be
 		// recalculated
+		childExtent = null;
 		invalidate();
 	}
 
@@ -97,11 +267,17 @@ class FreeformHelper implements FreeformListener {
 	}
 
 	public void unhookChild(IFigure child) {
-		invalidate();
 		if (child instanceof FreeformFigure freeFormFig) {
 			freeFormFig.removeFreeformListener(this);
+			childExtent = null;
+			invalidate();
 		} else {
 			child.removeFigureListener(figureListener);
+			// Children inside of the extent can be removed without changing it
+			if (childExtent == null || removeBoundaryChild(child)) {
+				childExtent = null;
+				invalidate();
+			}
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -36,7 +36,7 @@ public class Layer extends Figure {
 		translateFromParent(pt);
 		x = pt.x;
 		y = pt.y;
-		for (IFigure child : getChildren()) {
+		for (IFigure child : getChildrenRevIterable(x, y)) {
 			if (child.containsPoint(x, y)) {
 				return true;
 			}
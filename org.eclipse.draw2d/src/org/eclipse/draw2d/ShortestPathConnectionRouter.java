@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -332,6 +332,18 @@ public final class ShortestPathConnectionRouter extends AbstractRouter {
 		algorithm.setSpacing(spacing);
 	}
 
+	/**
+	 * Enables or disables the parallel routing of multiple invalid connections.
+	 * Parallel routing is disabled by default.
+	 *
+	 * @param enabled <code>true</code> to route connections in parallel
+	 * @see ShortestPathRouter#setParallelSolvingEnabled(boolean)
+	 * @since 3.20
+	 */
+	public void setParallelRoutingEnabled(boolean enabled) {
+		algorithm.setParallelSolvingEnabled(enabled);
+	}
+
 	/**
 	 * @return true if there are connections routed by this router, false otherwise
 	 * @since 3.5
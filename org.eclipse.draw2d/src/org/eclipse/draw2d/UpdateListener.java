@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.draw2d;
 
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.draw2d.geometry.Rectangle;
@@ -35,6 +36,36 @@ public interface UpdateListener {
 	 */
 	void notifyPainting(Rectangle damage, Map<IFigure, Rectangle> dirtyRegions);
 
+	/**
+	 * Notifies the listener that the listened to object is painting the given list
+	 * of disjoint rectangles. This method is called instead of
+	 * {@link #notifyPainting(Rectangle, Map)} if the object paints each damaged
+	 * region separately. The list may be empty, if all dirty regions were clipped
+	 * or not visible.
+	 * <p>
+	 * The default implementation calls {@link #notifyPainting(Rectangle, Map)} with
+	 * the union of all damaged rectangles, which is an empty rectangle if the list
+	 * is empty.
+	 *
+	 * @param damagedRegions The disjoint areas being painted
+	 * @param dirtyRegions   a Map of figures to their dirty regions
+	 * @since 3.20
+	 */
+	default void notifyPainting(List<Rectangle> damagedRegions, Map<IFigure, Rectangle> dirtyRegions) {
+		Rectangle damage = null;
+		for (Rectangle damagedRegion : damagedRegions) {
+			if (damage == null) {
+				damage = new Rectangle(damagedRegion);
+			} else {
+				damage.union(damagedRegion);
+			}
+		}
+		if (damage == null) {
+			damage = new Rectangle();
+		}
+		notifyPainting(damage, dirtyRegions);
+	}
+
 	/**
 	 * Notifies the listener that the listened to object is validating.
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -117,6 +117,18 @@ public abstract class UpdateManager {
 		listeners.forEach(localListener -> localListener.notifyPainting(damage, dirtyRegions));
 	}
 
+	/**
+	 * Notifies listeners that painting is about to occur, passing them the list of
+	 * disjoint damaged rectangles and the map of dirty regions.
+	 *
+	 * @param damagedRegions the damaged rectangles
+	 * @param dirtyRegions   map of dirty regions to figures
+	 * @since 3.20
+	 */
+	protected void firePainting(List<Rectangle> damagedRegions, Map<IFigure, Rectangle> dirtyRegions) {
+		listeners.forEach(localListener -> localListener.notifyPainting(damagedRegions, dirtyRegions));
+	}
+
 	/**
 	 * Notifies listeners that validation is about to occur.
 	 */
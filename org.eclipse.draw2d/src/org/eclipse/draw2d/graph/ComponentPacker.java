@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.graph;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.draw2d.PositionConstants;
+import org.eclipse.draw2d.geometry.Dimension;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.Transposer;
+
+/**
+ * Splits a {@link DirectedGraph} into its weakly connected components, which
+ * are laid out on their own, and packs the laid out components. The components
+ * share the nodes and edges of the graph, so that the layout of each component
+ * is directly applied to the graph.
+ * <p>
+ * This class is for internal use only.
+ */
+final class ComponentPacker {
+
+	private ComponentPacker() {
+		// this class is not intended to be instantiated
+	}
+
+	/**
+	 * Returns the weakly connected components of the given graph, in the order of
+	 * their first node. The nodes and edges of each component are in the same
+	 * order as in the graph and the properties of the graph are copied to all
+	 * components.
+	 *
+	 * @param graph the graph
+	 * @return the components of the graph
+	 */
+	static List<DirectedGraph> split(DirectedGraph graph) {
+		List<DirectedGraph> components = new ArrayList<>();
+		Map<Node, DirectedGraph> componentMap = new HashMap<>();
+		Deque<Node> stack = new ArrayDeque<>();
+		for (Node node : graph.nodes) {
+			if (componentMap.containsKey(node)) {
+				continue;
+			}
+			DirectedGraph component = createComponent(graph);
+			components.add(component);
+			componentMap.put(node, component);
+			stack.push(node);
+			while (!stack.isEmpty()) {
+				Node n = stack.pop();
+				for (Edge e : n.incoming) {
+					if (componentMap.putIfAbsent(e.source, component) == null) {
+						stack.push(e.source);
+					}
+				}
+				for (Edge e : n.outgoing) {
+					if (componentMap.putIfAbsent(e.target, component) == null) {
+						stack.push(e.target);
+					}
+				}
+			}
+		}
+		if (components.size() > 1) {
+			for (Node node : graph.nodes) {
+				componentMap.get(node).nodes.add(node);
+			}
+			for (Edge edge : graph.edges) {
+				componentMap.get(edge.source).edges.add(edge);
+			}
+		}
+		return components;
+	}
+
+	private static DirectedGraph createComponent(DirectedGraph graph) {
+		DirectedGraph component = new DirectedGraph();
+		component.setDirection(graph.getDirection());
+		component.setDefaultPadding(graph.getDefaultPadding());
+		component.setMargin(graph.getMargin());
+		component.tensorSize = graph.tensorSize;
+		component.tensorStrength = graph.tensorStrength;
+		return component;
+	}
+
+	/**
+	 * Moves the laid out components of the given graph, so that they don't
+	 * overlap, and sets the size of the graph accordingly. The size of each
+	 * component includes the padding of its outer nodes, so that the nodes of
+	 * adjacent components are separated by their padding, like the nodes within a
+	 * component.
+	 *
+	 * @param graph      the graph
+	 * @param components the components of the graph
+	 * @param packing    either {@link DirectedGraphLayout#PACKING_ROW} or
+	 *                   {@link DirectedGraphLayout#PACKING_SHELF}
+	 */
+	static void pack(DirectedGraph graph, List<DirectedGraph> components, int packing) {
+		// The components are packed as if the graph was directed downwards
+		Transposer t = new Transposer(graph.getDirection() != PositionConstants.SOUTH);
+
+		List<DirectedGraph> order = new ArrayList<>(components);
+		int maxWidth = Integer.MAX_VALUE;
+		if (packing == DirectedGraphLayout.PACKING_SHELF) {
+			// Tallest components first, on shelves of roughly the same width as
+			// the height of all shelves
+			order.sort(Comparator.comparingInt((DirectedGraph c) -> t.t(c.size).height).reversed());
+			long area = 0;
+			maxWidth = 0;
+			for (DirectedGraph component : order) {
+				Dimension size = t.t(component.size);
+				area += (long) size.width * size.height;
+				maxWidth = Math.max(maxWidth, size.width);
+			}
+			maxWidth = Math.max(maxWidth, (int) Math.sqrt(area));
+		}
+
+		int x = 0;
+		int y = 0;
+		int shelfHeight = 0;
+		int width = 0;
+		for (DirectedGraph component : order) {
+			Dimension size = t.t(component.size);
+			if (x > 0 && x + size.width > maxWidth) {
+				x = 0;
+				y += shelfHeight;
+				shelfHeight = 0;
+			}
+			translate(component, t.t(new Point(x, y)));
+			width = Math.max(width, x + size.width);
+			shelfHeight = Math.max(shelfHeight, size.height);
+			x += size.width;
+		}
+		graph.size = t.t(new Dimension(width, y + shelfHeight));
+	}
+
+	private static void translate(DirectedGraph component, Point offset) {
+		if (offset.x == 0 && offset.y == 0) {
+			return;
+		}
+		for (Node node : component.nodes) {
+			node.x += offset.x;
+			node.y += offset.y;
+		}
+		for (Edge edge : component.edges) {
+			if (edge.start != null) {
+				edge.start.translate(offset);
+			}
+			if (edge.end != null) {
+				edge.end.translate(offset);
+			}
+			if (edge.getPoints() != null) {
+				edge.getPoints().translate(offset);
+			}
+			if (edge.vNodes != null) {
+				for (Node node : edge.vNodes) {
+					node.x += offset.x;
+					node.y += offset.y;
+				}
+			}
+		}
+	}
+
+}
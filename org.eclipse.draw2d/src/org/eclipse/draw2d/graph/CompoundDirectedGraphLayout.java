@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2010 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -57,4 +57,12 @@ public final class CompoundDirectedGraphLayout extends DirectedGraphLayout {
 		steps.add(new CompoundHorizontalPlacement());
 	}
 
+	/**
+	 * @since 3.20
+	 */
+	@Override
+	protected DirectedGraphLayout createComponentLayout() {
+		return new CompoundDirectedGraphLayout();
+	}
+
 }
@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.graph;
+
+import java.util.Arrays;
+
+/**
+ * Counts the edge crossings between adjacent ranks, using the accumulator tree
+ * of Barth, Jünger and Mutzel ("Simple and Efficient Bilayer Cross Counting").
+ * The edges between two ranks are sorted by their position in the upper rank
+ * and then by their position in the lower rank. Two edges cross, if and only if
+ * their positions in the lower rank are inverted in this order. The inversions
+ * are counted in {@code O(e log v)} by inserting the positions into a complete
+ * binary tree, whose inner nodes accumulate the number of inserted positions
+ * below them.
+ * <p>
+ * This class is for internal use only.
+ */
+final class CrossingCounter {
+
+	private int[] positions = new int[16];
+	private int[] tree = new int[16];
+	private long[] keys = new long[16];
+	private long[] otherKeys = new long[16];
+
+	/**
+	 * Returns the number of edge crossings between all adjacent ranks of the
+	 * given graph. The order of the nodes is given by their index, which
+	 * increases along each rank, but is not necessarily the position of the node.
+	 *
+	 * @param g the graph
+	 * @return the number of crossings
+	 */
+	long countCrossings(DirectedGraph g) {
+		long crossings = 0;
+		for (int row = 0; row < g.ranks.size() - 1; row++) {
+			crossings += countCrossings(g.ranks.getRank(row));
+		}
+		return crossings;
+	}
+
+	/**
+	 * Returns the number of crossings between the outgoing edges of the given rank
+	 * into the next rank.
+	 *
+	 * @param upper the upper rank
+	 * @return the number of crossings
+	 */
+	long countCrossings(Rank upper) {
+		int length = 0;
+		int size = 0;
+		for (Node node : upper) {
+			int start = length;
+			for (Edge e : node.outgoing) {
+				if (e.target.rank == node.rank + 1) {
+					if (length == positions.length) {
+						positions = Arrays.copyOf(positions, 2 * length);
+					}
+					positions[length++] = e.target.index;
+					size = Math.max(size, e.target.index + 1);
+				}
+			}
+			// The edges of a single node don't cross each other
+			Arrays.sort(positions, start, length);
+		}
+		return countInversions(positions, length, size);
+	}
+
+	/**
+	 * Returns the number of pairs {@code i < j} with
+	 * {@code sequence[i] > sequence[j]}.
+	 *
+	 * @param sequence the sequence of positions, all within {@code [0, size)}
+	 * @param length   the length of the sequence
+	 * @param size     the number of positions
+	 * @return the number of inversions
+	 */
+	long countInversions(int[] sequence, int length, int size) {
+		int firstLeaf = 1;
+		while (firstLeaf < size) {
+			firstLeaf *= 2;
+		}
+		int treeSize = 2 * firstLeaf - 1;
+		firstLeaf--;
+		if (tree.length < treeSize) {
+			tree = new int[treeSize];
+		} else {
+			Arrays.fill(tree, 0, treeSize, 0);
+		}
+		long inversions = 0;
+		for (int k = 0; k < length; k++) {
+			int index = sequence[k] + firstLeaf;
+			tree[index]++;
+			while (index > 0) {
+				if (index % 2 == 1) {
+					// Left child, all positions in the right sibling are greater
+					inversions += tree[index + 1];
+				}
+				index = (index - 1) / 2;
+				tree[index]++;
+			}
+		}
+		return inversions;
+	}
+
+	/**
+	 * Compares the edges of two adjacent nodes in the same rank with the edges to
+	 * the given rank. The position of an edge is given by the index of its node in
+	 * the given rank and its offset at this node.
+	 *
+	 * @param left     the left node
+	 * @param right    the right node
+	 * @param incoming {@code true} to compare the incoming edges from the rank
+	 *                 above, {@code false} to compare the outgoing edges to the
+	 *                 rank below
+	 * @param result   an array, whose first element is incremented by the number
+	 *                 of crossings between the edges of both nodes and whose
+	 *                 second element is incremented by the number of crossings,
+	 *                 if both nodes were swapped
+	 */
+	void compareAdjacent(Node left, Node right, boolean incoming, int[] result) {
+		EdgeList leftEdges = incoming ? left.incoming : left.outgoing;
+		EdgeList rightEdges = incoming ? right.incoming : right.outgoing;
+		if (leftEdges.isEmpty() || rightEdges.isEmpty()) {
+			return;
+		}
+		int rank = incoming ? left.rank - 1 : left.rank + 1;
+		keys = getKeys(leftEdges, rank, incoming, keys);
+		otherKeys = getKeys(rightEdges, rank, incoming, otherKeys);
+		int leftSize = leftEdges.size();
+		int rightSize = rightEdges.size();
+
+		// For each edge of the right node, the edges of the left node with a
+		// greater position cross it, those with a smaller position would cross
+		// it after the swap
+		int smaller = 0;
+		int notGreater = 0;
+		for (int j = 0; j < rightSize; j++) {
+			long key = otherKeys[j];
+			while (smaller < leftSize && keys[smaller] < key) {
+				smaller++;
+			}
+			if (notGreater < smaller) {
+				notGreater = smaller;
+			}
+			while (notGreater < leftSize && keys[notGreater] <= key) {
+				notGreater++;
+			}
+			result[0] += leftSize - notGreater;
+			result[1] += smaller;
+		}
+	}
+
+	/**
+	 * Returns the sorted positions of the given edges in the given rank. The
+	 * position consists of the index of the node in the rank and the offset of the
+	 * edge at this node.
+	 */
+	private static long[] getKeys(EdgeList edges, int rank, boolean incoming, long[] keys) {
+		int size = edges.size();
+		if (keys.length < size) {
+			keys = new long[Math.max(size, 2 * keys.length)];
+		}
+		for (int i = 0; i < size; i++) {
+			Edge e = edges.get(i);
+			int offset = incoming ? e.getSourceOffset() : e.getTargetOffset();
+			keys[i] = ((long) e.getIndexForRank(rank) << 32) + offset;
+		}
+		Arrays.sort(keys, 0, size);
+		return keys;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2023 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -14,6 +14,7 @@ package org.eclipse.draw2d.graph;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.List;
 
 /**
  * Performs a graph layout of a <code>DirectedGraph</code>. The directed graph
@@ -65,6 +66,12 @@ import java.util.Deque;
  * set, and if it has virtual nodes, they will be in reverse order (bottom-up).
  * </UL>
  * <P>
+ * The weakly connected components of a graph may be laid out on their own and
+ * packed afterwards, via {@link #setComponentPacking(int)}. Each component is
+ * then laid out as described above, but the layout of the whole graph no longer
+ * scales with its total size. The components can also be laid out on multiple
+ * threads via {@link #setParallelLayoutEnabled(boolean)}.
+ * <P>
  * This class is not guaranteed to produce the same results for each invocation.
  *
  * @author Randy Hudson
@@ -72,7 +79,36 @@ import java.util.Deque;
  */
 public class DirectedGraphLayout {
 
+	/**
+	 * The graph is laid out as a whole. This is the default.
+	 *
+	 * @see #setComponentPacking(int)
+	 * @since 3.20
+	 */
+	public static final int PACKING_NONE = 0;
+
+	/**
+	 * The components of the graph are placed next to each other, across the
+	 * direction of the graph, in the order of their first node.
+	 *
+	 * @see #setComponentPacking(int)
+	 * @since 3.20
+	 */
+	public static final int PACKING_ROW = 1;
+
+	/**
+	 * The components of the graph are placed on shelves across the direction of
+	 * the graph, sorted by their extent along the direction. A new shelf is
+	 * started once a shelf exceeds the square root of the total area.
+	 *
+	 * @see #setComponentPacking(int)
+	 * @since 3.20
+	 */
+	public static final int PACKING_SHELF = 2;
+
 	Deque<GraphVisitor> steps = new ArrayDeque<>();
+	private int componentPacking = PACKING_NONE;
+	private boolean parallelLayoutEnabled;
 
 	/**
 	 * @since 3.1
@@ -104,8 +140,98 @@ public class DirectedGraphLayout {
 		if (graph.nodes.isEmpty()) {
 			return;
 		}
+		if (componentPacking != PACKING_NONE && !(graph instanceof CompoundDirectedGraph)) {
+			List<DirectedGraph> components = ComponentPacker.split(graph);
+			if (components.size() > 1) {
+				if (parallelLayoutEnabled) {
+					components.parallelStream().forEach(c -> createComponentLayout().visit(c));
+				} else {
+					components.forEach(c -> createComponentLayout().visit(c));
+				}
+				ComponentPacker.pack(graph, components, componentPacking);
+				return;
+			}
+		}
 		steps.iterator().forEachRemaining(visitor -> visitor.visit(graph));
 		steps.descendingIterator().forEachRemaining(visitor -> visitor.revisit(graph));
 	}
 
+	/**
+	 * Creates the layout of a single component of a graph, if the components are
+	 * packed. The returned layout must perform the same steps as this layout, but
+	 * must not share any of them, as the steps keep the state of the graph they
+	 * visit and the components may be laid out in parallel. Each component is laid
+	 * out with a new layout, whose components are not packed.
+	 * <p>
+	 * The default implementation creates new instances of the steps of this
+	 * layout. Subclasses which add their own steps must override this method.
+	 *
+	 * @return a new layout with a copy of the steps of this layout
+	 * @see #setComponentPacking(int)
+	 * @since 3.20
+	 */
+	protected DirectedGraphLayout createComponentLayout() {
+		DirectedGraphLayout layout = new DirectedGraphLayout();
+		// Steps which have been removed from this layout are removed from the copy
+		layout.steps.removeIf(copy -> steps.stream().noneMatch(step -> step.getClass() == copy.getClass()));
+		return layout;
+	}
+
+	/**
+	 * Returns how the components of a graph are packed.
+	 *
+	 * @return one of {@link #PACKING_NONE}, {@link #PACKING_ROW} or
+	 *         {@link #PACKING_SHELF}
+	 * @since 3.20
+	 */
+	public int getComponentPacking() {
+		return componentPacking;
+	}
+
+	/**
+	 * Sets how the weakly connected components of a graph are packed. Unless the
+	 * packing is {@link #PACKING_NONE}, each component of a graph is laid out on
+	 * its own and the laid out components are moved, so that their nodes are
+	 * separated by their padding. The size of the graph is the size of the
+	 * packed components. Compound graphs are always laid out as a whole.
+	 * <p>
+	 * The {@link DirectedGraph#ranks ranks} of the graph are not populated, if the
+	 * graph has been laid out in multiple components.
+	 *
+	 * @param packing one of {@link #PACKING_NONE}, {@link #PACKING_ROW} or
+	 *                {@link #PACKING_SHELF}
+	 * @throws IllegalArgumentException if the packing is not one of the above
+	 * @since 3.20
+	 */
+	public void setComponentPacking(int packing) {
+		if (packing != PACKING_NONE && packing != PACKING_ROW && packing != PACKING_SHELF) {
+			throw new IllegalArgumentException("Invalid packing: " + packing); //$NON-NLS-1$
+		}
+		componentPacking = packing;
+	}
+
+	/**
+	 * Returns whether the components of a graph are laid out in parallel.
+	 *
+	 * @return {@code true} if the components are laid out on multiple threads
+	 * @since 3.20
+	 */
+	public boolean isParallelLayoutEnabled() {
+		return parallelLayoutEnabled;
+	}
+
+	/**
+	 * Sets whether the components of a graph are laid out on multiple threads.
+	 * This only has an effect if the components are packed, see
+	 * {@link #setComponentPacking(int)}. The layout is the same as when the
+	 * components are laid out one after another.
+	 *
+	 * @param enabled {@code true} if the components should be laid out in parallel
+	 *                (default is {@code false})
+	 * @since 3.20
+	 */
+	public void setParallelLayoutEnabled(boolean enabled) {
+		parallelLayoutEnabled = enabled;
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2023 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -14,66 +14,28 @@ package org.eclipse.draw2d.graph;
 
 /**
  * This graph visitor examines all adjacent pairs of nodes and determines if
- * swapping the two nodes provides improved graph aesthetics.
+ * swapping the two nodes provides improved graph aesthetics. The crossings
+ * between the edges of both nodes are counted by merging their sorted edges,
+ * instead of comparing every pair of edges.
  *
  * @author Daniel Lee
  * @since 2.1.2
  */
 class LocalOptimizer extends GraphVisitor {
 
-	@SuppressWarnings("static-method")
+	private final CrossingCounter counter = new CrossingCounter();
+	private final int[] crossings = new int[2];
+
 	boolean shouldSwap(Node current, Node next) {
 		if (GraphUtilities.isConstrained(current, next)) {
 			return false;
 		}
-		int crossCount = 0;
-		int invertedCrossCount = 0;
-
-		int rank = current.rank - 1;
-
-		for (Edge currentEdge : current.incoming) {
-			int iCurrent = currentEdge.getIndexForRank(rank);
-			for (Edge nextEdge : next.incoming) {
-				int iNext = nextEdge.getIndexForRank(rank);
-				if (iNext < iCurrent) {
-					crossCount++;
-				} else if (iNext > iCurrent) {
-					invertedCrossCount++;
-				} else {
-					// edges go to the same location
-					int offsetDiff = nextEdge.getSourceOffset() - currentEdge.getSourceOffset();
-					if (offsetDiff < 0) {
-						crossCount++;
-					} else if (offsetDiff > 0) {
-						invertedCrossCount++;
-					}
-				}
-			}
-		}
-
-		rank = current.rank + 1;
-
-		for (Edge currentEdge : current.outgoing) {
-			int iCurrent = currentEdge.getIndexForRank(rank);
-			for (Edge nextEdge : next.outgoing) {
-				int iNext = nextEdge.getIndexForRank(rank);
-				if (iNext < iCurrent) {
-					crossCount++;
-				} else if (iNext > iCurrent) {
-					invertedCrossCount++;
-				} else {
-					// edges go to the same location
-					int offsetDiff = nextEdge.getTargetOffset() - currentEdge.getTargetOffset();
-					if (offsetDiff < 0) {
-						crossCount++;
-					} else if (offsetDiff > 0) {
-						invertedCrossCount++;
-					}
-				}
-			}
-		}
-
-		return (invertedCrossCount < crossCount);
+		// The number of crossings before and after the swap
+		crossings[0] = 0;
+		crossings[1] = 0;
+		counter.compareAdjacent(current, next, true, crossings);
+		counter.compareAdjacent(current, next, false, crossings);
+		return crossings[1] < crossings[0];
 	}
 
 	private static void swapNodes(Node current, Node next, Rank rank) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2010 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -14,6 +14,8 @@ package org.eclipse.draw2d.graph;
 
 /**
  * Sweeps up and down the ranks rearranging them so as to reduce edge crossings.
+ * The crossings are counted after each sweep, so that the sweeps can stop early
+ * once they no longer reduce the crossings.
  *
  * @author Randy Hudson
  * @since 2.1.2
@@ -22,6 +24,12 @@ class MinCross extends GraphVisitor {
 
 	static final int MAX = 45;
 
+	/**
+	 * The number of sweeps without fewer crossings, after which no further sweeps
+	 * are made.
+	 */
+	static final int MAX_STALLED = 10;
+
 	private DirectedGraph g;
 	private RankSorter sorter = new RankSorter();
 
@@ -39,20 +47,57 @@ class MinCross extends GraphVisitor {
 		this.sorter = sorter;
 	}
 
+	/**
+	 * Sweeps up and down the ranks, until either the maximum number of sweeps has
+	 * been reached or the number of crossings hasn't improved for a number of
+	 * sweeps. The ordering with the fewest crossings is kept.
+	 */
 	void solve() {
+		CrossingCounter counter = new CrossingCounter();
+		long bestCrossings = counter.countCrossings(g);
+		Node[][] bestOrder = getOrder();
+		int stalled = 0;
 		Rank rank;
-		for (int loop = 0; loop < MAX; loop++) {
+		for (int loop = 0; loop < MAX && bestCrossings > 0 && stalled < MAX_STALLED; loop++) {
 			for (int row = 1; row < g.ranks.size(); row++) {
 				rank = g.ranks.getRank(row);
 				sorter.sortRankIncoming(g, rank, row, (double) loop / MAX);
 			}
-			if (loop == MAX - 1) {
-				continue;
+			if (loop < MAX - 1) {
+				for (int row = g.ranks.size() - 2; row >= 0; row--) {
+					rank = g.ranks.getRank(row);
+					sorter.sortRankOutgoing(g, rank, row, (double) loop / MAX);
+				}
 			}
-			for (int row = g.ranks.size() - 2; row >= 0; row--) {
-				rank = g.ranks.getRank(row);
-				sorter.sortRankOutgoing(g, rank, row, (double) loop / MAX);
+			long crossings = counter.countCrossings(g);
+			if (crossings < bestCrossings) {
+				bestCrossings = crossings;
+				bestOrder = getOrder();
+				stalled = 0;
+			} else {
+				stalled++;
+			}
+		}
+		if (counter.countCrossings(g) > bestCrossings) {
+			setOrder(bestOrder);
+		}
+	}
+
+	private Node[][] getOrder() {
+		Node[][] order = new Node[g.ranks.size()][];
+		for (int row = 0; row < order.length; row++) {
+			order[row] = g.ranks.getRank(row).toArray(new Node[0]);
+		}
+		return order;
+	}
+
+	private void setOrder(Node[][] order) {
+		for (int row = 0; row < order.length; row++) {
+			Rank rank = g.ranks.getRank(row);
+			for (int i = 0; i < order[row].length; i++) {
+				rank.set(i, order[row][i]);
 			}
+			rank.assignIndices();
 		}
 	}
 
@@ -0,0 +1,745 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The network simplex over a packed copy of a {@link DirectedGraph}, which is
+ * used by the {@link TightSpanningTreeSolver} and the
+ * {@link RankAssignmentSolver}. Nodes and edges are identified by their index
+ * in the lists of the graph. The adjacency of the nodes is stored as a single
+ * array of edge indices, which contains the outgoing edges followed by the
+ * incoming edges of each node, in the order of the node's lists.
+ * <p>
+ * The solver makes the same decisions as the original implementation on the
+ * graph objects, so that the resulting ranks and spanning trees are identical.
+ * Ties are broken by the order in which the nodes and edges are visited there.
+ * The results are written back to the graph via {@link #writeRanks()} and
+ * {@link #writeSpanningTree()}.
+ */
+final class NetworkSimplex {
+
+	/**
+	 * The maximum number of iterations of the network simplex.
+	 */
+	private static final int MAX_ITERATIONS = 900;
+
+	/**
+	 * An ordered list of edge indices, with the same semantics as an
+	 * {@link EdgeList}.
+	 */
+	private static final class IntList {
+		private int[] values = new int[4];
+		private int size;
+
+		void add(int value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, 2 * size);
+			}
+			values[size++] = value;
+		}
+
+		boolean contains(int value) {
+			for (int i = 0; i < size; i++) {
+				if (values[i] == value) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		void remove(int value) {
+			for (int i = 0; i < size; i++) {
+				if (values[i] == value) {
+					System.arraycopy(values, i + 1, values, i, --size - i);
+					return;
+				}
+			}
+		}
+	}
+
+	private final Node[] nodes;
+	private final Edge[] edges;
+	private final int nodeCount;
+	private final int edgeCount;
+
+	private final int[] rank;
+	private final int[] adjacencyStart;
+	private final int[] incomingStart;
+	private final int[] adjacency;
+
+	private final int[] source;
+	private final int[] target;
+	private final int[] delta;
+	private final int[] weight;
+	private final int[] cut;
+	private final boolean[] tree;
+	private final boolean[] flag;
+
+	/**
+	 * The position of each edge in the outgoing list of its source and in the
+	 * incoming list of its target.
+	 */
+	private final int[] outgoingPosition;
+	private final int[] incomingPosition;
+
+	private final int[] parentEdge;
+	private final IntList[] children;
+
+	/**
+	 * The interval of post-order numbers of the subtree of each node. The number
+	 * of a node is its maximum. {@link #nodeAt} maps the numbers back to the
+	 * nodes, so that all nodes of a subtree are visited without visiting the
+	 * other nodes.
+	 */
+	private final int[] treeMin;
+	private final int[] treeMax;
+	private final int[] nodeAt;
+
+	/**
+	 * The tree edges with a negative cut value, in the order in which they have
+	 * been found. Like the list of the original implementation, an edge is
+	 * removed whenever its cut value is computed and only added again if the
+	 * value is negative.
+	 */
+	private final IntList negativeEdges = new IntList();
+	private final boolean[] isNegative;
+	private boolean numbered;
+
+	/**
+	 * Reusable stacks for the depth-first traversals of the spanning tree.
+	 */
+	private final int[] stackNode;
+	private final int[] stackEdge;
+	private final int[] stackPosition;
+	private final int[] stackValue;
+
+	/**
+	 * Creates a packed copy of the given graph. The edges are the edges of the
+	 * graph followed by all other edges that are connected to its nodes.
+	 *
+	 * @param graph the graph
+	 */
+	NetworkSimplex(DirectedGraph graph) {
+		nodes = graph.nodes.toArray(new Node[graph.nodes.size()]);
+		nodeCount = nodes.length;
+		Map<Node, Integer> nodeIndices = new IdentityHashMap<>(nodeCount);
+		for (int i = 0; i < nodeCount; i++) {
+			nodeIndices.put(nodes[i], Integer.valueOf(i));
+		}
+		List<Edge> edgeList = new ArrayList<>(graph.edges);
+		Map<Edge, Integer> edgeIndices = new IdentityHashMap<>(edgeList.size());
+		for (int i = 0; i < edgeList.size(); i++) {
+			edgeIndices.put(edgeList.get(i), Integer.valueOf(i));
+		}
+		for (Node node : nodes) {
+			addMissingEdges(node.outgoing, edgeList, edgeIndices);
+			addMissingEdges(node.incoming, edgeList, edgeIndices);
+		}
+		edges = edgeList.toArray(new Edge[edgeList.size()]);
+		edgeCount = edges.length;
+
+		source = new int[edgeCount];
+		target = new int[edgeCount];
+		delta = new int[edgeCount];
+		weight = new int[edgeCount];
+		cut = new int[edgeCount];
+		tree = new boolean[edgeCount];
+		flag = new boolean[edgeCount];
+		outgoingPosition = new int[edgeCount];
+		incomingPosition = new int[edgeCount];
+		isNegative = new boolean[edgeCount];
+		for (int i = 0; i < edgeCount; i++) {
+			Edge e = edges[i];
+			source[i] = nodeIndices.get(e.source).intValue();
+			target[i] = nodeIndices.get(e.target).intValue();
+			delta[i] = e.delta;
+			weight[i] = e.weight;
+			cut[i] = e.cut;
+			tree[i] = e.tree;
+			flag[i] = e.flag;
+		}
+
+		rank = new int[nodeCount];
+		adjacencyStart = new int[nodeCount + 1];
+		incomingStart = new int[nodeCount];
+		int size = 0;
+		for (int i = 0; i < nodeCount; i++) {
+			rank[i] = nodes[i].rank;
+			size += nodes[i].outgoing.size() + nodes[i].incoming.size();
+		}
+		adjacency = new int[size];
+		int next = 0;
+		for (int i = 0; i < nodeCount; i++) {
+			adjacencyStart[i] = next;
+			EdgeList outgoing = nodes[i].outgoing;
+			for (int j = 0; j < outgoing.size(); j++) {
+				int e = edgeIndices.get(outgoing.get(j)).intValue();
+				outgoingPosition[e] = j;
+				adjacency[next++] = e;
+			}
+			incomingStart[i] = next;
+			EdgeList incoming = nodes[i].incoming;
+			for (int j = 0; j < incoming.size(); j++) {
+				int e = edgeIndices.get(incoming.get(j)).intValue();
+				incomingPosition[e] = j;
+				adjacency[next++] = e;
+			}
+		}
+		adjacencyStart[nodeCount] = next;
+
+		parentEdge = new int[nodeCount];
+		children = new IntList[nodeCount];
+		treeMin = new int[nodeCount];
+		treeMax = new int[nodeCount];
+		nodeAt = new int[nodeCount + 2];
+		stackNode = new int[nodeCount + 1];
+		stackEdge = new int[nodeCount + 1];
+		stackPosition = new int[nodeCount + 1];
+		stackValue = new int[nodeCount + 1];
+
+		for (int i = 0; i < nodeCount; i++) {
+			parentEdge[i] = -1;
+			Edge parent = (Edge) nodes[i].workingData[1];
+			if (parent != null && edgeIndices.containsKey(parent)) {
+				parentEdge[i] = edgeIndices.get(parent).intValue();
+			}
+			if (nodes[i].workingData[0] instanceof EdgeList treeChildren) {
+				for (Edge child : treeChildren) {
+					getChildren(i).add(edgeIndices.get(child).intValue());
+				}
+			}
+		}
+	}
+
+	private static void addMissingEdges(EdgeList list, List<Edge> edgeList, Map<Edge, Integer> edgeIndices) {
+		for (Edge e : list) {
+			if (!edgeIndices.containsKey(e)) {
+				edgeIndices.put(e, Integer.valueOf(edgeList.size()));
+				edgeList.add(e);
+			}
+		}
+	}
+
+	private IntList getChildren(int node) {
+		if (children[node] == null) {
+			children[node] = new IntList();
+		}
+		return children[node];
+	}
+
+	private int getSlack(int e) {
+		return rank[target[e]] - rank[source[e]] - delta[e];
+	}
+
+	private int getOpposite(int e, int node) {
+		return source[e] == node ? target[e] : source[e];
+	}
+
+	private int getTreeTail(int e) {
+		return parentEdge[source[e]] == e ? source[e] : target[e];
+	}
+
+	private int getTreeHead(int e) {
+		return parentEdge[source[e]] == e ? target[e] : source[e];
+	}
+
+	private int getTreeParent(int node) {
+		int e = parentEdge[node];
+		return e == -1 ? -1 : getOpposite(e, node);
+	}
+
+	private boolean subtreeContains(int parent, int child) {
+		return treeMin[parent] <= treeMax[child] && treeMax[child] <= treeMax[parent];
+	}
+
+	/**
+	 * Finds a tight spanning tree, starting with the first node. The nodes must
+	 * have a feasible rank assignment. The ranks are shifted while the tree grows,
+	 * so that the edges of the tree become tight. The edges are flagged once they
+	 * have been candidates, so the flags and the tree must have been reset.
+	 *
+	 * @see TightSpanningTreeSolver
+	 */
+	void solveTightSpanningTree() {
+		for (int i = 0; i < nodeCount; i++) {
+			children[i] = new IntList();
+		}
+
+		// The rank of a member is stored relative to the total shift of all
+		// members, which shifts all of them at once
+		boolean[] reachable = new boolean[nodeCount];
+		int[] candidates = new int[edgeCount];
+		int[] candidatePosition = new int[edgeCount];
+		boolean[] isCandidate = flag;
+		int candidateCount = 0;
+		int shift = 0;
+		int members = 0;
+
+		int node = 0;
+		parentEdge[node] = -1;
+		while (true) {
+			reachable[node] = true;
+			rank[node] -= shift;
+			for (int i = incomingStart[node]; i < adjacencyStart[node + 1]; i++) {
+				candidateCount = updateCandidate(adjacency[i], source[adjacency[i]], reachable, candidates,
+						candidatePosition, isCandidate, candidateCount);
+			}
+			for (int i = adjacencyStart[node]; i < incomingStart[node]; i++) {
+				candidateCount = updateCandidate(adjacency[i], target[adjacency[i]], reachable, candidates,
+						candidatePosition, isCandidate, candidateCount);
+			}
+			members++;
+			if (members >= nodeCount) {
+				break;
+			}
+
+			if (candidateCount == 0) {
+				throw new RuntimeException("graph is not fully connected");//$NON-NLS-1$
+			}
+			int minSlack = Integer.MAX_VALUE;
+			int minEdge = -1;
+			for (int i = 0; i < candidateCount && minSlack > 0; i++) {
+				int e = candidates[i];
+				int slack = getMemberRank(target[e], reachable, shift) - getMemberRank(source[e], reachable, shift)
+						- delta[e];
+				if (slack < minSlack) {
+					minSlack = slack;
+					minEdge = e;
+				}
+			}
+
+			tree[minEdge] = true;
+			int change = minSlack;
+			if (reachable[target[minEdge]]) {
+				change = -change;
+				node = source[minEdge];
+				getChildren(target[minEdge]).add(minEdge);
+			} else {
+				node = target[minEdge];
+				getChildren(source[minEdge]).add(minEdge);
+			}
+			parentEdge[node] = minEdge;
+			shift += change;
+		}
+
+		for (int i = 0; i < nodeCount; i++) {
+			rank[i] += shift;
+		}
+	}
+
+	private int getMemberRank(int node, boolean[] reachable, int shift) {
+		return reachable[node] ? rank[node] + shift : rank[node];
+	}
+
+	private int updateCandidate(int e, int opposite, boolean[] reachable, int[] candidates, int[] candidatePosition,
+			boolean[] isCandidate, int candidateCount) {
+		if (!reachable[opposite]) {
+			if (!isCandidate[e]) {
+				isCandidate[e] = true;
+				candidatePosition[e] = candidateCount;
+				candidates[candidateCount++] = e;
+			}
+			return candidateCount;
+		}
+		// The edge is now between two members, the last candidate takes its place
+		int position = candidatePosition[e];
+		if (!isCandidate[e] || position >= candidateCount || candidates[position] != e) {
+			throw new RuntimeException("Remove called on invalid Edge"); //$NON-NLS-1$
+		}
+		int last = candidates[--candidateCount];
+		candidates[position] = last;
+		candidatePosition[last] = position;
+		return candidateCount;
+	}
+
+	/**
+	 * Optimizes the ranks via the network simplex, starting with the current
+	 * tight spanning tree.
+	 *
+	 * @see RankAssignmentSolver
+	 */
+	void solveRankAssignment() {
+		initCutValues();
+		int count = 0;
+		int leave;
+		while ((leave = leave()) != -1 && count < MAX_ITERATIONS) {
+			count++;
+
+			int leaveTail = getTreeTail(leave);
+			int leaveHead = getTreeHead(leave);
+
+			int enter = enter(leaveTail);
+			if (enter == -1) {
+				break;
+			}
+
+			// Break the "leave" edge from the spanning tree
+			getChildren(leaveHead).remove(leave);
+			parentEdge[leaveTail] = -1;
+			tree[leave] = false;
+			removeNegative(leave);
+
+			int enterTail = source[enter];
+			if (!subtreeContains(leaveTail, enterTail)) {
+				// Oops, wrong end of the edge
+				enterTail = target[enter];
+			}
+			int enterHead = getOpposite(enter, enterTail);
+
+			// Prepare enterTail by making it the root of its sub-tree
+			updateSubgraph(enterTail);
+
+			// Add "enter" edge to the spanning tree
+			getChildren(enterHead).add(enter);
+			parentEdge[enterTail] = enter;
+			tree[enter] = true;
+
+			repairCutValues(enter);
+
+			int commonAncestor = enterHead;
+			while (!subtreeContains(commonAncestor, leaveHead)) {
+				repairCutValues(parentEdge[commonAncestor]);
+				commonAncestor = getTreeParent(commonAncestor);
+			}
+			while (leaveHead != commonAncestor) {
+				repairCutValues(parentEdge[leaveHead]);
+				leaveHead = getTreeParent(leaveHead);
+			}
+			updateMinMax(commonAncestor, treeMin[commonAncestor]);
+			tightenEdge(enter);
+		}
+	}
+
+	private void initCutValues() {
+		int root = 0;
+		treeMin[root] = 1;
+		treeMax[root] = 1;
+		IntList rootChildren = getChildren(root);
+		for (int i = adjacencyStart[root]; i < adjacencyStart[root + 1]; i++) {
+			if (rootChildren.contains(adjacency[i])) {
+				treeMax[root] = depthFirstCutValue(adjacency[i], treeMax[root]);
+			}
+		}
+		nodeAt[treeMax[root]] = root;
+		numbered = true;
+	}
+
+	/**
+	 * Computes the cut values of the given tree edge and all tree edges below.
+	 * Post-order numbers are assigned to the nodes of the subtree, starting with
+	 * the given count.
+	 *
+	 * @return the next unused number
+	 */
+	private int depthFirstCutValue(int rootEdge, int count) {
+		int top = 0;
+		int node = getTreeTail(rootEdge);
+		treeMin[node] = count;
+		stackEdge[0] = rootEdge;
+		stackNode[0] = node;
+		stackPosition[0] = adjacencyStart[node];
+		stackValue[0] = 0;
+		while (top >= 0) {
+			int edge = stackEdge[top];
+			node = stackNode[top];
+			int multiplier = (target[edge] == node) ? 1 : -1;
+			int cutValue = stackValue[top];
+			int i = stackPosition[top];
+			boolean descend = false;
+			for (; i < adjacencyStart[node + 1]; i++) {
+				int e = adjacency[i];
+				if (tree[e] && e != edge) {
+					descend = true;
+					break;
+				}
+				if (i < incomingStart[node]) {
+					cutValue -= weight[e] * multiplier;
+				} else {
+					cutValue += weight[e] * multiplier;
+				}
+			}
+			if (descend) {
+				// Continues after the child edge, once its subtree is done
+				stackPosition[top] = i + 1;
+				stackValue[top] = cutValue;
+				int e = adjacency[i];
+				int child = getTreeTail(e);
+				treeMin[child] = count;
+				top++;
+				stackEdge[top] = e;
+				stackNode[top] = child;
+				stackPosition[top] = adjacencyStart[child];
+				stackValue[top] = 0;
+				continue;
+			}
+
+			cut[edge] = cutValue;
+			if (cutValue < 0) {
+				addNegative(edge);
+			}
+			treeMax[node] = count;
+			nodeAt[count] = node;
+			count++;
+			top--;
+			if (top >= 0) {
+				int parent = stackNode[top];
+				int parentMultiplier = (target[stackEdge[top]] == parent) ? 1 : -1;
+				if (stackPosition[top] - 1 < incomingStart[parent]) {
+					stackValue[top] += (cut[edge] - weight[edge]) * parentMultiplier;
+				} else {
+					stackValue[top] -= (cut[edge] - weight[edge]) * parentMultiplier;
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the edge which should be entered. This is the non-tree edge with the
+	 * minimum slack between the subtree of the given node and the rest of the
+	 * tree, in the direction of the leaving edge. Equal edges are resolved in
+	 * favor of the highest node index within the subtree, then of the first edge
+	 * of that node. Either the subtree or the remaining nodes are visited,
+	 * whichever is smaller.
+	 */
+	private int enter(int branch) {
+		boolean incoming = target[parentEdge[branch]] != branch;
+		int min = treeMin[branch];
+		int max = treeMax[branch];
+		int total = treeMax[0];
+		int result = -1;
+		int resultNode = -1;
+		int resultPosition = -1;
+		int minSlack = Integer.MAX_VALUE;
+		if (max - min + 1 <= total - (max - min + 1)) {
+			for (int k = min; k <= max; k++) {
+				int n = nodeAt[k];
+				int start = incoming ? incomingStart[n] : adjacencyStart[n];
+				int end = incoming ? adjacencyStart[n + 1] : incomingStart[n];
+				for (int i = start; i < end; i++) {
+					int e = adjacency[i];
+					if (tree[e] || subtreeContains(branch, getOpposite(e, n))) {
+						continue;
+					}
+					int slack = getSlack(e);
+					if (slack < minSlack || (result != -1 && slack == minSlack && n > resultNode)) {
+						result = e;
+						resultNode = n;
+						minSlack = slack;
+					}
+				}
+			}
+			return result;
+		}
+		for (int k = 1; k <= total; k++) {
+			if (k == min) {
+				k = max;
+				continue;
+			}
+			int m = nodeAt[k];
+			// The edges from the outside, which are incoming or outgoing edges of
+			// the nodes in the subtree
+			int start = incoming ? adjacencyStart[m] : incomingStart[m];
+			int end = incoming ? incomingStart[m] : adjacencyStart[m + 1];
+			for (int i = start; i < end; i++) {
+				int e = adjacency[i];
+				int n = getOpposite(e, m);
+				if (tree[e] || !subtreeContains(branch, n)) {
+					continue;
+				}
+				int position = incoming ? incomingPosition[e] : outgoingPosition[e];
+				int slack = getSlack(e);
+				if (slack < minSlack || (result != -1 && slack == minSlack
+						&& (n > resultNode || (n == resultNode && position < resultPosition)))) {
+					result = e;
+					resultNode = n;
+					resultPosition = position;
+					minSlack = slack;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the edge which should leave the tree. This is the first edge with
+	 * the minimum negative cut value, unless a later edge with the same cut value
+	 * has a greater weight. Edges with a cut value of zero are never in the list,
+	 * so -1 is returned once all cut values are non-negative.
+	 */
+	private int leave() {
+		int result = -1;
+		int minCut = 0;
+		int maxWeight = -1;
+		for (int i = 0; i < negativeEdges.size; i++) {
+			int e = negativeEdges.values[i];
+			if (cut[e] < minCut) {
+				result = e;
+				minCut = cut[e];
+				maxWeight = weight[e];
+			} else if (cut[e] == minCut && weight[e] > maxWeight) {
+				result = e;
+				maxWeight = weight[e];
+			}
+		}
+		return result;
+	}
+
+	private void repairCutValues(int edge) {
+		removeNegative(edge);
+		int node = getTreeTail(edge);
+		int cutValue = 0;
+		int multiplier = (target[edge] == node) ? 1 : -1;
+		for (int i = adjacencyStart[node]; i < incomingStart[node]; i++) {
+			int e = adjacency[i];
+			if (tree[e] && e != edge) {
+				cutValue += (cut[e] - weight[e]) * multiplier;
+			} else {
+				cutValue -= weight[e] * multiplier;
+			}
+		}
+		for (int i = incomingStart[node]; i < adjacencyStart[node + 1]; i++) {
+			int e = adjacency[i];
+			if (tree[e] && e != edge) {
+				cutValue -= (cut[e] - weight[e]) * multiplier;
+			} else {
+				cutValue += weight[e] * multiplier;
+			}
+		}
+		cut[edge] = cutValue;
+		if (cutValue < 0) {
+			addNegative(edge);
+		}
+	}
+
+	private void addNegative(int e) {
+		negativeEdges.add(e);
+		isNegative[e] = true;
+	}
+
+	private void removeNegative(int e) {
+		if (isNegative[e]) {
+			negativeEdges.remove(e);
+			isNegative[e] = false;
+		}
+	}
+
+	private void tightenEdge(int edge) {
+		int tail = getTreeTail(edge);
+		int change = getSlack(edge);
+		if (tail == target[edge]) {
+			change = -change;
+		}
+		for (int k = treeMin[tail]; k <= treeMax[tail]; k++) {
+			rank[nodeAt[k]] += change;
+		}
+	}
+
+	/**
+	 * Assigns new post-order numbers to the subtree of the given node, starting
+	 * with the given count.
+	 */
+	private void updateMinMax(int root, int count) {
+		int top = 0;
+		treeMin[root] = count;
+		stackNode[0] = root;
+		stackPosition[0] = 0;
+		while (top >= 0) {
+			int node = stackNode[top];
+			IntList nodeChildren = children[node];
+			int i = stackPosition[top];
+			if (nodeChildren != null && i < nodeChildren.size) {
+				stackPosition[top] = i + 1;
+				int child = getTreeTail(nodeChildren.values[i]);
+				treeMin[child] = count;
+				top++;
+				stackNode[top] = child;
+				stackPosition[top] = 0;
+			} else {
+				treeMax[node] = count;
+				nodeAt[count] = node;
+				count++;
+				top--;
+			}
+		}
+	}
+
+	/**
+	 * Makes the given node the root of its subtree, by reversing the parent edges
+	 * on the path to the current root.
+	 */
+	private void updateSubgraph(int root) {
+		int length = 0;
+		for (int node = root; parentEdge[node] != -1; node = getTreeParent(node)) {
+			int flip = parentEdge[node];
+			getChildren(getOpposite(flip, node)).remove(flip);
+			stackNode[length] = node;
+			stackEdge[length++] = flip;
+		}
+		for (int i = length - 1; i >= 0; i--) {
+			int node = stackNode[i];
+			int flip = stackEdge[i];
+			parentEdge[node] = -1;
+			parentEdge[getOpposite(flip, node)] = flip;
+			repairCutValues(flip);
+			getChildren(node).add(flip);
+		}
+	}
+
+	/**
+	 * Writes the ranks back to the nodes.
+	 */
+	void writeRanks() {
+		for (int i = 0; i < nodeCount; i++) {
+			nodes[i].rank = rank[i];
+		}
+	}
+
+	/**
+	 * Writes the spanning tree back to the graph. This includes the tree flag and
+	 * cut value of all edges, and the parent edge and the child edges of all nodes.
+	 * The post-order numbers of the nodes are written as well, once they have been
+	 * computed.
+	 *
+	 * @see SpanningTreeVisitor
+	 */
+	void writeSpanningTree() {
+		for (int i = 0; i < edgeCount; i++) {
+			edges[i].tree = tree[i];
+			edges[i].cut = cut[i];
+			edges[i].flag = flag[i];
+		}
+		for (int i = 0; i < nodeCount; i++) {
+			Node node = nodes[i];
+			EdgeList treeChildren = new EdgeList();
+			IntList list = children[i];
+			if (list != null) {
+				for (int j = 0; j < list.size; j++) {
+					treeChildren.add(edges[list.values[j]]);
+				}
+			}
+			node.workingData[0] = treeChildren;
+			node.workingData[1] = parentEdge[i] == -1 ? null : edges[parentEdge[i]];
+			if (numbered) {
+				node.workingInts[0] = treeMin[i];
+				node.workingInts[1] = treeMax[i];
+			}
+		}
+	}
+}
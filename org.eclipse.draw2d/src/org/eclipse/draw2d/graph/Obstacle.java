@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2010 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -28,6 +28,7 @@ import org.eclipse.draw2d.geometry.Rectangle;
 class Obstacle extends Rectangle {
 
 	boolean exclude;
+	int index;
 	Vertex topLeft;
 	Vertex topRight;
 	Vertex bottomLeft;
@@ -56,6 +57,17 @@ class Obstacle extends Rectangle {
 		return p.x > this.x && p.x < this.x + this.width - 1 && p.y > this.y && p.y < this.y + this.height - 1;
 	}
 
+	/**
+	 * Returns the maximum distance by which one of the vertices of this obstacle
+	 * has been grown.
+	 *
+	 * @return the distance along the x or y axis
+	 */
+	int getGrowth() {
+		return Math.max(Math.max(topLeft.getGrowth(), topRight.getGrowth()),
+				Math.max(bottomLeft.getGrowth(), bottomRight.getGrowth()));
+	}
+
 	public int getSpacing() {
 		return router.getSpacing();
 	}
@@ -100,6 +112,21 @@ class Obstacle extends Rectangle {
 		center = new Vertex(getCenter(), this);
 	}
 
+	/**
+	 * Sets the index of this obstacle among all obstacles of the router and
+	 * assigns the ids of its vertices accordingly.
+	 *
+	 * @param index the index of this obstacle
+	 * @see VisibilityGraph
+	 */
+	void setIndex(int index) {
+		this.index = index;
+		topLeft.id = 4 * index;
+		topRight.id = 4 * index + 1;
+		bottomLeft.id = 4 * index + 2;
+		bottomRight.id = 4 * index + 3;
+	}
+
 	/**
 	 * Requests a full reset on all four vertices of this obstacle.
 	 */
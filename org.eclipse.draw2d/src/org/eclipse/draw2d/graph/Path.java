@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2023 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -67,6 +67,10 @@ public class Path {
 	 * object.
 	 */
 	public Object data;
+	/**
+	 * The length of the shortest path found by the last search.
+	 */
+	double cost;
 	List<Obstacle> excludedObstacles;
 	List<Segment> grownSegments;
 	/**
@@ -87,6 +91,10 @@ public class Path {
 	List<Segment> segments;
 
 	private final SegmentStack stack;
+	/**
+	 * The visibility graph while the shortest path is searched.
+	 */
+	private VisibilityGraph graph;
 	Vertex start, end;
 	private Path subPath;
 	double threshold;
@@ -263,17 +271,17 @@ public class Path {
 	 * @param segment      the segment
 	 * @param exclude1     an obstacle to exclude from the search
 	 * @param exclude2     another obstacle to exclude from the search
-	 * @param allObstacles the list of all obstacles
+	 * @param router       the router providing the obstacles
 	 */
-	private void addSegment(Segment segment, Obstacle exclude1, Obstacle exclude2, List<Obstacle> allObstacles) {
+	private void addSegment(Segment segment, Obstacle exclude1, Obstacle exclude2, ShortestPathRouter router) {
 		if (threshold != 0 && (segment.end.getDistance(end) + segment.end.getDistance(start) > threshold
 				|| segment.start.getDistance(end) + segment.start.getDistance(start) > threshold)) {
 			return;
 		}
 
-		for (Obstacle obs : allObstacles) {
+		for (Obstacle obs : router.getObstacles(segment)) {
 
-			if (obs == exclude1 || obs == exclude2 || obs.exclude) {
+			if (obs == exclude1 || obs == exclude2 || graph.isExcluded(obs)) {
 				continue;
 			}
 
@@ -485,15 +493,15 @@ public class Path {
 	/**
 	 * Begins the creation of the visibility graph with the first segment
 	 *
-	 * @param allObstacles list of all obstacles
+	 * @param router the router providing the obstacles
 	 */
-	private void createVisibilityGraph(List<Obstacle> allObstacles) {
+	private void createVisibilityGraph(ShortestPathRouter router) {
 		stack.push(null);
 		stack.push(null);
 		stack.push(new Segment(start, end));
 
 		while (!stack.isEmpty()) {
-			addSegment(stack.pop(), stack.popObstacle(), stack.popObstacle(), allObstacles);
+			addSegment(stack.pop(), stack.popObstacle(), stack.popObstacle(), router);
 		}
 	}
 
@@ -508,11 +516,12 @@ public class Path {
 			return false;
 		}
 		Vertex vertex = end;
-		prevCostRatio = end.cost / start.getDistance(end);
+		cost = graph.cost[graph.getId(end)];
+		prevCostRatio = cost / start.getDistance(end);
 
 		Vertex nextVertex;
 		while (!vertex.equals(start)) {
-			nextVertex = vertex.label;
+			nextVertex = graph.label[graph.getId(vertex)];
 			if (nextVertex == null) {
 				return false;
 			}
@@ -545,17 +554,22 @@ public class Path {
 	 * Creates the visibility graph and returns whether or not a shortest path could
 	 * be determined.
 	 *
-	 * @param allObstacles the list of all obstacles
+	 * @param router the router providing the obstacles
 	 * @return true if a shortest path was found
 	 */
-	boolean generateShortestPath(List<Obstacle> allObstacles) {
-		createVisibilityGraph(allObstacles);
+	boolean generateShortestPath(ShortestPathRouter router) {
+		graph = new VisibilityGraph(router, start, end);
+		try {
+			createVisibilityGraph(router);
 
-		if (visibleVertices.isEmpty()) {
-			return false;
-		}
+			if (visibleVertices.isEmpty()) {
+				return false;
+			}
 
-		return determineShortestPath();
+			return determineShortestPath();
+		} finally {
+			graph = null;
+		}
 	}
 
 	/**
@@ -653,41 +667,38 @@ public class Path {
 	private boolean labelGraph() {
 		int numPermanentNodes = 1;
 		Vertex vertex = start;
-		Vertex neighborVertex = null;
-		vertex.isPermanent = true;
+		int id = graph.getId(vertex);
+		graph.isPermanent[id] = true;
 		double newCost;
 		while (numPermanentNodes != visibleVertices.size()) {
-			List<Vertex> neighbors = vertex.neighbors;
+			List<Vertex> neighbors = graph.getNeighbors(vertex);
 			if (neighbors == null) {
 				return false;
 			}
 			// label neighbors if they have a new shortest path
 			for (Vertex neighbor : neighbors) {
-				neighborVertex = neighbor;
-				if (!neighborVertex.isPermanent) {
-					newCost = vertex.cost + vertex.getDistance(neighborVertex);
-					if (neighborVertex.label == null) {
-						neighborVertex.label = vertex;
-						neighborVertex.cost = newCost;
-					} else if (neighborVertex.cost > newCost) {
-						neighborVertex.label = vertex;
-						neighborVertex.cost = newCost;
+				int neighborId = graph.getId(neighbor);
+				if (!graph.isPermanent[neighborId]) {
+					newCost = graph.cost[id] + vertex.getDistance(neighbor);
+					if (graph.label[neighborId] == null || graph.cost[neighborId] > newCost) {
+						graph.label[neighborId] = vertex;
+						graph.cost[neighborId] = newCost;
 					}
 				}
 			}
 			// find the next none-permanent, labeled vertex with smallest cost
 			double smallestCost = 0;
-			Vertex tempVertex = null;
 			for (Vertex visibleVertex : visibleVertices) {
-				tempVertex = visibleVertex;
-				if (!tempVertex.isPermanent && tempVertex.label != null
-						&& (tempVertex.cost < smallestCost || smallestCost == 0)) {
-					smallestCost = tempVertex.cost;
-					vertex = tempVertex;
+				int visibleId = graph.getId(visibleVertex);
+				if (!graph.isPermanent[visibleId] && graph.label[visibleId] != null
+						&& (graph.cost[visibleId] < smallestCost || smallestCost == 0)) {
+					smallestCost = graph.cost[visibleId];
+					vertex = visibleVertex;
+					id = visibleId;
 				}
 			}
 			// set the new vertex to permanent.
-			vertex.isPermanent = true;
+			graph.isPermanent[id] = true;
 			numPermanentNodes++;
 		}
 		return true;
@@ -699,18 +710,7 @@ public class Path {
 	 * @param segment the segment to add
 	 */
 	private void linkVertices(Segment segment) {
-		if (segment.start.neighbors == null) {
-			segment.start.neighbors = new ArrayList<>();
-		}
-		if (segment.end.neighbors == null) {
-			segment.end.neighbors = new ArrayList<>();
-		}
-
-		if (!segment.start.neighbors.contains(segment.end)) {
-			segment.start.neighbors.add(segment.end);
-			segment.end.neighbors.add(segment.start);
-		}
-
+		graph.link(segment);
 		visibleVertices.add(segment.start);
 		visibleVertices.add(segment.end);
 	}
@@ -741,40 +741,27 @@ public class Path {
 	}
 
 	/**
-	 * Refreshes the exclude field on the obstacles in the list. Excludes all
-	 * obstacles that contain the start or end point for this path.
+	 * Refreshes the list of obstacles that contain the start or end point for this
+	 * path. Obstacles with the same bounds are only listed once.
 	 *
-	 * @param allObstacles list of all obstacles
+	 * @param router the router providing the obstacles
 	 */
-	void refreshExcludedObstacles(List<Obstacle> allObstacles) {
+	void refreshExcludedObstacles(ShortestPathRouter router) {
 		excludedObstacles.clear();
-
-		for (Obstacle o : allObstacles) {
-			o.exclude = false;
-
-			if (o.contains(start)) {
-				if (o.containsProper(start)) {
-					o.exclude = true;
-				} else {
-					/*
-					 * $TODO Check for corners. If the path begins exactly at the corner of an
-					 * obstacle, the exclude should also be true.
-					 *
-					 * Or, change segment intersection so that two segments that share an endpoint
-					 * do not intersect.
-					 */
-				}
-			}
-
-			if (o.contains(end)) {
-				if (o.containsProper(end)) {
-					o.exclude = true;
-				} else {
-					// check for corners. See above statement.
-				}
-			}
-
-			if (o.exclude && !excludedObstacles.contains(o)) {
+		excludeObstacles(router.getObstacles(start.x, start.y, start.x, start.y));
+		excludeObstacles(router.getObstacles(end.x, end.y, end.x, end.y));
+	}
+
+	private void excludeObstacles(List<Obstacle> candidates) {
+		for (Obstacle o : candidates) {
+			/*
+			 * $TODO Check for corners. If the path begins exactly at the corner of an
+			 * obstacle, the exclude should also be true.
+			 *
+			 * Or, change segment intersection so that two segments that share an endpoint
+			 * do not intersect.
+			 */
+			if ((o.containsProper(start) || o.containsProper(end)) && !excludedObstacles.contains(o)) {
 				excludedObstacles.add(o);
 			}
 		}
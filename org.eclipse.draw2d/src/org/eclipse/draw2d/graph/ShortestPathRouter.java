@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2023 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -66,7 +66,14 @@ public class ShortestPathRouter {
 	 */
 	private static final int NUM_GROW_PASSES = 2;
 
+	/**
+	 * The number of changes to the obstacles between two solves, after which the
+	 * paths are indexed.
+	 */
+	private static final int PATH_INDEX_THRESHOLD = 8;
+
 	private int spacing = 4;
+	private boolean parallelSolvingEnabled;
 	private boolean growPassChangedObstacles;
 	private List<Path> orderedPaths;
 	private final Map<Path, List<Path>> pathsToChildPaths;
@@ -78,6 +85,29 @@ public class ShortestPathRouter {
 	private final List<Path> userPaths;
 	private final List<Path> workingPaths;
 
+	/**
+	 * The obstacles by their bounds, in the same order as {@link #userObstacles}.
+	 */
+	private final SpatialGrid<Obstacle> obstacleGrid = new SpatialGrid<>();
+
+	/**
+	 * The clean working paths by the segments of their current points and by the
+	 * obstacles in their visibility graphs. The path index is only created once
+	 * multiple obstacles have been changed since the last solve, as it then
+	 * replaces a search over all paths for each change. It is discarded by the
+	 * next solve.
+	 */
+	private final SpatialGrid<Path> segmentGrid = new SpatialGrid<>();
+	private final Map<Obstacle, List<Path>> pathsByVisibleObstacle = new HashMap<>();
+	private boolean pathIndexValid;
+	private int changesSinceSolve;
+
+	/**
+	 * The maximum distance by which a vertex has been moved away from its
+	 * obstacle, while the obstacles are grown.
+	 */
+	private int growth;
+
 	/**
 	 * Creates a new shortest path routing.
 	 */
@@ -161,7 +191,7 @@ public class ShortestPathRouter {
 
 		int xDist, yDist;
 
-		for (Obstacle obs : userObstacles) {
+		for (Obstacle obs : getObstacles(r.x, r.y, r.right(), r.bottom())) {
 			if (obs != vertex.obs && r.intersects(obs)) {
 				int pos = obs.getPosition(vertex);
 				if (pos == 0) {
@@ -280,6 +310,15 @@ public class ShortestPathRouter {
 		return v1;
 	}
 
+	/**
+	 * Returns the number of obstacles.
+	 *
+	 * @return the number of obstacles
+	 */
+	int getObstacleCount() {
+		return userObstacles.size();
+	}
+
 	/**
 	 * Returns the spacing maintained between paths.
 	 *
@@ -323,8 +362,10 @@ public class ShortestPathRouter {
 	 */
 	private void growObstaclesPass() {
 		// grow obstacles
+		growth = 0;
 		for (Obstacle userObstacle : userObstacles) {
 			userObstacle.growVertices();
+			growth = Math.max(growth, userObstacle.getGrowth());
 		}
 
 		// go through paths and test segments
@@ -365,6 +406,7 @@ public class ShortestPathRouter {
 	 */
 	private boolean internalAddObstacle(Obstacle obs) {
 		userObstacles.add(obs);
+		obstacleGrid.add(obs, obs.x, obs.y, obs.right(), obs.bottom());
 		return testAndDirtyPaths(obs);
 	}
 
@@ -386,6 +428,7 @@ public class ShortestPathRouter {
 		}
 
 		userObstacles.remove(index);
+		obstacleGrid.remove(obs, obs.x, obs.y, obs.right(), obs.bottom());
 
 		boolean result = false;
 		result |= dirtyPathsOn(obs.bottomLeft);
@@ -393,7 +436,11 @@ public class ShortestPathRouter {
 		result |= dirtyPathsOn(obs.bottomRight);
 		result |= dirtyPathsOn(obs.topRight);
 
-		for (Path path : workingPaths) {
+		List<Path> paths = workingPaths;
+		if (isPathIndexUsed()) {
+			paths = pathsByVisibleObstacle.getOrDefault(obs, Collections.emptyList());
+		}
+		for (Path path : paths) {
 			if (path.isDirty) {
 				continue;
 			}
@@ -613,6 +660,7 @@ public class ShortestPathRouter {
 	 */
 	public boolean removePath(Path path) {
 		userPaths.remove(path);
+		pathIndexValid = false;
 		List<Path> children = pathsToChildPaths.get(path);
 		if (children == null) {
 			workingPaths.remove(path);
@@ -622,15 +670,6 @@ public class ShortestPathRouter {
 		return true;
 	}
 
-	/**
-	 * Resets exclude field on all obstacles
-	 */
-	private void resetObstacleExclusions() {
-		for (Obstacle userObstacle : userObstacles) {
-			userObstacle.exclude = false;
-		}
-	}
-
 	/**
 	 * Resets all vertices found on paths and obstacles.
 	 */
@@ -645,6 +684,32 @@ public class ShortestPathRouter {
 		}
 	}
 
+	/**
+	 * Returns whether the shortest paths of multiple dirty paths are searched in
+	 * parallel.
+	 *
+	 * @return <code>true</code> if paths are solved in parallel
+	 * @see #setParallelSolvingEnabled(boolean)
+	 * @since 3.20
+	 */
+	public boolean isParallelSolvingEnabled() {
+		return parallelSolvingEnabled;
+	}
+
+	/**
+	 * Enables or disables the parallel search for the shortest paths of multiple
+	 * dirty paths. The paths are then solved on the common
+	 * {@link java.util.concurrent.ForkJoinPool ForkJoinPool}, before they are
+	 * offset from each other. The result is the same as when the paths are solved
+	 * one after another. Parallel solving is disabled by default.
+	 *
+	 * @param enabled <code>true</code> to solve paths in parallel
+	 * @since 3.20
+	 */
+	public void setParallelSolvingEnabled(boolean enabled) {
+		parallelSolvingEnabled = enabled;
+	}
+
 	/**
 	 * Sets the default spacing between paths. The spacing is the minimum distance
 	 * that path should be offset from other paths or obstacles. The default value
@@ -665,6 +730,8 @@ public class ShortestPathRouter {
 	 * @return returns the list of paths which were updated.
 	 */
 	public List<Path> solve() {
+		pathIndexValid = false;
+		changesSinceSolve = 0;
 
 		solveDirtyPaths();
 
@@ -697,8 +764,6 @@ public class ShortestPathRouter {
 	 * @return number of dirty paths
 	 */
 	private int solveDirtyPaths() {
-		int numSolved = 0;
-
 		for (Path path : userPaths) {
 			if (!path.isDirty) {
 				continue;
@@ -722,35 +787,48 @@ public class ShortestPathRouter {
 			refreshChildrenEndpoints(path, children);
 		}
 
+		for (int i = 0; i < userObstacles.size(); i++) {
+			userObstacles.get(i).setIndex(i);
+		}
+
+		List<Path> dirtyPaths = new ArrayList<>();
 		for (Path path : workingPaths) {
-			path.refreshExcludedObstacles(userObstacles);
+			path.refreshExcludedObstacles(this);
 			if (!path.isDirty) {
 				path.resetPartial();
 				continue;
 			}
+			dirtyPaths.add(path);
+		}
 
-			numSolved++;
-			path.fullReset();
+		// The search only reads the obstacles, the state of each path is kept in
+		// its own visibility graph
+		if (parallelSolvingEnabled && dirtyPaths.size() > 1) {
+			dirtyPaths.parallelStream().forEach(this::solvePath);
+		} else {
+			dirtyPaths.forEach(this::solvePath);
+		}
 
-			boolean pathFoundCheck = path.generateShortestPath(userObstacles);
-			if (!pathFoundCheck || path.end.cost > path.threshold) {
-				// path not found, or path found was too long
-				resetVertices();
-				path.fullReset();
-				path.threshold = 0;
-				pathFoundCheck = path.generateShortestPath(userObstacles);
-			}
+		resetVertices();
 
-			resetVertices();
-		}
+		return dirtyPaths.size();
+	}
 
-		resetObstacleExclusions();
+	/**
+	 * Searches the shortest path for the given path.
+	 *
+	 * @param path the dirty path
+	 */
+	private void solvePath(Path path) {
+		path.fullReset();
 
-		if (numSolved == 0) {
-			resetVertices();
+		boolean pathFoundCheck = path.generateShortestPath(this);
+		if (!pathFoundCheck || path.cost > path.threshold) {
+			// path not found, or path found was too long
+			path.fullReset();
+			path.threshold = 0;
+			path.generateShortestPath(this);
 		}
-
-		return numSolved;
 	}
 
 	/**
@@ -824,7 +902,11 @@ public class ShortestPathRouter {
 	 * @return 1 if new segments have been inserted
 	 */
 	private int testOffsetSegmentForIntersections(Segment segment, int index, Path path) {
-		for (Obstacle obs : userObstacles) {
+		// The corners of the obstacles are tested with an additional offset
+		int margin = growth + getSpacing();
+		for (Obstacle obs : getObstacles(Math.min(segment.start.x, segment.end.x) - margin,
+				Math.min(segment.start.y, segment.end.y) - margin, Math.max(segment.start.x, segment.end.x) + margin,
+				Math.max(segment.start.y, segment.end.y) + margin)) {
 
 			if (segment.end.obs == obs || segment.start.obs == obs || obs.exclude) {
 				continue;
@@ -874,6 +956,7 @@ public class ShortestPathRouter {
 				vertex.shrink();
 				checkVertexForIntersections(vertex);
 				vertex.grow();
+				growth = Math.max(growth, vertex.getGrowth());
 
 				if (vertex.nearestObstacle != 0) {
 					vertex.updateOffset();
@@ -904,13 +987,89 @@ public class ShortestPathRouter {
 	 * @param obs the obstacle
 	 */
 	private boolean testAndDirtyPaths(Obstacle obs) {
+		List<Path> paths = workingPaths;
+		if (isPathIndexUsed()) {
+			paths = segmentGrid.query(obs.x, obs.y, obs.right(), obs.bottom());
+		}
 		boolean result = false;
-		for (Path path : workingPaths) {
+		for (Path path : paths) {
 			result |= path.testAndSet(obs);
 		}
 		return result;
 	}
 
+	/**
+	 * Counts a change to the obstacles and returns whether the paths affected by
+	 * the change are looked up via the path index. The index is created once
+	 * enough changes have been made since the last solve.
+	 *
+	 * @return <code>true</code> if the path index is valid
+	 */
+	private boolean isPathIndexUsed() {
+		if (!pathIndexValid && ++changesSinceSolve > PATH_INDEX_THRESHOLD) {
+			createPathIndex();
+		}
+		return pathIndexValid;
+	}
+
+	/**
+	 * Indexes all clean working paths. Dirty paths are not indexed, as they are
+	 * solved again anyway and can't become clean before the next solve.
+	 */
+	private void createPathIndex() {
+		segmentGrid.clear();
+		pathsByVisibleObstacle.clear();
+		Point current = new Point();
+		Point next = new Point();
+		for (Path path : workingPaths) {
+			if (path.isDirty) {
+				continue;
+			}
+			for (int s = 0; s < path.points.size() - 1; s++) {
+				path.points.getPoint(current, s);
+				path.points.getPoint(next, s + 1);
+				segmentGrid.addLine(path, current.x, current.y, next.x, next.y);
+			}
+			for (Obstacle obs : path.visibleObstacles) {
+				pathsByVisibleObstacle.computeIfAbsent(obs, key -> new ArrayList<>()).add(path);
+			}
+		}
+		pathIndexValid = true;
+	}
+
+	/**
+	 * Returns all obstacles whose bounds may touch the given box, in the same
+	 * order as they have been added to this router. The box contains both its
+	 * minimum and maximum coordinates.
+	 *
+	 * @param x1 the minimum x coordinate of the box
+	 * @param y1 the minimum y coordinate of the box
+	 * @param x2 the maximum x coordinate of the box
+	 * @param y2 the maximum y coordinate of the box
+	 * @return the candidates, which need to be tested by the caller
+	 */
+	List<Obstacle> getObstacles(int x1, int y1, int x2, int y2) {
+		if (SpatialGrid.getCellCount(x1, y1, x2, y2) > userObstacles.size()) {
+			return userObstacles;
+		}
+		return obstacleGrid.query(x1, y1, x2, y2);
+	}
+
+	/**
+	 * Returns all obstacles whose bounds may touch the given segment, in the same
+	 * order as they have been added to this router.
+	 *
+	 * @param segment the segment
+	 * @return the candidates, which need to be tested by the caller
+	 */
+	List<Obstacle> getObstacles(Segment segment) {
+		if (SpatialGrid.getLineCellCount(segment.start.x, segment.start.y, segment.end.x,
+				segment.end.y) > userObstacles.size()) {
+			return userObstacles;
+		}
+		return obstacleGrid.queryLine(segment.start.x, segment.start.y, segment.end.x, segment.end.y);
+	}
+
 	/**
 	 * Updates the position of an existing obstacle.
 	 *
@@ -0,0 +1,300 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.graph;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A sparse uniform grid over axis-aligned boxes, which is used by the
+ * {@link ShortestPathRouter} to find the obstacles and paths near a given area
+ * without visiting all of them. Boxes are closed, i.e. a box contains both its
+ * minimum and maximum coordinates.
+ * <p>
+ * Queries return a superset of the elements whose boxes touch the requested
+ * area, which still need to be tested by the caller. The candidates are
+ * returned in the order in which they have been added, so that a search over
+ * the candidates yields the same result as a search over all elements. Elements
+ * spanning a large number of cells are not put into the grid and are returned
+ * by every query instead.
+ * <p>
+ * This class is for internal use only.
+ *
+ * @param <T> the type of the elements
+ */
+final class SpatialGrid<T> {
+
+	private static final int CELL_SIZE = 128;
+	private static final int MAX_CELLS_PER_ENTRY = 64;
+
+	private static final class Entry<T> {
+		private final T element;
+		private final int order;
+
+		private Entry(T element, int order) {
+			this.element = element;
+			this.order = order;
+		}
+	}
+
+	private final Map<Long, List<Entry<T>>> cells = new HashMap<>();
+	private final List<Entry<T>> unindexed = new ArrayList<>();
+	private int nextOrder;
+
+	/**
+	 * Adds an element with the given box. An element may be added multiple times
+	 * with different boxes. If this happens consecutively, it is returned at most
+	 * once per query.
+	 *
+	 * @param element the element
+	 * @param x1      the minimum x coordinate of the box
+	 * @param y1      the minimum y coordinate of the box
+	 * @param x2      the maximum x coordinate of the box
+	 * @param y2      the maximum y coordinate of the box
+	 */
+	void add(T element, int x1, int y1, int x2, int y2) {
+		Entry<T> entry = new Entry<>(element, nextOrder++);
+		if (getCellCount(x1, y1, x2, y2) > MAX_CELLS_PER_ENTRY) {
+			unindexed.add(entry);
+			return;
+		}
+		for (int cx = cell(x1); cx <= cell(x2); cx++) {
+			for (int cy = cell(y1); cy <= cell(y2); cy++) {
+				cells.computeIfAbsent(key(cx, cy), k -> new ArrayList<>(4)).add(entry);
+			}
+		}
+	}
+
+	/**
+	 * Adds an element with the line segment between the given points. Only the
+	 * cells crossed by the line segment are occupied, instead of all cells covered
+	 * by its bounding box.
+	 *
+	 * @param element the element
+	 * @param x1      the x coordinate of the start point
+	 * @param y1      the y coordinate of the start point
+	 * @param x2      the x coordinate of the end point
+	 * @param y2      the y coordinate of the end point
+	 * @see #add(Object, int, int, int, int)
+	 */
+	void addLine(T element, int x1, int y1, int x2, int y2) {
+		if (x1 > x2) {
+			addLine(element, x2, y2, x1, y1);
+			return;
+		}
+		Entry<T> entry = new Entry<>(element, nextOrder++);
+		if (getLineCellCount(x1, y1, x2, y2) > MAX_CELLS_PER_ENTRY) {
+			unindexed.add(entry);
+			return;
+		}
+		for (int cx = cell(x1); cx <= cell(x2); cx++) {
+			int lastRow = getLastRow(cx, x1, y1, x2, y2);
+			for (int cy = getFirstRow(cx, x1, y1, x2, y2); cy <= lastRow; cy++) {
+				cells.computeIfAbsent(key(cx, cy), k -> new ArrayList<>(4)).add(entry);
+			}
+		}
+	}
+
+	/**
+	 * Removes an element which has been added with the given box.
+	 *
+	 * @param element the element
+	 * @param x1      the minimum x coordinate of the box
+	 * @param y1      the minimum y coordinate of the box
+	 * @param x2      the maximum x coordinate of the box
+	 * @param y2      the maximum y coordinate of the box
+	 */
+	void remove(T element, int x1, int y1, int x2, int y2) {
+		if (getCellCount(x1, y1, x2, y2) > MAX_CELLS_PER_ENTRY) {
+			unindexed.removeIf(entry -> entry.element == element);
+			return;
+		}
+		for (int cx = cell(x1); cx <= cell(x2); cx++) {
+			for (int cy = cell(y1); cy <= cell(y2); cy++) {
+				Long key = key(cx, cy);
+				List<Entry<T>> cell = cells.get(key);
+				if (cell != null) {
+					cell.removeIf(entry -> entry.element == element);
+					if (cell.isEmpty()) {
+						cells.remove(key);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Removes all elements.
+	 */
+	void clear() {
+		cells.clear();
+		unindexed.clear();
+		nextOrder = 0;
+	}
+
+	/**
+	 * Returns the number of cells covered by the given box. Queries visiting more
+	 * cells than there are elements are slower than visiting all elements.
+	 *
+	 * @param x1 the minimum x coordinate of the box
+	 * @param y1 the minimum y coordinate of the box
+	 * @param x2 the maximum x coordinate of the box
+	 * @param y2 the maximum y coordinate of the box
+	 * @return the number of cells
+	 */
+	static long getCellCount(int x1, int y1, int x2, int y2) {
+		return ((long) cell(x2) - cell(x1) + 1) * ((long) cell(y2) - cell(y1) + 1);
+	}
+
+	/**
+	 * Returns the approximate number of cells crossed by the line segment between
+	 * the given points.
+	 *
+	 * @param x1 the x coordinate of the start point
+	 * @param y1 the y coordinate of the start point
+	 * @param x2 the x coordinate of the end point
+	 * @param y2 the y coordinate of the end point
+	 * @return the number of cells
+	 * @see #getCellCount(int, int, int, int)
+	 */
+	static long getLineCellCount(int x1, int y1, int x2, int y2) {
+		return Math.abs((long) cell(x2) - cell(x1)) + Math.abs((long) cell(y2) - cell(y1)) + 1;
+	}
+
+	/**
+	 * Returns all elements whose boxes may touch the given box, in the order in
+	 * which they have been added.
+	 *
+	 * @param x1 the minimum x coordinate of the box
+	 * @param y1 the minimum y coordinate of the box
+	 * @param x2 the maximum x coordinate of the box
+	 * @param y2 the maximum y coordinate of the box
+	 * @return the candidates
+	 */
+	List<T> query(int x1, int y1, int x2, int y2) {
+		List<Entry<T>> candidates = new ArrayList<>();
+		candidates.addAll(unindexed);
+		int cells = 0;
+		for (int cx = cell(x1); cx <= cell(x2); cx++) {
+			cells += collect(cx, cell(y1), cell(y2), candidates);
+		}
+		return toElements(candidates, cells);
+	}
+
+	/**
+	 * Returns all elements whose boxes may touch the line segment between the
+	 * given points, in the order in which they have been added. Only the cells
+	 * crossed by the line segment are visited, instead of all cells covered by its
+	 * bounding box.
+	 *
+	 * @param x1 the x coordinate of the start point
+	 * @param y1 the y coordinate of the start point
+	 * @param x2 the x coordinate of the end point
+	 * @param y2 the y coordinate of the end point
+	 * @return the candidates
+	 */
+	List<T> queryLine(int x1, int y1, int x2, int y2) {
+		if (x1 > x2) {
+			return queryLine(x2, y2, x1, y1);
+		}
+		List<Entry<T>> candidates = new ArrayList<>();
+		candidates.addAll(unindexed);
+		int cells = 0;
+		for (int cx = cell(x1); cx <= cell(x2); cx++) {
+			cells += collect(cx, getFirstRow(cx, x1, y1, x2, y2), getLastRow(cx, x1, y1, x2, y2), candidates);
+		}
+		return toElements(candidates, cells);
+	}
+
+	/**
+	 * Returns the first row of the cells in the given column which are crossed by
+	 * the line segment between the given points, with {@code x1 <= x2}.
+	 */
+	private static int getFirstRow(int cx, int x1, int y1, int x2, int y2) {
+		if (x1 == x2) {
+			return cell(Math.min(y1, y2));
+		}
+		// Widened by one pixel to compensate for rounding errors
+		return cell((int) Math.floor(Math.min(getY(Math.max(x1, cx * CELL_SIZE), x1, y1, x2, y2),
+				getY(Math.min(x2, cx * CELL_SIZE + CELL_SIZE), x1, y1, x2, y2))) - 1);
+	}
+
+	/**
+	 * Returns the last row of the cells in the given column which are crossed by
+	 * the line segment between the given points, with {@code x1 <= x2}.
+	 */
+	private static int getLastRow(int cx, int x1, int y1, int x2, int y2) {
+		if (x1 == x2) {
+			return cell(Math.max(y1, y2));
+		}
+		return cell((int) Math.ceil(Math.max(getY(Math.max(x1, cx * CELL_SIZE), x1, y1, x2, y2),
+				getY(Math.min(x2, cx * CELL_SIZE + CELL_SIZE), x1, y1, x2, y2))) + 1);
+	}
+
+	private static double getY(int x, int x1, int y1, int x2, int y2) {
+		return y1 + (double) (y2 - y1) * (x - x1) / (x2 - x1);
+	}
+
+	/**
+	 * Adds the entries of the given cells of a single column to the candidates.
+	 *
+	 * @return the number of non-empty cells
+	 */
+	private int collect(int cx, int cy1, int cy2, List<Entry<T>> candidates) {
+		int count = 0;
+		for (int cy = cy1; cy <= cy2; cy++) {
+			List<Entry<T>> cell = cells.get(key(cx, cy));
+			if (cell != null) {
+				// Not addAll(), which copies the cell into a temporary array
+				for (Entry<T> entry : cell) {
+					candidates.add(entry);
+				}
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Sorts the candidates by the order in which they have been added and removes
+	 * duplicates. The entries of a single cell are already sorted.
+	 */
+	private List<T> toElements(List<Entry<T>> candidates, int cellCount) {
+		if (cellCount > 1 || (cellCount == 1 && !unindexed.isEmpty())) {
+			candidates.sort((e1, e2) -> Integer.compare(e1.order, e2.order));
+		}
+		List<T> result = new ArrayList<>(candidates.size());
+		T previous = null;
+		for (Entry<T> entry : candidates) {
+			// Entries of the same element are adjacent after sorting
+			if (entry.element != previous) {
+				result.add(entry.element);
+				previous = entry.element;
+			}
+		}
+		return result;
+	}
+
+	private static int cell(int coordinate) {
+		return Math.floorDiv(coordinate, CELL_SIZE);
+	}
+
+	private static Long key(int cx, int cy) {
+		// Long.hashCode() is cx ^ cy for the plain key, which maps all cells on a
+		// diagonal to the same bucket. Multiplying by an odd constant is a
+		// bijection and spreads the bits of both coordinates.
+		return Long.valueOf((((long) cx << 32) | (cy & 0xFFFFFFFFL)) * 0x9E3779B97F4A7C15L);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2023 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -38,11 +38,11 @@ class Vertex extends Point {
 	static final int INNIE = 1;
 	static final int OUTIE = 2;
 
-	// for shortest path
-	List<Vertex> neighbors;
-	boolean isPermanent = false;
-	Vertex label;
-	double cost = 0;
+	/**
+	 * The index of this vertex in a {@link VisibilityGraph}, if this vertex is the
+	 * corner of an obstacle.
+	 */
+	int id;
 
 	// for routing
 	int nearestObstacle = 0;
@@ -130,15 +130,9 @@ class Vertex extends Point {
 		totalCount = 0;
 		type = NOT_SET;
 		count = 0;
-		cost = 0;
 		offset = getSpacing();
 		nearestObstacle = 0;
-		label = null;
 		nearestObstacleChecked = false;
-		isPermanent = false;
-		if (neighbors != null) {
-			neighbors.clear();
-		}
 		if (cachedCosines != null) {
 			cachedCosines.clear();
 		}
@@ -206,6 +200,16 @@ class Vertex extends Point {
 		}
 	}
 
+	/**
+	 * Returns the distance by which this vertex has been moved away from its
+	 * original location.
+	 *
+	 * @return the distance along the x or y axis, whichever is larger
+	 */
+	int getGrowth() {
+		return Math.max(Math.abs(x - origX), Math.abs(y - origY));
+	}
+
 	/**
 	 * Shrinks this vertex to its original size.
 	 */
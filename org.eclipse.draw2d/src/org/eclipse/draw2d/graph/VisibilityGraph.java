@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.graph;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The visibility graph of a single {@link Path} and the labels of the shortest
+ * path search over this graph. The state is kept in arrays indexed by the id of
+ * the vertices, instead of in the vertices, which are shared by all paths. The
+ * obstacles and their vertices are only read while the graph is built, so that
+ * multiple paths can be solved concurrently.
+ * <p>
+ * The vertices of the obstacles must have been assigned their ids via
+ * {@link Obstacle#setIndex(int)}. The start and end vertex of the path come
+ * after the vertices of all obstacles.
+ * <p>
+ * This class is for internal use only.
+ */
+final class VisibilityGraph {
+
+	private final Vertex start, end;
+	private final int startId;
+	private final List<Vertex>[] neighbors;
+	final Vertex[] label;
+	final double[] cost;
+	final boolean[] isPermanent;
+	private final boolean[] excluded;
+
+	/**
+	 * Creates an empty graph for a path between the given vertices. All obstacles
+	 * that properly contain the start or the end point are excluded.
+	 *
+	 * @param router the router providing the obstacles
+	 * @param start  the start vertex of the path
+	 * @param end    the end vertex of the path
+	 */
+	@SuppressWarnings("unchecked")
+	VisibilityGraph(ShortestPathRouter router, Vertex start, Vertex end) {
+		this.start = start;
+		this.end = end;
+		int obstacleCount = router.getObstacleCount();
+		startId = 4 * obstacleCount;
+		int size = startId + 2;
+		neighbors = new List[size];
+		label = new Vertex[size];
+		cost = new double[size];
+		isPermanent = new boolean[size];
+		excluded = new boolean[obstacleCount];
+		exclude(router.getObstacles(start.x, start.y, start.x, start.y));
+		exclude(router.getObstacles(end.x, end.y, end.x, end.y));
+	}
+
+	private void exclude(List<Obstacle> candidates) {
+		for (Obstacle obs : candidates) {
+			if (obs.containsProper(start) || obs.containsProper(end)) {
+				excluded[obs.index] = true;
+			}
+		}
+	}
+
+	/**
+	 * Returns the id of the given vertex, which is either the start or end vertex
+	 * of the path, or a vertex of an obstacle.
+	 *
+	 * @param vertex the vertex
+	 * @return the index of the vertex in the arrays of this graph
+	 */
+	int getId(Vertex vertex) {
+		if (vertex.obs != null) {
+			return vertex.id;
+		}
+		return vertex == start ? startId : startId + 1;
+	}
+
+	/**
+	 * Returns whether the given obstacle is ignored by the path, because it
+	 * contains the start or end point of the path.
+	 *
+	 * @param obs the obstacle
+	 * @return <code>true</code> if the obstacle is excluded
+	 */
+	boolean isExcluded(Obstacle obs) {
+		return excluded[obs.index];
+	}
+
+	/**
+	 * Returns the vertices linked to the given vertex or <code>null</code>, if the
+	 * vertex is not part of the graph.
+	 *
+	 * @param vertex the vertex
+	 * @return the neighbors of the vertex
+	 */
+	List<Vertex> getNeighbors(Vertex vertex) {
+		return neighbors[getId(vertex)];
+	}
+
+	/**
+	 * Links the end points of the given segment with each other. Vertices at the
+	 * same location are only linked once.
+	 *
+	 * @param segment the segment
+	 */
+	void link(Segment segment) {
+		List<Vertex> startNeighbors = getOrCreateNeighbors(segment.start);
+		List<Vertex> endNeighbors = getOrCreateNeighbors(segment.end);
+		if (!startNeighbors.contains(segment.end)) {
+			startNeighbors.add(segment.end);
+			endNeighbors.add(segment.start);
+		}
+	}
+
+	private List<Vertex> getOrCreateNeighbors(Vertex vertex) {
+		int id = getId(vertex);
+		if (neighbors[id] == null) {
+			neighbors[id] = new ArrayList<>();
+		}
+		return neighbors[id];
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.draw2d.parts;
 
+import java.util.Arrays;
 import java.util.Map;
 
 import org.eclipse.swt.SWT;
@@ -46,10 +47,12 @@ public class Thumbnail extends Figure implements UpdateListener {
 
 	/**
 	 * This updates the Thumbnail by breaking the thumbnail {@link Image} into
-	 * several tiles and updating each tile individually.
+	 * several tiles and updating each tile individually. The thumbnail image acts
+	 * as cache for all tiles, so only the tiles intersecting the damaged area of
+	 * the source figure are rendered again.
 	 */
 	class ThumbnailUpdater implements Runnable {
-		private static final int MIN_TILE_SIZE = 256;
+		private static final int MIN_TILE_SIZE = 64;
 		private static final int MAX_NUMBER_OF_TILES = 16;
 		private int currentHTile;
 		private int currentVTile;
@@ -58,6 +61,10 @@ public class Thumbnail extends Figure implements UpdateListener {
 		private Dimension tileSize;
 		private Dimension sourceSize; // the source size that was used for the
 										// tileSize computation
+		// the tiles which have to be rendered again, in row-major order
+		private boolean[] dirtyTiles = new boolean[0];
+		// the source rectangle that was used to render the cached tiles
+		private Rectangle renderedSourceRectangle;
 		private boolean isActive = true;
 
 		private boolean isRunning = false;
@@ -121,7 +128,8 @@ public class Thumbnail extends Figure implements UpdateListener {
 
 		/**
 		 * Resets the number of vertical and horizontal tiles, as well as the tile size
-		 * and current tile index.
+		 * and current tile index. If the tiles have changed, all tiles are marked as
+		 * dirty.
 		 */
 		public void resetTileValues() {
 			// Keep track of source size that matches the computed tile size.
@@ -132,11 +140,21 @@ public class Thumbnail extends Figure implements UpdateListener {
 			// direction may be smaller); ensure that all tiles except those on
 			// the bottom and right border will have at least a size of
 			// MIN_TILE_SIZE size and that at most MAX_NUMBER_OF_TILES tiles
-			// will be created.
-			hTiles = Math.min((int) Math.ceil((float) sourceSize.width / (float) MIN_TILE_SIZE), MAX_NUMBER_OF_TILES);
-			vTiles = Math.min((int) Math.ceil((float) sourceSize.height / (float) MIN_TILE_SIZE), MAX_NUMBER_OF_TILES);
-			tileSize = new Dimension((int) Math.ceil((float) sourceSize.width / (float) hTiles),
-					(int) Math.ceil((float) sourceSize.height / (float) vTiles));
+			// will be created. The tiles cover the thumbnail image, i.e. they
+			// are expressed in thumbnail coordinates.
+			int oldHTiles = hTiles;
+			int oldVTiles = vTiles;
+			Dimension oldTileSize = tileSize;
+			hTiles = Math.max(1,
+					Math.min((int) Math.ceil((float) targetSize.width / (float) MIN_TILE_SIZE), MAX_NUMBER_OF_TILES));
+			vTiles = Math.max(1,
+					Math.min((int) Math.ceil((float) targetSize.height / (float) MIN_TILE_SIZE), MAX_NUMBER_OF_TILES));
+			tileSize = new Dimension((int) Math.ceil((float) targetSize.width / (float) hTiles),
+					(int) Math.ceil((float) targetSize.height / (float) vTiles));
+			if (hTiles != oldHTiles || vTiles != oldVTiles || !tileSize.equals(oldTileSize)) {
+				dirtyTiles = new boolean[hTiles * vTiles];
+				Arrays.fill(dirtyTiles, true);
+			}
 
 			// Reset the current indices so that the next update will start with
 			// the first tile in horizontal and vertical direction
@@ -144,6 +162,61 @@ public class Thumbnail extends Figure implements UpdateListener {
 			currentVTile = 0;
 		}
 
+		/**
+		 * Marks all tiles intersecting the given area of the source figure as dirty.
+		 * The area is expressed in the same coordinates as the
+		 * {@link #getSourceRectangle() source rectangle}.
+		 *
+		 * @param damage the damaged area of the source figure or <code>null</code>,
+		 *               if all tiles need to be rendered again
+		 */
+		private void markDirtyTiles(Rectangle damage) {
+			if (damage == null) {
+				Arrays.fill(dirtyTiles, true);
+				return;
+			}
+			if (damage.isEmpty()) {
+				return;
+			}
+			Rectangle source = getSourceRectangle();
+			// Include one additional pixel to account for anti-aliasing
+			int x1 = (int) Math.floor((damage.x - source.x) * getScaleX()) - 1;
+			int y1 = (int) Math.floor((damage.y - source.y) * getScaleY()) - 1;
+			int x2 = (int) Math.ceil((damage.right() - source.x) * getScaleX()) + 1;
+			int y2 = (int) Math.ceil((damage.bottom() - source.y) * getScaleY()) + 1;
+			x1 = Math.max(x1, 0);
+			y1 = Math.max(y1, 0);
+			x2 = Math.min(x2, targetSize.width);
+			y2 = Math.min(y2, targetSize.height);
+			if (x1 >= x2 || y1 >= y2) {
+				return;
+			}
+			for (int v = y1 / tileSize.height; v <= (y2 - 1) / tileSize.height && v < vTiles; v++) {
+				for (int h = x1 / tileSize.width; h <= (x2 - 1) / tileSize.width && h < hTiles; h++) {
+					dirtyTiles[v * hTiles + h] = true;
+				}
+			}
+		}
+
+		/**
+		 * Advances the current tile index to the next dirty tile, starting with the
+		 * current tile.
+		 *
+		 * @return <code>false</code> if none of the tiles is dirty
+		 */
+		private boolean findDirtyTile() {
+			int current = getCurrentVTile() * hTiles + getCurrentHTile();
+			for (int i = 0; i < dirtyTiles.length; i++) {
+				int tile = (current + i) % dirtyTiles.length;
+				if (dirtyTiles[tile]) {
+					setCurrentHTile(tile % hTiles);
+					setCurrentVTile(tile / hTiles);
+					return true;
+				}
+			}
+			return false;
+		}
+
 		/** Restarts the updater. */
 		public void restart() {
 			stop();
@@ -156,9 +229,9 @@ public class Thumbnail extends Figure implements UpdateListener {
 		 * Scaling of the source Image is done inside
 		 * {@link GC#drawImage(Image, int, int, int, int, int, int, int, int)} since the
 		 * source and target sizes are different. The current tile indexes are
-		 * incremented and if more updating is necesary, this {@link Runnable} is called
-		 * again in a {@link Display#timerExec(int, Runnable)}. If no more updating is
-		 * required, {@link #stop()} is called.
+		 * advanced to the next dirty tile and if more updating is necesary, this
+		 * {@link Runnable} is called again in a {@link Display#timerExec(int, Runnable)}.
+		 * If no more updating is required, {@link #stop()} is called.
 		 */
 		@Override
 		public void run() {
@@ -166,13 +239,20 @@ public class Thumbnail extends Figure implements UpdateListener {
 				return;
 			}
 
+			if (!findDirtyTile()) {
+				stop();
+				repaint();
+				return;
+			}
+
 			int v = getCurrentVTile();
 			int sy1 = v * tileSize.height;
-			int sy2 = Math.min((v + 1) * tileSize.height, sourceSize.height);
+			int sy2 = Math.min((v + 1) * tileSize.height, targetSize.height);
 
 			int h = getCurrentHTile();
 			int sx1 = h * tileSize.width;
-			int sx2 = Math.min((h + 1) * tileSize.width, sourceSize.width);
+			int sx2 = Math.min((h + 1) * tileSize.width, targetSize.width);
+			dirtyTiles[v * hTiles + h] = false;
 
 			// Mac fix - create new Tile Graphics instances
 			if (IS_MAC) {
@@ -200,21 +280,11 @@ public class Thumbnail extends Figure implements UpdateListener {
 			// Copy the painted tile image into the thumbnail image.
 			thumbnailGC.drawImage(tileImage, 0, 0, sx2 - sx1, sy2 - sy1, sx1, sy1, sx2 - sx1, sy2 - sy1);
 
-			if (getCurrentHTile() < (hTiles - 1)) {
-				setCurrentHTile(getCurrentHTile() + 1);
-			} else {
-				setCurrentHTile(0);
-				if (getCurrentVTile() < (vTiles - 1)) {
-					setCurrentVTile(getCurrentVTile() + 1);
-				} else {
-					setCurrentVTile(0);
-				}
-			}
-
-			if (getCurrentHTile() != 0 || getCurrentVTile() != 0) {
+			if (findDirtyTile()) {
 				Display.getCurrent().asyncExec(this);
 			} else if (isDirty()) {
-				setDirty(false);
+				// The source has been modified while the tiles were rendered
+				markDirtyTiles(consumeDamage());
 				Display.getCurrent().asyncExec(this);
 				repaint();
 			} else {
@@ -261,12 +331,13 @@ public class Thumbnail extends Figure implements UpdateListener {
 			}
 
 			isRunning = true;
-			setDirty(false);
+			Rectangle damage = consumeDamage();
 
 			resetTileValues();
 
 			if (!targetSize.equals(thumbnailImageSize)) {
 				resetThumbnailImage();
+				damage = null;
 			}
 
 			if (targetSize.isEmpty()) {
@@ -283,6 +354,14 @@ public class Thumbnail extends Figure implements UpdateListener {
 
 			setScales(targetSize.width / (float) sourceSize.width, targetSize.height / (float) sourceSize.height);
 
+			// The cached tiles are only valid as long as the visible area of the
+			// source hasn't changed
+			if (!getSourceRectangle().equals(renderedSourceRectangle)) {
+				renderedSourceRectangle = getSourceRectangle().getCopy();
+				damage = null;
+			}
+			markDirtyTiles(damage);
+
 			if (refreshRate <= 0) {
 				Display.getCurrent().asyncExec(this);
 			} else {
@@ -374,6 +453,7 @@ public class Thumbnail extends Figure implements UpdateListener {
 	}
 
 	private boolean isDirty;
+	private Rectangle damage;
 	private float scaleX;
 	private float scaleY;
 
@@ -524,20 +604,57 @@ public class Thumbnail extends Figure implements UpdateListener {
 	}
 
 	/**
+	 * Collects the dirty regions of the source figure and its descendants. Only
+	 * the tiles of the thumbnail image intersecting those regions are rendered
+	 * again.
+	 *
 	 * @see org.eclipse.draw2d.UpdateListener#notifyPainting(Rectangle, Map)
 	 */
 	@Override
 	public void notifyPainting(Rectangle damage, Map<IFigure, Rectangle> dirtyRegions) {
-		for (IFigure current : dirtyRegions.keySet()) {
-			while (current != null) {
-				if (current == getSource()) {
-					setDirty(true);
-					repaint();
-					return;
-				}
+		boolean sourceDamaged = false;
+		for (Map.Entry<IFigure, Rectangle> entry : dirtyRegions.entrySet()) {
+			// Translate the dirty region into the coordinate system of the
+			// source rectangle
+			Rectangle region = entry.getValue().getCopy();
+			IFigure current = entry.getKey();
+			while (current != null && current != getSource()) {
 				current = current.getParent();
+				if (current != null) {
+					current.translateToParent(region);
+				}
+			}
+			if (current != null) {
+				addDamage(region);
+				sourceDamaged = true;
 			}
 		}
+		if (sourceDamaged) {
+			setDirty(true);
+			repaint();
+		}
+	}
+
+	private void addDamage(Rectangle region) {
+		if (damage == null) {
+			damage = region;
+		} else {
+			damage.union(region);
+		}
+	}
+
+	/**
+	 * Returns the area of the source figure that has been damaged since the last
+	 * call and resets the dirty flag.
+	 *
+	 * @return the damaged area or <code>null</code>, if the whole source figure
+	 *         needs to be rendered again
+	 */
+	private Rectangle consumeDamage() {
+		Rectangle result = isDirty() ? damage : new Rectangle();
+		damage = null;
+		setDirty(false);
+		return result;
 	}
 
 	/**
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.draw2d.graph.DirectedGraph;
+import org.eclipse.draw2d.graph.DirectedGraphLayout;
+import org.eclipse.draw2d.graph.Edge;
+import org.eclipse.draw2d.graph.Node;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link DirectedGraphLayout#visit(DirectedGraph)} for a random
+ * acyclic graph with twice as many edges as nodes. The layout modifies the
+ * graph, so a new graph is created for each invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DirectedGraphLayoutBenchmark {
+
+	@Param({ "100", "1000", "5000" })
+	public int size;
+
+	private DirectedGraph graph;
+
+	@Setup(Level.Invocation)
+	public void setUp() {
+		Random random = new Random(42);
+		graph = new DirectedGraph();
+		Node[] nodes = new Node[size];
+		for (int i = 0; i < size; i++) {
+			nodes[i] = new Node(Integer.valueOf(i));
+			nodes[i].width = 20 + random.nextInt(60);
+			nodes[i].height = 20 + random.nextInt(20);
+			graph.nodes.add(nodes[i]);
+		}
+		for (int i = 0; i < 2 * size; i++) {
+			int source = random.nextInt(size - 1);
+			// Mostly short edges, which results in a moderate number of ranks
+			int target = Math.min(size - 1, source + 1 + random.nextInt(10));
+			graph.edges.add(new Edge(nodes[source], nodes[target]));
+		}
+	}
+
+	@Benchmark
+	public DirectedGraph visit() {
+		new DirectedGraphLayout().visit(graph);
+		return graph;
+	}
+}
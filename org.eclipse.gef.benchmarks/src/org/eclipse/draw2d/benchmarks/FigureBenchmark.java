@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link Figure#findFigureAt(int, int)} for a figure whose children
+ * are placed on a grid, with and without the spatial index over its children.
+ * Each invocation performs {@value #QUERIES} queries at random locations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FigureBenchmark {
+
+	private static final int QUERIES = 100;
+
+	@Param({ "100", "10000" })
+	public int children;
+
+	@Param({ "false", "true" })
+	public boolean spatialIndex;
+
+	private Figure root;
+	private int[] queries;
+
+	@Setup
+	public void setUp() {
+		int columns = (int) Math.ceil(Math.sqrt(children));
+		root = new Figure();
+		root.setBounds(new Rectangle(0, 0, columns * 50, columns * 50));
+		for (int i = 0; i < children; i++) {
+			IFigure child = new Figure();
+			child.setBounds(new Rectangle(i % columns * 50 + 5, i / columns * 50 + 5, 40, 40));
+			root.add(child);
+		}
+		root.setSpatialIndexEnabled(spatialIndex);
+		Random random = new Random(42);
+		queries = new int[2 * QUERIES];
+		for (int i = 0; i < queries.length; i++) {
+			queries[i] = random.nextInt(columns * 50);
+		}
+	}
+
+	@Benchmark
+	public void findFigureAt(Blackhole blackhole) {
+		for (int i = 0; i < QUERIES; i++) {
+			blackhole.consume(root.findFigureAt(queries[2 * i], queries[2 * i + 1]));
+		}
+	}
+}
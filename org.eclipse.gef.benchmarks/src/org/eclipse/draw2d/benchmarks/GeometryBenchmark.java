@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.draw2d.geometry.PointList;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the basic operations of {@link Rectangle} and {@link PointList},
+ * which are called for every figure during layout, painting and hit-testing.
+ * Each invocation processes {@value #SIZE} random rectangles or points.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeometryBenchmark {
+
+	private static final int SIZE = 1000;
+
+	private Rectangle[] rectangles;
+	private int[] points;
+	private PointList polygon;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		rectangles = new Rectangle[SIZE];
+		points = new int[2 * SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			rectangles[i] = new Rectangle(random.nextInt(1000), random.nextInt(1000), random.nextInt(200),
+					random.nextInt(200));
+			points[2 * i] = random.nextInt(1000);
+			points[2 * i + 1] = random.nextInt(1000);
+		}
+		polygon = new PointList(points);
+	}
+
+	@Benchmark
+	public Rectangle rectangleUnion() {
+		Rectangle result = new Rectangle(rectangles[0]);
+		for (Rectangle rectangle : rectangles) {
+			result.union(rectangle);
+		}
+		return result;
+	}
+
+	@Benchmark
+	public void rectangleIntersect(Blackhole blackhole) {
+		Rectangle result = new Rectangle();
+		for (int i = 1; i < SIZE; i++) {
+			blackhole.consume(result.setBounds(rectangles[i - 1]).intersect(rectangles[i]));
+		}
+	}
+
+	@Benchmark
+	public void rectangleContains(Blackhole blackhole) {
+		Rectangle rectangle = rectangles[0];
+		for (int i = 0; i < SIZE; i++) {
+			blackhole.consume(rectangle.contains(points[2 * i], points[2 * i + 1]));
+		}
+	}
+
+	@Benchmark
+	public Rectangle pointListGetBounds() {
+		PointList pointList = new PointList(points);
+		return pointList.getBounds();
+	}
+
+	@Benchmark
+	public PointList pointListTranslate() {
+		polygon.translate(1, 1);
+		polygon.translate(-1, -1);
+		return polygon;
+	}
+
+	@Benchmark
+	public void pointListPolygonContainsPoint(Blackhole blackhole) {
+		for (int i = 0; i < 100; i++) {
+			blackhole.consume(polygon.polygonContainsPoint(points[2 * i + 1], points[2 * i]));
+		}
+	}
+}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.benchmarks;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.draw2d.graph.Path;
+import org.eclipse.draw2d.graph.ShortestPathRouter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link ShortestPathRouter#solve()} for obstacles on a jittered grid
+ * and paths between random obstacles. The router only solves dirty paths, so a
+ * new router is created for each invocation. The paths are either solved one
+ * after another or in parallel.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShortestPathRouterBenchmark {
+
+	@Param({ "25", "100" })
+	public int obstacles;
+
+	@Param({ "10", "100" })
+	public int paths;
+
+	@Param({ "false", "true" })
+	public boolean parallel;
+
+	private ShortestPathRouter router;
+
+	@Setup(Level.Invocation)
+	public void setUp() {
+		Random random = new Random(42);
+		router = new ShortestPathRouter();
+		router.setParallelSolvingEnabled(parallel);
+		int columns = (int) Math.ceil(Math.sqrt(obstacles));
+		Rectangle[] bounds = new Rectangle[obstacles];
+		for (int i = 0; i < obstacles; i++) {
+			bounds[i] = new Rectangle(i % columns * 150 + random.nextInt(40), i / columns * 150 + random.nextInt(40),
+					40 + random.nextInt(40), 30 + random.nextInt(30));
+			router.addObstacle(bounds[i]);
+		}
+		for (int i = 0; i < paths; i++) {
+			Rectangle source = bounds[random.nextInt(obstacles)];
+			Rectangle target = bounds[random.nextInt(obstacles)];
+			router.addPath(new Path(new Point(source.right() + 1, source.getCenter().y),
+					new Point(target.x - 1, target.getCenter().y)));
+		}
+	}
+
+	@Benchmark
+	public List<Path> solve() {
+		return router.solve();
+	}
+}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.benchmarks;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.draw2d.graph.Path;
+import org.eclipse.draw2d.graph.ShortestPathRouter;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link ShortestPathRouter#updateObstacle(Rectangle, Rectangle)}
+ * followed by {@link ShortestPathRouter#solve()}, as done when a figure is
+ * dragged in a diagram with many connections. The {@link Counters#resolved}
+ * counter reports the number of paths which had to be solved again per move.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShortestPathRouterUpdateBenchmark {
+
+	@Param({ "100", "400" })
+	public int obstacles;
+
+	@Param({ "100", "600" })
+	public int paths;
+
+	/**
+	 * The number of obstacles that are moved before the paths are solved again.
+	 */
+	@Param({ "1", "8" })
+	public int moves;
+
+	private ShortestPathRouter router;
+	private List<Path> routerPaths;
+	private Rectangle[] bounds;
+	private Random random;
+
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	@State(Scope.Thread)
+	public static class Counters {
+		public long resolved;
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		random = new Random(42);
+		router = new ShortestPathRouter();
+		int columns = (int) Math.ceil(Math.sqrt(obstacles));
+		bounds = new Rectangle[obstacles];
+		for (int i = 0; i < obstacles; i++) {
+			bounds[i] = new Rectangle(i % columns * 150 + random.nextInt(40), i / columns * 150 + random.nextInt(40),
+					40 + random.nextInt(40), 30 + random.nextInt(30));
+			router.addObstacle(bounds[i]);
+		}
+		for (int i = 0; i < paths; i++) {
+			Rectangle source = bounds[random.nextInt(obstacles)];
+			Rectangle target = bounds[random.nextInt(obstacles)];
+			router.addPath(new Path(new Point(source.right() + 1, source.getCenter().y),
+					new Point(target.x - 1, target.getCenter().y)));
+		}
+		routerPaths = router.solve();
+	}
+
+	@Benchmark
+	public List<Path> updateAndSolve(Counters counters) {
+		for (int i = 0; i < moves; i++) {
+			int index = random.nextInt(obstacles);
+			// Moves back and forth, so that the obstacles stay in place on average
+			Rectangle newBounds = bounds[index].getTranslated(random.nextInt(41) - 20, random.nextInt(41) - 20);
+			router.updateObstacle(bounds[index], newBounds);
+			bounds[index] = newBounds;
+		}
+		for (Path path : routerPaths) {
+			if (path.isDirty) {
+				counters.resolved++;
+			}
+		}
+		return router.solve();
+	}
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.gef.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.commands.Command;
+import org.eclipse.gef.commands.CommandStack;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link CommandStack#execute(Command)}, including the notification
+ * of listeners and the disposal of commands beyond the undo limit. Each
+ * invocation executes {@value #COMMANDS} commands on a new command stack.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandStackBenchmark {
+
+	private static final int COMMANDS = 1000;
+
+	@Param({ "0", "100" })
+	public int undoLimit;
+
+	@Param({ "0", "10" })
+	public int listeners;
+
+	private int executed;
+
+	@Benchmark
+	public CommandStack execute() {
+		CommandStack commandStack = new CommandStack();
+		commandStack.setUndoLimit(undoLimit);
+		for (int i = 0; i < listeners; i++) {
+			commandStack.addCommandStackEventListener(event -> executed++);
+		}
+		for (int i = 0; i < COMMANDS; i++) {
+			commandStack.execute(new Command() {
+				@Override
+				public void execute() {
+					executed++;
+				}
+			});
+		}
+		return commandStack;
+	}
+}
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.gef.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.IFigure;
+
+import org.eclipse.gef.EditPart;
+import org.eclipse.gef.editparts.AbstractGraphicalEditPart;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code AbstractEditPart.refreshChildren()}, which synchronizes the
+ * child edit parts with the model children. Each invocation alternates between
+ * two lists of model children:
+ * <ul>
+ * <li>{@code REORDER}: The same model children in a different order.</li>
+ * <li>{@code REPLACE}: Every tenth model child is replaced by a new one, which
+ * requires edit parts to be created and removed.</li>
+ * </ul>
+ * The edit parts don't belong to a viewer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EditPartBenchmark {
+
+	@Param({ "REORDER", "REPLACE" })
+	public String change;
+
+	@Param({ "100", "10000" })
+	public int size;
+
+	private List<Object> models1;
+	private List<Object> models2;
+	private BenchmarkEditPart editPart;
+
+	@Setup
+	public void setUp() {
+		models1 = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			models1.add(Integer.valueOf(i));
+		}
+		models2 = new ArrayList<>(models1);
+		if ("REORDER".equals(change)) {
+			Collections.shuffle(models2, new Random(42));
+		} else {
+			for (int i = 0; i < size; i += 10) {
+				models2.set(i, Integer.valueOf(size + i));
+			}
+		}
+		editPart = new BenchmarkEditPart();
+		editPart.modelChildren = models1;
+		editPart.refresh();
+	}
+
+	@Benchmark
+	public EditPart refreshChildren() {
+		editPart.modelChildren = editPart.modelChildren == models1 ? models2 : models1;
+		editPart.refresh();
+		return editPart;
+	}
+
+	private static class BenchmarkEditPart extends AbstractGraphicalEditPart {
+		private List<Object> modelChildren = Collections.emptyList();
+
+		@Override
+		protected List<?> getModelChildren() {
+			return modelChildren;
+		}
+
+		@Override
+		protected EditPart createChild(Object model) {
+			BenchmarkEditPart child = new BenchmarkEditPart();
+			child.setModel(model);
+			return child;
+		}
+
+		@Override
+		protected IFigure createFigure() {
+			return new Figure();
+		}
+
+		@Override
+		protected void createEditPolicies() {
+			// nothing to do
+		}
+
+		@Override
+		protected void register() {
+			// nothing to do
+		}
+
+		@Override
+		protected void unregister() {
+			// nothing to do
+		}
+	}
+}
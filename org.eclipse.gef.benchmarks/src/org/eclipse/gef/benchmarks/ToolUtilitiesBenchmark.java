@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.gef.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.IFigure;
+
+import org.eclipse.gef.EditPart;
+import org.eclipse.gef.editparts.AbstractGraphicalEditPart;
+import org.eclipse.gef.tools.ToolUtilities;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link ToolUtilities#getSelectionWithoutDependants(List)}, which is
+ * called whenever the selected edit parts are dragged. All edit parts are
+ * selected, in random order.
+ * <ul>
+ * <li>{@code DEEP}: Chains of 100 nested edit parts. All but the first edit
+ * part of each chain are dependants.</li>
+ * <li>{@code WIDE}: A single edit part with all other edit parts as children.
+ * All edit parts except the root are dependants.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ToolUtilitiesBenchmark {
+
+	private static final int CHAIN_LENGTH = 100;
+
+	@Param({ "DEEP", "WIDE" })
+	public String hierarchy;
+
+	@Param({ "1000", "20000" })
+	public int size;
+
+	private List<EditPart> selection;
+
+	@Setup
+	public void setUp() {
+		List<BenchmarkEditPart> editParts = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			BenchmarkEditPart editPart = new BenchmarkEditPart();
+			if ("DEEP".equals(hierarchy) && i % CHAIN_LENGTH != 0) {
+				editParts.get(i - 1).addChild(editPart);
+			} else if ("WIDE".equals(hierarchy) && i != 0) {
+				editParts.get(0).addChild(editPart);
+			}
+			editParts.add(editPart);
+		}
+		selection = new ArrayList<>(editParts);
+		Collections.shuffle(selection, new Random(0));
+	}
+
+	@Benchmark
+	public List<? extends EditPart> getSelectionWithoutDependants() {
+		return ToolUtilities.getSelectionWithoutDependants(selection);
+	}
+
+	private static class BenchmarkEditPart extends AbstractGraphicalEditPart {
+		public void addChild(EditPart child) {
+			addChild(child, getChildren().size());
+		}
+
+		@Override
+		protected IFigure createFigure() {
+			return new Figure();
+		}
+
+		@Override
+		protected void createEditPolicies() {
+			// nothing to do
+		}
+
+		@Override
+		protected void register() {
+			// nothing to do
+		}
+	}
+}
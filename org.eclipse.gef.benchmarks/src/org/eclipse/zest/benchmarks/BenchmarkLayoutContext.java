@@ -0,0 +1,468 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.zest.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.swt.widgets.Item;
+
+import org.eclipse.zest.layouts.LayoutAlgorithm;
+import org.eclipse.zest.layouts.dataStructures.DisplayIndependentDimension;
+import org.eclipse.zest.layouts.dataStructures.DisplayIndependentPoint;
+import org.eclipse.zest.layouts.dataStructures.DisplayIndependentRectangle;
+import org.eclipse.zest.layouts.interfaces.ConnectionLayout;
+import org.eclipse.zest.layouts.interfaces.ContextListener;
+import org.eclipse.zest.layouts.interfaces.EntityLayout;
+import org.eclipse.zest.layouts.interfaces.ExpandCollapseManager;
+import org.eclipse.zest.layouts.interfaces.GraphStructureListener;
+import org.eclipse.zest.layouts.interfaces.LayoutContext;
+import org.eclipse.zest.layouts.interfaces.LayoutListener;
+import org.eclipse.zest.layouts.interfaces.NodeLayout;
+import org.eclipse.zest.layouts.interfaces.PruningListener;
+import org.eclipse.zest.layouts.interfaces.SubgraphLayout;
+
+/**
+ * A layout context which doesn't require a {@code Graph} widget, so that layout
+ * algorithms can be measured without a display. The graph is a random tree with
+ * additional random connections. Listeners are accepted but never notified.
+ * <p>
+ * The nodes are distributed over {@value #DEPTH} layers below a single root and
+ * all connections point to a lower layer. The graph is therefore acyclic and
+ * its longest path is independent of the number of nodes, which is required by
+ * algorithms with a limited number of layers.
+ */
+final class BenchmarkLayoutContext implements LayoutContext {
+
+	private static final int DEPTH = 8;
+	private static final double NODE_WIDTH = 40;
+	private static final double NODE_HEIGHT = 20;
+
+	private final List<BenchmarkNode> nodes = new ArrayList<>();
+	private final List<BenchmarkConnection> connections = new ArrayList<>();
+	private final List<BenchmarkSubgraph> subgraphs = new ArrayList<>();
+	private final DisplayIndependentRectangle bounds;
+	private LayoutAlgorithm mainLayoutAlgorithm;
+	private ExpandCollapseManager expandCollapseManager;
+
+	/**
+	 * Creates a new graph with random node locations.
+	 *
+	 * @param nodeCount             The number of nodes.
+	 * @param additionalConnections The number of connections in addition to the
+	 *                              connections of the spanning tree.
+	 * @param seed                  The seed of the random generator.
+	 */
+	BenchmarkLayoutContext(int nodeCount, int additionalConnections, long seed) {
+		Random random = new Random(seed);
+		double size = Math.sqrt(nodeCount) * 4 * NODE_WIDTH;
+		bounds = new DisplayIndependentRectangle(0, 0, size, size);
+		// The root is the only node of layer 0. The nodes of layer i > 0 are stored
+		// in [layerStart[i], layerStart[i + 1]).
+		int[] layerStart = new int[DEPTH + 2];
+		int[] layers = new int[nodeCount];
+		for (int layer = 1; layer <= DEPTH + 1; layer++) {
+			layerStart[layer] = Math.min(nodeCount, 1 + (int) ((long) (nodeCount - 1) * (layer - 1) / DEPTH));
+			for (int i = layerStart[layer - 1]; i < layerStart[layer]; i++) {
+				layers[i] = layer - 1;
+			}
+		}
+		for (int i = 0; i < nodeCount; i++) {
+			BenchmarkNode node = new BenchmarkNode();
+			node.setLocation(random.nextDouble() * size, random.nextDouble() * size);
+			nodes.add(node);
+			if (i > 0) {
+				connect(nodes.get(random.nextInt(layerStart[layers[i]])), node);
+			}
+		}
+		for (int i = 0; i < additionalConnections && nodeCount > 1; i++) {
+			int source = random.nextInt(layerStart[DEPTH]);
+			int firstTarget = layerStart[layers[source] + 1];
+			connect(nodes.get(source), nodes.get(firstTarget + random.nextInt(nodeCount - firstTarget)));
+		}
+	}
+
+	private void connect(BenchmarkNode source, BenchmarkNode target) {
+		BenchmarkConnection connection = new BenchmarkConnection(source, target);
+		source.outgoing.add(connection);
+		target.incoming.add(connection);
+		connections.add(connection);
+	}
+
+	@Override
+	public NodeLayout[] getNodes() {
+		return nodes.toArray(new NodeLayout[nodes.size()]);
+	}
+
+	@Override
+	public ConnectionLayout[] getConnections() {
+		return connections.toArray(new ConnectionLayout[connections.size()]);
+	}
+
+	@Override
+	public EntityLayout[] getEntities() {
+		List<EntityLayout> entities = new ArrayList<>(nodes.size());
+		for (BenchmarkNode node : nodes) {
+			if (!node.isPruned()) {
+				entities.add(node);
+			}
+		}
+		return entities.toArray(new EntityLayout[entities.size()]);
+	}
+
+	@Override
+	public ConnectionLayout[] getConnections(EntityLayout layoutEntity1, EntityLayout layoutEntity2) {
+		List<ConnectionLayout> result = new ArrayList<>();
+		if (layoutEntity1 instanceof BenchmarkNode node) {
+			for (BenchmarkConnection connection : node.outgoing) {
+				if (connection.target == layoutEntity2) {
+					result.add(connection);
+				}
+			}
+		}
+		return result.toArray(new ConnectionLayout[result.size()]);
+	}
+
+	@Override
+	public DisplayIndependentRectangle getBounds() {
+		return new DisplayIndependentRectangle(bounds);
+	}
+
+	@Override
+	public boolean isBoundsExpandable() {
+		return false;
+	}
+
+	@Override
+	public SubgraphLayout[] getSubgraphs() {
+		return subgraphs.toArray(new SubgraphLayout[subgraphs.size()]);
+	}
+
+	@Override
+	public SubgraphLayout createSubgraph(NodeLayout[] nodeLayouts) {
+		BenchmarkSubgraph subgraph = new BenchmarkSubgraph();
+		subgraphs.add(subgraph);
+		subgraph.addNodes(nodeLayouts);
+		return subgraph;
+	}
+
+	@Override
+	public boolean isPruningEnabled() {
+		return true;
+	}
+
+	@Override
+	public boolean isBackgroundLayoutEnabled() {
+		return false;
+	}
+
+	@Override
+	public void setMainLayoutAlgorithm(LayoutAlgorithm algorithm) {
+		mainLayoutAlgorithm = algorithm;
+	}
+
+	@Override
+	public LayoutAlgorithm getMainLayoutAlgorithm() {
+		return mainLayoutAlgorithm;
+	}
+
+	@Override
+	public void setExpandCollapseManager(ExpandCollapseManager expandCollapseManager) {
+		this.expandCollapseManager = expandCollapseManager;
+	}
+
+	@Override
+	public ExpandCollapseManager getExpandCollapseManager() {
+		return expandCollapseManager;
+	}
+
+	@Override
+	public void addLayoutListener(LayoutListener listener) {
+		// never notified
+	}
+
+	@Override
+	public void removeLayoutListener(LayoutListener listener) {
+		// never notified
+	}
+
+	@Override
+	public void addGraphStructureListener(GraphStructureListener listener) {
+		// never notified
+	}
+
+	@Override
+	public void removeGraphStructureListener(GraphStructureListener listener) {
+		// never notified
+	}
+
+	@Override
+	public void addContextListener(ContextListener listener) {
+		// never notified
+	}
+
+	@Override
+	public void removeContextListener(ContextListener listener) {
+		// never notified
+	}
+
+	@Override
+	public void addPruningListener(PruningListener listener) {
+		// never notified
+	}
+
+	@Override
+	public void removePruningListener(PruningListener listener) {
+		// never notified
+	}
+
+	@Override
+	public void flushChanges(boolean animationHint) {
+		// nothing to do
+	}
+
+	private abstract static class BenchmarkEntity implements EntityLayout {
+		private final DisplayIndependentPoint location = new DisplayIndependentPoint(0, 0);
+		private final DisplayIndependentDimension size = new DisplayIndependentDimension(NODE_WIDTH, NODE_HEIGHT);
+
+		@Override
+		public DisplayIndependentPoint getLocation() {
+			return new DisplayIndependentPoint(location);
+		}
+
+		@Override
+		public void setLocation(double x, double y) {
+			location.x = x;
+			location.y = y;
+		}
+
+		@Override
+		public DisplayIndependentDimension getSize() {
+			return new DisplayIndependentDimension(size);
+		}
+
+		@Override
+		public void setSize(double width, double height) {
+			size.width = width;
+			size.height = height;
+		}
+
+		@Override
+		public double getPreferredAspectRatio() {
+			return 0;
+		}
+
+		@Override
+		public boolean isResizable() {
+			return true;
+		}
+
+		@Override
+		public boolean isMovable() {
+			return true;
+		}
+
+		@Override
+		public Item[] getItems() {
+			return new Item[0];
+		}
+	}
+
+	private static final class BenchmarkNode extends BenchmarkEntity implements NodeLayout {
+		private final List<BenchmarkConnection> incoming = new ArrayList<>();
+		private final List<BenchmarkConnection> outgoing = new ArrayList<>();
+		private BenchmarkSubgraph subgraph;
+		private boolean minimized;
+
+		@Override
+		public EntityLayout[] getSuccessingEntities() {
+			return getSuccessingNodes();
+		}
+
+		@Override
+		public EntityLayout[] getPredecessingEntities() {
+			return getPredecessingNodes();
+		}
+
+		@Override
+		public boolean isPrunable() {
+			return true;
+		}
+
+		@Override
+		public boolean isPruned() {
+			return subgraph != null;
+		}
+
+		@Override
+		public SubgraphLayout getSubgraph() {
+			return subgraph;
+		}
+
+		@Override
+		public void prune(SubgraphLayout newSubgraph) {
+			if (newSubgraph != null) {
+				newSubgraph.addNodes(new NodeLayout[] { this });
+			} else if (subgraph != null) {
+				subgraph.removeNodes(new NodeLayout[] { this });
+			}
+		}
+
+		@Override
+		public NodeLayout[] getSuccessingNodes() {
+			NodeLayout[] result = new NodeLayout[outgoing.size()];
+			for (int i = 0; i < result.length; i++) {
+				result[i] = outgoing.get(i).target;
+			}
+			return result;
+		}
+
+		@Override
+		public NodeLayout[] getPredecessingNodes() {
+			NodeLayout[] result = new NodeLayout[incoming.size()];
+			for (int i = 0; i < result.length; i++) {
+				result[i] = incoming.get(i).source;
+			}
+			return result;
+		}
+
+		@Override
+		public ConnectionLayout[] getIncomingConnections() {
+			return incoming.toArray(new ConnectionLayout[incoming.size()]);
+		}
+
+		@Override
+		public ConnectionLayout[] getOutgoingConnections() {
+			return outgoing.toArray(new ConnectionLayout[outgoing.size()]);
+		}
+
+		@Override
+		public void setMinimized(boolean minimized) {
+			this.minimized = minimized;
+		}
+
+		@Override
+		public boolean isMinimized() {
+			return minimized;
+		}
+	}
+
+	private static final class BenchmarkConnection implements ConnectionLayout {
+		private final BenchmarkNode source;
+		private final BenchmarkNode target;
+		private boolean visible = true;
+
+		BenchmarkConnection(BenchmarkNode source, BenchmarkNode target) {
+			this.source = source;
+			this.target = target;
+		}
+
+		@Override
+		public NodeLayout getSource() {
+			return source;
+		}
+
+		@Override
+		public NodeLayout getTarget() {
+			return target;
+		}
+
+		@Override
+		public double getWeight() {
+			return 1;
+		}
+
+		@Override
+		public boolean isDirected() {
+			return true;
+		}
+
+		@Override
+		public void setVisible(boolean visible) {
+			this.visible = visible;
+		}
+
+		@Override
+		public boolean isVisible() {
+			return visible;
+		}
+	}
+
+	private final class BenchmarkSubgraph extends BenchmarkEntity implements SubgraphLayout {
+		private final List<BenchmarkNode> subgraphNodes = new ArrayList<>();
+
+		@Override
+		public NodeLayout[] getNodes() {
+			return subgraphNodes.toArray(new NodeLayout[subgraphNodes.size()]);
+		}
+
+		@Override
+		public int countNodes() {
+			return subgraphNodes.size();
+		}
+
+		@Override
+		public void addNodes(NodeLayout[] nodeLayouts) {
+			for (NodeLayout nodeLayout : nodeLayouts) {
+				BenchmarkNode node = (BenchmarkNode) nodeLayout;
+				if (node.subgraph != this) {
+					if (node.subgraph != null) {
+						node.subgraph.removeNodes(new NodeLayout[] { node });
+					}
+					node.subgraph = this;
+					subgraphNodes.add(node);
+				}
+			}
+		}
+
+		@Override
+		public void removeNodes(NodeLayout[] nodeLayouts) {
+			for (NodeLayout nodeLayout : nodeLayouts) {
+				BenchmarkNode node = (BenchmarkNode) nodeLayout;
+				if (node.subgraph == this) {
+					node.subgraph = null;
+					subgraphNodes.remove(node);
+				}
+			}
+			if (subgraphNodes.isEmpty()) {
+				subgraphs.remove(this);
+			}
+		}
+
+		@Override
+		public boolean isGraphEntity() {
+			return false;
+		}
+
+		@Override
+		public boolean isDirectionDependant() {
+			return false;
+		}
+
+		@Override
+		public void setDirection(int direction) {
+			// not direction dependant
+		}
+
+		@Override
+		public EntityLayout[] getSuccessingEntities() {
+			return new EntityLayout[0];
+		}
+
+		@Override
+		public EntityLayout[] getPredecessingEntities() {
+			return new EntityLayout[0];
+		}
+	}
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.zest.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.zest.layouts.LayoutAlgorithm;
+import org.eclipse.zest.layouts.algorithms.BoxLayoutAlgorithm;
+import org.eclipse.zest.layouts.algorithms.CompositeLayoutAlgorithm;
+import org.eclipse.zest.layouts.algorithms.DirectedGraphLayoutAlgorithm;
+import org.eclipse.zest.layouts.algorithms.GridLayoutAlgorithm;
+import org.eclipse.zest.layouts.algorithms.HorizontalShiftAlgorithm;
+import org.eclipse.zest.layouts.algorithms.RadialLayoutAlgorithm;
+import org.eclipse.zest.layouts.algorithms.SpaceTreeLayoutAlgorithm;
+import org.eclipse.zest.layouts.algorithms.SpringLayoutAlgorithm;
+import org.eclipse.zest.layouts.algorithms.SugiyamaLayoutAlgorithm;
+import org.eclipse.zest.layouts.algorithms.TreeLayoutAlgorithm;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link LayoutAlgorithm#applyLayout(boolean)} of all layout
+ * algorithms. Each invocation lays out a new random graph with 10% more
+ * connections than nodes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LayoutAlgorithmBenchmark {
+
+	@Param({ "BOX", "COMPOSITE", "DIRECTED_GRAPH", "GRID", "HORIZONTAL_SHIFT", "RADIAL", "SPACE_TREE", "SPRING",
+			"SUGIYAMA", "TREE" })
+	public String algorithm;
+
+	@Param({ "100", "1000" })
+	public int size;
+
+	private LayoutAlgorithm layoutAlgorithm;
+
+	@Setup(Level.Invocation)
+	public void setUp() {
+		layoutAlgorithm = createAlgorithm(algorithm);
+		BenchmarkLayoutContext context = new BenchmarkLayoutContext(size, size / 10, 42);
+		context.setMainLayoutAlgorithm(layoutAlgorithm);
+		layoutAlgorithm.setLayoutContext(context);
+	}
+
+	@Benchmark
+	public void applyLayout() {
+		layoutAlgorithm.applyLayout(true);
+	}
+
+	private static LayoutAlgorithm createAlgorithm(String name) {
+		return switch (name) {
+		case "BOX" -> new BoxLayoutAlgorithm();
+		case "COMPOSITE" -> new CompositeLayoutAlgorithm(
+				new LayoutAlgorithm[] { new TreeLayoutAlgorithm(), new HorizontalShiftAlgorithm() });
+		case "DIRECTED_GRAPH" -> new DirectedGraphLayoutAlgorithm();
+		case "GRID" -> new GridLayoutAlgorithm();
+		case "HORIZONTAL_SHIFT" -> new HorizontalShiftAlgorithm();
+		case "RADIAL" -> new RadialLayoutAlgorithm();
+		case "SPACE_TREE" -> new SpaceTreeLayoutAlgorithm();
+		case "SPRING" -> new SpringLayoutAlgorithm();
+		case "SUGIYAMA" -> new SugiyamaLayoutAlgorithm();
+		case "TREE" -> new TreeLayoutAlgorithm();
+		default -> throw new IllegalArgumentException(name);
+		};
+	}
+}
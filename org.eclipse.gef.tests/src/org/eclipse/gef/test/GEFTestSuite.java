@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -30,6 +30,9 @@ import org.junit.platform.suite.api.Suite;
 	CommandStackTest.class,
 	RulerLayoutTests.class,
 	GraphicalViewerTest.class,
+	MarqueeSelectionToolTest.class,
+	VirtualContainerEditPartTest.class,
+	RefreshSchedulerTest.class,
 	PaletteColorProviderTest.class,
 	SWTBotTestSuite.class
 })
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Patrick Ziegler and others.
+ * Copyright (c) 2024, 2026 Patrick Ziegler and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -14,9 +14,11 @@
 package org.eclipse.gef.test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.jface.viewers.IStructuredSelection;
@@ -30,9 +32,11 @@ import org.eclipse.draw2d.IFigure;
 import org.eclipse.gef.EditPart;
 import org.eclipse.gef.GraphicalViewer;
 import org.eclipse.gef.Request;
+import org.eclipse.gef.SelectionManager;
 import org.eclipse.gef.commands.Command;
 import org.eclipse.gef.editparts.AbstractGraphicalEditPart;
 import org.eclipse.gef.requests.GroupRequest;
+import org.eclipse.gef.tools.ToolUtilities;
 import org.eclipse.gef.ui.actions.DeleteAction;
 import org.eclipse.gef.ui.parts.GraphicalViewerImpl;
 
@@ -68,6 +72,111 @@ public class GraphicalViewerTest {
 		assertTrue(viewer.getSelectedEditParts().isEmpty());
 	}
 
+	/**
+	 * Selection changes within a batch must only notify listeners once, after the
+	 * batch has finished.
+	 */
+	@Test
+	public void testBatchedSelection() {
+		List<EditPart> editParts = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			editParts.add(new DummyEditPart());
+		}
+		int[] events = new int[1];
+		viewer.addSelectionChangedListener(event -> events[0]++);
+
+		SelectionManager selectionManager = viewer.getSelectionManager();
+		selectionManager.runBatched(() -> {
+			editParts.forEach(viewer::appendSelection);
+			selectionManager.runBatched(() -> viewer.deselect(editParts.get(0)));
+			viewer.appendSelection(editParts.get(1));
+			assertEquals(0, events[0]);
+		});
+		assertEquals(1, events[0]);
+
+		List<EditPart> expected = new ArrayList<>(editParts.subList(2, editParts.size()));
+		expected.add(editParts.get(1));
+		assertEquals(expected, viewer.getSelectedEditParts());
+		assertEquals(EditPart.SELECTED_NONE, editParts.get(0).getSelected());
+		assertEquals(EditPart.SELECTED, editParts.get(2).getSelected());
+		assertEquals(EditPart.SELECTED_PRIMARY, editParts.get(1).getSelected());
+
+		// No notification if the selection hasn't changed
+		selectionManager.runBatched(() -> viewer.getSelectedEditParts());
+		assertEquals(1, events[0]);
+	}
+
+	/**
+	 * The top level selection must only be computed again once the selection has
+	 * changed.
+	 */
+	@Test
+	public void testSelectionWithoutDependants() {
+		EditPart editPart1 = new DummyEditPart();
+		EditPart editPart2 = new DummyEditPart();
+		viewer.appendSelection(editPart1);
+
+		SelectionManager selectionManager = viewer.getSelectionManager();
+		List<? extends EditPart> topLevelSelection = selectionManager.getSelectionWithoutDependants();
+		assertEquals(List.of(editPart1), topLevelSelection);
+		assertSame(topLevelSelection, selectionManager.getSelectionWithoutDependants());
+
+		selectionManager.runBatched(() -> {
+			viewer.appendSelection(editPart2);
+			assertEquals(List.of(editPart1, editPart2), selectionManager.getSelectionWithoutDependants());
+		});
+		viewer.deselect(editPart1);
+		assertEquals(List.of(editPart2), selectionManager.getSelectionWithoutDependants());
+	}
+
+	/**
+	 * Viewers may return a different selection than the one managed by their
+	 * selection manager, from which the top level selection must be computed.
+	 */
+	@Test
+	public void testOverriddenSelectedEditParts() {
+		DummyEditPart parent = new DummyEditPart();
+		DummyEditPart child = new DummyEditPart();
+		child.setParent(parent);
+		GraphicalViewerImpl customViewer = PlatformUI.getWorkbench().getDisplay()
+				.syncCall(() -> new GraphicalViewerImpl() {
+					@Override
+					public List<? extends EditPart> getSelectedEditParts() {
+						return List.of(parent, child);
+					}
+				});
+		customViewer.appendSelection(child);
+		assertEquals(List.of(parent), ToolUtilities.getSelectionWithoutDependants(customViewer));
+	}
+
+	/**
+	 * Subclasses of the viewer may modify the list of selected edit parts
+	 * directly, without changing its size.
+	 */
+	@Test
+	public void testModifiedSelectionList() {
+		EditPart editPart1 = new DummyEditPart();
+		EditPart editPart2 = new DummyEditPart();
+		EditPart editPart3 = new DummyEditPart();
+		GraphicalViewerImpl customViewer = PlatformUI.getWorkbench().getDisplay()
+				.syncCall(() -> new GraphicalViewerImpl() {
+					{
+						appendSelection(editPart1);
+						appendSelection(editPart2);
+						selection.set(0, editPart3);
+					}
+				});
+		SelectionManager selectionManager = customViewer.getSelectionManager();
+		assertEquals(List.of(editPart3, editPart2), selectionManager.getSelectionWithoutDependants());
+
+		customViewer.deselect(editPart3);
+		assertEquals(List.of(editPart2), customViewer.getSelectedEditParts());
+
+		customViewer.appendSelection(editPart1);
+		customViewer.appendSelection(editPart2);
+		assertEquals(List.of(editPart1, editPart2), customViewer.getSelectedEditParts());
+	}
+
 	@Test
 	public void testDeleteSelection() {
 		IStructuredSelection selection = new StructuredSelection(new DummyEditPart());
@@ -0,0 +1,291 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.gef.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.events.MouseEvent;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.ui.PlatformUI;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.FigureCanvas;
+import org.eclipse.draw2d.FigureUtilities;
+import org.eclipse.draw2d.FreeformLayer;
+import org.eclipse.draw2d.FreeformLayout;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.eclipse.gef.DefaultEditDomain;
+import org.eclipse.gef.EditPart;
+import org.eclipse.gef.GraphicalEditPart;
+import org.eclipse.gef.Request;
+import org.eclipse.gef.RequestConstants;
+import org.eclipse.gef.editparts.AbstractGraphicalEditPart;
+import org.eclipse.gef.editparts.FreeformGraphicalRootEditPart;
+import org.eclipse.gef.tools.MarqueeSelectionTool;
+import org.eclipse.gef.ui.parts.ScrollingGraphicalViewer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * While dragging, the {@link MarqueeSelectionTool} only visits the edit parts
+ * around the marquee. The edit parts affected by the marquee must nevertheless
+ * be the same as when checking all edit parts of the viewer.
+ */
+public class MarqueeSelectionToolTest {
+	private Display display;
+	private Shell shell;
+	private ScrollingGraphicalViewer viewer;
+	private MarqueeSelectionTool tool;
+	private List<Rectangle> models;
+	private Set<EditPart> targetFeedback;
+	private int marqueeBehavior;
+	private Point startLocation;
+
+	@BeforeEach
+	public void setUp() {
+		Random random = new Random(42);
+		models = new ArrayList<>();
+		while (models.size() < 2000) {
+			// the models are also the keys of the edit part registry
+			Rectangle model = new Rectangle(random.nextInt(780), random.nextInt(780), 1 + random.nextInt(25),
+					1 + random.nextInt(25));
+			if (!models.contains(model)) {
+				models.add(model);
+			}
+		}
+		// Edit parts which span many cells of the index
+		models.add(new Rectangle(5, 5, 700, 700));
+		models.add(new Rectangle(0, 100, 790, 20));
+		models.add(new Rectangle(300, 0, 10, 790));
+		targetFeedback = new HashSet<>();
+		display = PlatformUI.getWorkbench().getDisplay();
+		display.syncExec(() -> {
+			shell = new Shell(display);
+			shell.setSize(400, 400);
+			viewer = new ScrollingGraphicalViewer();
+			viewer.createControl(shell);
+			viewer.getControl().setBounds(0, 0, 400, 400);
+			viewer.setEditDomain(new DefaultEditDomain(null));
+			viewer.setRootEditPart(new FreeformGraphicalRootEditPart());
+			viewer.setEditPartFactory((context, model) -> model instanceof List ? new DiagramEditPart(model)
+					: new NodeEditPart(model));
+			viewer.setContents(models);
+			viewer.flush();
+			tool = new MarqueeSelectionTool();
+			tool.setEditDomain(viewer.getEditDomain());
+			tool.setUnloadWhenFinished(false);
+			tool.activate();
+		});
+	}
+
+	@AfterEach
+	public void tearDown() {
+		display.syncExec(() -> {
+			tool.deactivate();
+			shell.dispose();
+		});
+	}
+
+	/**
+	 * The edit parts with target feedback must be those contained in the marquee,
+	 * while the marquee grows, shrinks and is dragged past its start location.
+	 */
+	@Test
+	public void testNodesContained() {
+		display.syncExec(() -> {
+			setMarqueeBehavior(MarqueeSelectionTool.BEHAVIOR_NODES_CONTAINED);
+			drag(new Point(50, 60), new Point(100, 100), new Point(200, 180), new Point(350, 300),
+					new Point(390, 390), new Point(300, 250), new Point(120, 90), new Point(55, 65),
+					new Point(10, 20), new Point(200, 390));
+		});
+	}
+
+	/**
+	 * The edit parts with target feedback must be those touched by the marquee,
+	 * including the edit parts which are only touched by its border.
+	 */
+	@Test
+	public void testNodesTouched() {
+		display.syncExec(() -> {
+			setMarqueeBehavior(MarqueeSelectionTool.BEHAVIOR_NODES_TOUCHED);
+			drag(new Point(150, 160), new Point(151, 161), new Point(200, 180), new Point(390, 390),
+					new Point(300, 250), new Point(160, 170), new Point(10, 20), new Point(100, 390));
+		});
+	}
+
+	/**
+	 * Scrolling during the drag moves the figures in absolute coordinates, after
+	 * which the edit parts must be looked up at their new locations.
+	 */
+	@Test
+	public void testScrollWhileDragging() {
+		display.syncExec(() -> {
+			setMarqueeBehavior(MarqueeSelectionTool.BEHAVIOR_NODES_CONTAINED);
+			press(new Point(20, 20));
+			dragTo(new Point(200, 200));
+			((FigureCanvas) viewer.getControl()).scrollTo(300, 300);
+			viewer.flush();
+			dragTo(new Point(250, 250));
+			dragTo(new Point(390, 390));
+			release(new Point(390, 390));
+		});
+	}
+
+	private void setMarqueeBehavior(int marqueeBehavior) {
+		this.marqueeBehavior = marqueeBehavior;
+		tool.setMarqueeBehavior(marqueeBehavior);
+	}
+
+	private void drag(Point start, Point... locations) {
+		press(start);
+		for (Point location : locations) {
+			dragTo(location);
+		}
+		release(locations[locations.length - 1]);
+	}
+
+	private void press(Point location) {
+		startLocation = location;
+		tool.mouseDown(createMouseEvent(location, 1), viewer);
+	}
+
+	private void dragTo(Point location) {
+		MouseEvent event = createMouseEvent(location, 0);
+		event.stateMask = SWT.BUTTON1;
+		tool.mouseDrag(event, viewer);
+		assertEquals(calculateExpectedEditParts(location), targetFeedback);
+	}
+
+	private void release(Point location) {
+		Set<EditPart> expected = calculateExpectedEditParts(location);
+		tool.mouseUp(createMouseEvent(location, 1), viewer);
+		assertTrue(targetFeedback.isEmpty());
+		assertEquals(expected, new HashSet<>(viewer.getSelectedEditParts()));
+		assertFalse(expected.isEmpty());
+	}
+
+	/**
+	 * Checks all edit parts of the viewer against the marquee.
+	 */
+	private Set<EditPart> calculateExpectedEditParts(Point location) {
+		Rectangle marquee = new Rectangle(startLocation, location);
+		Request request = new Request(RequestConstants.REQ_SELECTION);
+		Set<EditPart> expected = new HashSet<>();
+		for (EditPart editPart : viewer.getEditPartRegistry().values()) {
+			if (editPart == viewer.getRootEditPart()) {
+				continue;
+			}
+			GraphicalEditPart graphicalEditPart = (GraphicalEditPart) editPart;
+			IFigure figure = graphicalEditPart.getFigure();
+			if (graphicalEditPart.getTargetEditPart(request) != editPart || !editPart.isSelectable()
+					|| !FigureUtilities.isNotFullyClipped(figure)) {
+				continue;
+			}
+			Rectangle bounds = figure.getBounds().getCopy();
+			figure.translateToAbsolute(bounds);
+			if (marqueeBehavior == MarqueeSelectionTool.BEHAVIOR_NODES_TOUCHED ? marquee.intersects(bounds)
+					: marquee.contains(bounds)) {
+				expected.add(editPart);
+			}
+		}
+		return expected;
+	}
+
+	private MouseEvent createMouseEvent(Point location, int button) {
+		Event event = new Event();
+		event.widget = viewer.getControl();
+		event.display = display;
+		event.x = location.x;
+		event.y = location.y;
+		event.button = button;
+		return new MouseEvent(event);
+	}
+
+	private class DiagramEditPart extends AbstractGraphicalEditPart {
+		public DiagramEditPart(Object model) {
+			setModel(model);
+		}
+
+		@Override
+		protected IFigure createFigure() {
+			FreeformLayer layer = new FreeformLayer();
+			layer.setLayoutManager(new FreeformLayout());
+			return layer;
+		}
+
+		@Override
+		protected void createEditPolicies() {
+			// nothing to do
+		}
+
+		@Override
+		protected List<Rectangle> getModelChildren() {
+			return models;
+		}
+
+		@Override
+		public boolean isSelectable() {
+			return false;
+		}
+	}
+
+	private class NodeEditPart extends AbstractGraphicalEditPart {
+		public NodeEditPart(Object model) {
+			setModel(model);
+		}
+
+		@Override
+		protected IFigure createFigure() {
+			return new Figure();
+		}
+
+		@Override
+		protected void createEditPolicies() {
+			// nothing to do
+		}
+
+		@Override
+		protected void refreshVisuals() {
+			((GraphicalEditPart) getParent()).setLayoutConstraint(this, getFigure(), getModel());
+		}
+
+		@Override
+		public void showTargetFeedback(Request request) {
+			// feedback must only be shown once
+			assertTrue(targetFeedback.add(this));
+		}
+
+		@Override
+		public void eraseTargetFeedback(Request request) {
+			// feedback must only be erased if it is shown
+			assertTrue(targetFeedback.remove(this));
+		}
+	}
+}
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.gef.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.IFigure;
+
+import org.eclipse.gef.editparts.AbstractGraphicalEditPart;
+import org.eclipse.gef.editparts.RefreshScheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RefreshSchedulerTest {
+	private List<Runnable> queue;
+	private RefreshScheduler scheduler;
+
+	@BeforeEach
+	public void setUp() {
+		queue = new ArrayList<>();
+		scheduler = new RefreshScheduler(queue::add);
+	}
+
+	private void runQueue() {
+		List<Runnable> runnables = new ArrayList<>(queue);
+		queue.clear();
+		runnables.forEach(Runnable::run);
+	}
+
+	/**
+	 * Scheduling the same features many times only refreshes them once.
+	 */
+	@Test
+	public void testCoalesceRefreshes() {
+		CountingEditPart editPart = new CountingEditPart();
+		editPart.activate();
+		for (int i = 0; i < 10000; i++) {
+			scheduler.schedule(editPart, RefreshScheduler.VISUALS);
+		}
+		scheduler.schedule(editPart, RefreshScheduler.SOURCE_CONNECTIONS);
+		assertEquals(RefreshScheduler.VISUALS | RefreshScheduler.SOURCE_CONNECTIONS,
+				scheduler.getScheduledFeatures(editPart));
+		assertEquals(1, queue.size());
+		assertEquals(0, editPart.visuals);
+
+		runQueue();
+		assertEquals(1, editPart.visuals);
+		assertEquals(0, editPart.children);
+		assertEquals(1, editPart.sourceConnections);
+		assertFalse(scheduler.hasScheduledRefreshes());
+
+		scheduler.schedule(editPart, RefreshScheduler.CHILDREN);
+		assertEquals(1, queue.size());
+		runQueue();
+		assertEquals(1, editPart.visuals);
+		assertEquals(1, editPart.children);
+	}
+
+	/**
+	 * Flushing performs the scheduled refreshes before the executor does.
+	 */
+	@Test
+	public void testFlush() {
+		CountingEditPart editPart = new CountingEditPart();
+		editPart.activate();
+		scheduler.schedule(editPart, RefreshScheduler.ALL);
+		scheduler.flush();
+		assertEquals(1, editPart.visuals);
+		assertEquals(1, editPart.children);
+		assertEquals(1, editPart.sourceConnections);
+
+		runQueue();
+		assertEquals(1, editPart.visuals);
+	}
+
+	/**
+	 * Inactive EditParts are skipped and refreshes scheduled while flushing are
+	 * performed by the same flush.
+	 */
+	@Test
+	public void testScheduleWhileFlushing() {
+		CountingEditPart inactive = new CountingEditPart();
+		CountingEditPart second = new CountingEditPart();
+		second.activate();
+		CountingEditPart first = new CountingEditPart() {
+			@Override
+			protected void refreshVisuals() {
+				super.refreshVisuals();
+				scheduler.schedule(second, RefreshScheduler.VISUALS);
+			}
+		};
+		first.activate();
+		scheduler.schedule(first, RefreshScheduler.VISUALS);
+		scheduler.schedule(inactive, RefreshScheduler.VISUALS);
+		assertTrue(scheduler.hasScheduledRefreshes());
+
+		scheduler.flush();
+		assertEquals(1, first.visuals);
+		assertEquals(1, second.visuals);
+		assertEquals(0, inactive.visuals);
+		assertFalse(scheduler.hasScheduledRefreshes());
+	}
+
+	private static class CountingEditPart extends AbstractGraphicalEditPart {
+		private int visuals;
+		private int children;
+		private int sourceConnections;
+
+		@Override
+		protected IFigure createFigure() {
+			return new Figure();
+		}
+
+		@Override
+		protected void createEditPolicies() {
+			// nothing to do
+		}
+
+		@Override
+		protected void refreshVisuals() {
+			visuals++;
+		}
+
+		@Override
+		protected void refreshChildren() {
+			children++;
+		}
+
+		@Override
+		protected void refreshSourceConnections() {
+			sourceConnections++;
+		}
+	}
+}
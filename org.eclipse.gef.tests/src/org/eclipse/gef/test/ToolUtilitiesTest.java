@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2024 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,8 +13,14 @@
 
 package org.eclipse.gef.test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
 import org.eclipse.draw2d.Figure;
 import org.eclipse.draw2d.IFigure;
 
@@ -94,4 +100,39 @@ public class ToolUtilitiesTest {
 		EditPart result = ToolUtilities.findCommonAncestor(editpartParent, editpartChild);
 		assertTrue(editpartParent == result);
 	}
+
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetSelectionWithoutDependants() {
+		Random random = new Random(42);
+		List<TestGraphicalEditPart> editParts = new ArrayList<>();
+		editParts.add(new TestGraphicalEditPart());
+		for (int i = 1; i < 500; i++) {
+			TestGraphicalEditPart editPart = new TestGraphicalEditPart();
+			editParts.get(random.nextInt(i)).addChild(editPart);
+			editParts.add(editPart);
+		}
+		for (int i = 0; i < 20; i++) {
+			List<EditPart> selection = new ArrayList<>(editParts);
+			Collections.shuffle(selection, random);
+			selection = selection.subList(0, random.nextInt(selection.size()));
+
+			List<EditPart> expected = new ArrayList<>();
+			for (EditPart editPart : selection) {
+				if (!hasSelectedAncestor(selection, editPart)) {
+					expected.add(editPart);
+				}
+			}
+			assertEquals(expected, ToolUtilities.getSelectionWithoutDependants(selection));
+		}
+	}
+
+	private static boolean hasSelectedAncestor(List<EditPart> selection, EditPart editPart) {
+		for (EditPart parent = editPart.getParent(); parent != null; parent = parent.getParent()) {
+			if (selection.contains(parent)) {
+				return true;
+			}
+		}
+		return false;
+	}
 }
@@ -0,0 +1,266 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.gef.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.ui.PlatformUI;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.FigureCanvas;
+import org.eclipse.draw2d.FreeformLayer;
+import org.eclipse.draw2d.FreeformLayout;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.eclipse.gef.EditPart;
+import org.eclipse.gef.GraphicalEditPart;
+import org.eclipse.gef.editparts.AbstractGraphicalEditPart;
+import org.eclipse.gef.editparts.AbstractVirtualContainerEditPart;
+import org.eclipse.gef.editparts.FreeformGraphicalRootEditPart;
+import org.eclipse.gef.ui.parts.ScrollingGraphicalViewer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class VirtualContainerEditPartTest {
+	private Display display;
+	private Shell shell;
+	private ScrollingGraphicalViewer viewer;
+	private List<Rectangle> models;
+	private int createdEditParts;
+
+	@BeforeEach
+	public void setUp() {
+		models = new ArrayList<>();
+		for (int x = 0; x < 100; x++) {
+			for (int y = 0; y < 100; y++) {
+				models.add(new Rectangle(x * 100, y * 100, 50, 50));
+			}
+		}
+		display = PlatformUI.getWorkbench().getDisplay();
+		display.syncExec(() -> {
+			shell = new Shell(display);
+			shell.setSize(400, 400);
+			viewer = new ScrollingGraphicalViewer();
+			viewer.createControl(shell);
+			viewer.getControl().setBounds(0, 0, 400, 400);
+			viewer.setRootEditPart(new FreeformGraphicalRootEditPart());
+			viewer.setEditPartFactory((context, model) -> model instanceof List ? new DiagramEditPart(model)
+					: new NodeEditPart(model));
+			viewer.setContents(models);
+			viewer.flush();
+		});
+	}
+
+	@AfterEach
+	public void tearDown() {
+		display.syncExec(shell::dispose);
+	}
+
+	private DiagramEditPart getDiagram() {
+		return (DiagramEditPart) viewer.getContents();
+	}
+
+	private EditPart findChild(Object model) {
+		return findChild(getDiagram(), model);
+	}
+
+	private static EditPart findChild(EditPart parent, Object model) {
+		for (EditPart child : parent.getChildren()) {
+			if (child.getModel() == model) {
+				return child;
+			}
+		}
+		return null;
+	}
+
+	private void scrollTo(int x, int y) {
+		((FigureCanvas) viewer.getControl()).scrollTo(x, y);
+		viewer.flush();
+	}
+
+	/**
+	 * Only the EditParts of the model children near the viewport are created.
+	 */
+	@Test
+	public void testRealizeVisibleChildren() {
+		display.syncExec(() -> {
+			List<? extends EditPart> children = getDiagram().getChildren();
+			assertTrue(children.size() > 0);
+			assertTrue(children.size() < 100);
+			assertEquals(children.size(), createdEditParts);
+			assertNotNull(findChild(models.get(0)));
+			assertNull(findChild(models.get(models.size() - 1)));
+			for (int i = 1; i < children.size(); i++) {
+				assertTrue(models.indexOf(children.get(i - 1).getModel()) < models.indexOf(children.get(i).getModel()));
+			}
+		});
+	}
+
+	/**
+	 * Scrolling creates the EditParts of the model children which become visible
+	 * and reuses the EditParts of the ones which have been visible before.
+	 */
+	@Test
+	public void testScroll() {
+		display.syncExec(() -> {
+			Rectangle first = models.get(0);
+			Rectangle center = models.get(50 * 100 + 50);
+			EditPart firstEditPart = findChild(first);
+			assertNull(findChild(center));
+
+			scrollTo(5000, 5000);
+			assertNotNull(findChild(center));
+			assertNull(findChild(first));
+			assertNull(firstEditPart.getParent());
+
+			int created = createdEditParts;
+			scrollTo(0, 0);
+			assertSame(firstEditPart, findChild(first));
+			assertEquals(created, createdEditParts);
+		});
+	}
+
+	/**
+	 * Looking up a model child via getEditPartForModel() creates its EditPart,
+	 * while the registry only contains the existing EditParts. The EditPart is
+	 * kept while it is selected and removed once it has been deselected.
+	 */
+	@Test
+	public void testRealizeOnDemand() {
+		display.syncExec(() -> {
+			Rectangle last = models.get(models.size() - 1);
+			assertNull(viewer.getEditPartRegistry().get(last));
+			assertNull(findChild(last));
+
+			EditPart editPart = viewer.getEditPartForModel(last);
+			assertNotNull(editPart);
+			assertSame(getDiagram(), editPart.getParent());
+			assertSame(editPart, viewer.getEditPartRegistry().get(last));
+
+			viewer.select(editPart);
+			scrollTo(2000, 2000);
+			assertSame(getDiagram(), editPart.getParent());
+			assertEquals(List.of(editPart), viewer.getSelectedEditParts());
+
+			viewer.deselectAll();
+			viewer.flush();
+			assertNull(editPart.getParent());
+			assertNull(viewer.getEditPartRegistry().get(last));
+		});
+	}
+
+	/**
+	 * An EditPart created on demand is removed by the next update of the realized
+	 * region, unless it is selected. Selecting or revealing the removed EditPart
+	 * creates it again.
+	 */
+	@Test
+	public void testRealizeRemovedEditPart() {
+		display.syncExec(() -> {
+			Rectangle last = models.get(models.size() - 1);
+			EditPart editPart = viewer.getEditPartForModel(last);
+			scrollTo(100, 100);
+			assertNull(editPart.getParent());
+
+			viewer.select(editPart);
+			assertEquals(List.of(editPart), viewer.getSelectedEditParts());
+			assertSame(getDiagram(), editPart.getParent());
+			viewer.deselectAll();
+			viewer.flush();
+			assertNull(editPart.getParent());
+
+			viewer.reveal(editPart);
+			viewer.flush();
+			assertSame(editPart, viewer.getEditPartRegistry().get(last));
+			assertSame(getDiagram(), editPart.getParent());
+		});
+	}
+
+	/**
+	 * A deactivated container no longer creates the EditParts of its model
+	 * children.
+	 */
+	@Test
+	public void testDeactivatedContainer() {
+		display.syncExec(() -> {
+			Rectangle last = models.get(models.size() - 1);
+			DiagramEditPart diagram = getDiagram();
+			viewer.setContents(new Object());
+			assertNull(viewer.getEditPartForModel(last));
+			assertNull(findChild(diagram, last));
+		});
+	}
+
+	private class DiagramEditPart extends AbstractVirtualContainerEditPart {
+		public DiagramEditPart(Object model) {
+			setModel(model);
+		}
+
+		@Override
+		protected IFigure createFigure() {
+			FreeformLayer layer = new FreeformLayer();
+			layer.setLayoutManager(new FreeformLayout());
+			return layer;
+		}
+
+		@Override
+		protected void createEditPolicies() {
+			// nothing to do
+		}
+
+		@Override
+		protected List<Rectangle> getModelChildren() {
+			return models;
+		}
+
+		@Override
+		protected Rectangle getModelChildBounds(Object model) {
+			return (Rectangle) model;
+		}
+	}
+
+	private class NodeEditPart extends AbstractGraphicalEditPart {
+		public NodeEditPart(Object model) {
+			setModel(model);
+			createdEditParts++;
+		}
+
+		@Override
+		protected IFigure createFigure() {
+			return new Figure();
+		}
+
+		@Override
+		protected void createEditPolicies() {
+			// nothing to do
+		}
+
+		@Override
+		protected void refreshVisuals() {
+			((GraphicalEditPart) getParent()).setLayoutConstraint(this, getFigure(), getModel());
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -31,6 +31,8 @@ import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.draw2d.IFigure;
 import org.eclipse.draw2d.geometry.Point;
 
+import org.eclipse.gef.editparts.RefreshScheduler;
+
 /**
  * An adapter on an SWT {@link org.eclipse.swt.widgets.Control} that manages the
  * {@link org.eclipse.gef.EditPart EditParts}. The viewer is responsible for the
@@ -355,6 +357,19 @@ public interface EditPartViewer extends org.eclipse.jface.viewers.ISelectionProv
 	 */
 	ResourceManager getResourceManager();
 
+	/**
+	 * Returns the scheduler which coalesces the refreshes of this viewer's
+	 * EditParts, or <code>null</code> if EditParts are always refreshed
+	 * immediately. Scheduled refreshes are performed at the latest when the
+	 * viewer is {@link #flush() flushed}.
+	 *
+	 * @return <code>null</code> or the refresh scheduler
+	 * @since 3.22
+	 */
+	default RefreshScheduler getRefreshScheduler() {
+		return null;
+	}
+
 	/**
 	 * Returns the <code>RootEditPart</code>. The RootEditPart is a special EditPart
 	 * that serves as the parent to the contents editpart. The <i>root</i> is never
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2024 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -15,6 +15,7 @@ package org.eclipse.gef;
 
 import java.lang.reflect.Field;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -25,6 +26,8 @@ import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.jface.viewers.StructuredSelection;
 
+import org.eclipse.gef.internal.SelectionList;
+import org.eclipse.gef.tools.ToolUtilities;
 import org.eclipse.gef.ui.parts.AbstractEditPartViewer;
 
 /**
@@ -34,6 +37,10 @@ import org.eclipse.gef.ui.parts.AbstractEditPartViewer;
  * closely tied to the current selection. The selection manager provides the
  * mechanism for modifying the selection and any validation.
  * <P>
+ * Multiple modifications can be combined via {@link #runBatched(Runnable)}, in
+ * which case listeners are notified only once, after all modifications have
+ * been made.
+ * <P>
  * WARNING: Subclassing this class is considered experimental at this point.
  *
  * @since 3.2
@@ -45,6 +52,26 @@ public class SelectionManager {
 	private List<EditPart> selection;
 	private EditPartViewer viewer;
 
+	/**
+	 * The selected edit parts in the same order as {@link #selection}, used for
+	 * fast membership checks. The viewer may modify the list of selected edit
+	 * parts directly, which is detected via the modification count of the list.
+	 */
+	private final Set<EditPart> selectedParts = new LinkedHashSet<>();
+	private int selectedPartsModCount = -1;
+	private int batchDepth;
+	private boolean batchChanged;
+
+	/**
+	 * Incremented whenever the selection changes, including changes within a
+	 * batch. Used to detect whether the cached top level selection is still up to
+	 * date.
+	 */
+	private int selectionEpoch;
+	private int topLevelEpoch;
+	private int topLevelModCount;
+	private List<? extends EditPart> topLevelSelection;
+
 	/**
 	 * Default Constructor
 	 *
@@ -86,8 +113,14 @@ public class SelectionManager {
 		}
 		// if the editpart is already in the list, re-order it to be the last
 		// one
-		selection.remove(editpart);
+		Set<EditPart> parts = getSelectedParts();
+		if (!parts.add(editpart)) {
+			parts.remove(editpart);
+			parts.add(editpart);
+			selection.remove(editpart);
+		}
 		selection.add(editpart);
+		selectedPartsUpdated();
 		editpart.setSelected(EditPart.SELECTED_PRIMARY);
 
 		fireSelectionChanged();
@@ -102,7 +135,10 @@ public class SelectionManager {
 	public void deselect(EditPart editpart) {
 		editpart.setSelected(EditPart.SELECTED_NONE);
 
-		selection.remove(editpart);
+		if (getSelectedParts().remove(editpart)) {
+			selection.remove(editpart);
+			selectedPartsUpdated();
+		}
 		if (!selection.isEmpty()) {
 			// IMPORTANT: it may (temporarily) happen that the selection list
 			// contains edit parts, which are not selectable (any more) when
@@ -140,18 +176,115 @@ public class SelectionManager {
 		viewer.setFocus(null);
 		selection.forEach(ep -> ep.setSelected(EditPart.SELECTED_NONE));
 		selection.clear();
+		selectedParts.clear();
+		selectedPartsUpdated();
 		fireSelectionChanged();
 	}
 
 	/**
 	 * Causes the viewer to fire selection changed notification to all listeners.
+	 * Within {@link #runBatched(Runnable)}, the notification is postponed until
+	 * the outermost batch has finished.
 	 *
 	 * @since 3.2
 	 */
 	protected final void fireSelectionChanged() {
+		selectionEpoch++;
+		if (batchDepth > 0) {
+			batchChanged = true;
+			return;
+		}
 		notifier.run();
 	}
 
+	/**
+	 * Runs the given runnable as a single selection transaction. Any number of
+	 * selection changes may be performed by the runnable, e.g. by calling
+	 * {@link #appendSelection(EditPart)} for each edit part to select. Instead of
+	 * being notified about every change, listeners are notified once after the
+	 * runnable has finished, and only if the selection has been changed. Batches
+	 * may be nested, in which case the notification is sent once the outermost
+	 * batch has finished.
+	 * <P>
+	 * The selection is updated immediately and may be queried by the runnable.
+	 * Listeners are also notified if the runnable throws an exception.
+	 *
+	 * @param runnable the runnable performing the selection changes
+	 * @since 3.22
+	 */
+	public void runBatched(Runnable runnable) {
+		batchDepth++;
+		try {
+			runnable.run();
+		} finally {
+			batchDepth--;
+			if (batchDepth == 0 && batchChanged) {
+				batchChanged = false;
+				notifier.run();
+			}
+		}
+	}
+
+	/**
+	 * Returns the selected edit parts of the viewer, excluding all edit parts which
+	 * have a selected ancestor, as computed by
+	 * {@link ToolUtilities#getSelectionWithoutDependants(List)}. The result is
+	 * computed at most once per selection and reused until the selection is
+	 * changed. Tools typically request it several times during a single drag
+	 * operation. If the viewer doesn't return the selection managed by this class
+	 * from {@link EditPartViewer#getSelectedEditParts()}, the result is computed
+	 * from the viewer's selected edit parts on every call.
+	 *
+	 * @return an unmodifiable list of the top level selected edit parts
+	 * @since 3.22
+	 */
+	public List<? extends EditPart> getSelectionWithoutDependants() {
+		List<? extends EditPart> selectedEditParts = viewer.getSelectedEditParts();
+		if (!(selection instanceof SelectionList list) || list.getUnmodifiableView() != selectedEditParts) {
+			return List.copyOf(ToolUtilities.getSelectionWithoutDependants(selectedEditParts));
+		}
+		// The viewer may modify the list of selected edit parts directly
+		int modCount = list.getModificationCount();
+		if (topLevelSelection == null || topLevelEpoch != selectionEpoch || topLevelModCount != modCount) {
+			topLevelSelection = List.copyOf(ToolUtilities.getSelectionWithoutDependants(selection));
+			topLevelEpoch = selectionEpoch;
+			topLevelModCount = modCount;
+		}
+		return topLevelSelection;
+	}
+
+	/**
+	 * Returns the selected edit parts as set. The viewer may modify the list of
+	 * selected edit parts directly (e.g. to clear it), in which case the set is
+	 * recreated. If the modifications of the list can't be tracked, the set is
+	 * recreated every time.
+	 */
+	private Set<EditPart> getSelectedParts() {
+		int modCount = getModificationCount();
+		if (modCount != selectedPartsModCount || modCount == -1) {
+			selectedParts.clear();
+			selectedParts.addAll(selection);
+			selectedPartsModCount = modCount;
+		}
+		return selectedParts;
+	}
+
+	/**
+	 * Marks the set of selected edit parts as up to date, after both the list and
+	 * the set have been modified the same way.
+	 */
+	private void selectedPartsUpdated() {
+		selectedPartsModCount = getModificationCount();
+	}
+
+	/**
+	 * Returns the modification count of the list of selected edit parts, or
+	 * <code>-1</code> if it isn't tracked.
+	 */
+	private int getModificationCount() {
+		return selection instanceof SelectionList list ? list.getModificationCount() : -1;
+	}
+
 	/**
 	 * Returns the focus editpart.
 	 *
@@ -223,6 +356,10 @@ public class SelectionManager {
 		this.viewer = viewer;
 		this.selection = selection;
 		this.notifier = notifier;
+		selectedParts.clear();
+		selectedParts.addAll(selection);
+		selectedPartsUpdated();
+		topLevelSelection = null;
 
 		hookViewer(viewer);
 	}
@@ -290,13 +427,17 @@ public class SelectionManager {
 			}
 		}
 		selection.clear();
+		selectedParts.clear();
 
 		Iterator<EditPart> itr = orderedSelection.iterator();
 		while (itr.hasNext()) {
 			EditPart part = itr.next();
-			selection.add(part);
+			if (selectedParts.add(part)) {
+				selection.add(part);
+			}
 			part.setSelected(itr.hasNext() ? EditPart.SELECTED : EditPart.SELECTED_PRIMARY);
 		}
+		selectedPartsUpdated();
 		fireSelectionChanged();
 	}
 
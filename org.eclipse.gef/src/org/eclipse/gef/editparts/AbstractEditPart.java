@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -774,7 +774,7 @@ public abstract class AbstractEditPart implements EditPart, RequestConstants, IA
 			}
 		}
 
-		List<? extends Object> modelObjects = getModelChildren();
+		List<? extends Object> modelObjects = getRealizedModelChildren();
 		List<? extends EditPart> curChildren = getChildren();
 		int i;
 		for (i = 0; i < modelObjects.size(); i++) {
@@ -808,6 +808,17 @@ public abstract class AbstractEditPart implements EditPart, RequestConstants, IA
 		}
 	}
 
+	/**
+	 * Returns the model children for which {@link #refreshChildren()} creates
+	 * EditParts. By default, these are all {@link #getModelChildren() model
+	 * children}.
+	 *
+	 * @see AbstractVirtualContainerEditPart
+	 */
+	List<? extends Object> getRealizedModelChildren() {
+		return getModelChildren();
+	}
+
 	/**
 	 * Refreshes this EditPart's <i>visuals</i>. This method is called by
 	 * {@link #refresh()}, and may also be called in response to notifications from
@@ -978,6 +989,43 @@ public abstract class AbstractEditPart implements EditPart, RequestConstants, IA
 		addChildVisual(editpart, index);
 	}
 
+	/**
+	 * Schedules the refresh of the given features of this EditPart with the
+	 * viewer's {@link EditPartViewer#getRefreshScheduler() refresh scheduler}.
+	 * Model listeners may call this method instead of refreshing this EditPart
+	 * directly, so that a series of model changes only causes a single refresh.
+	 * If the viewer has no refresh scheduler or if this EditPart is not active,
+	 * the features are refreshed immediately.
+	 *
+	 * @param features a combination of {@link RefreshScheduler#VISUALS},
+	 *                 {@link RefreshScheduler#CHILDREN},
+	 *                 {@link RefreshScheduler#SOURCE_CONNECTIONS} and
+	 *                 {@link RefreshScheduler#TARGET_CONNECTIONS}
+	 * @since 3.22
+	 */
+	protected void scheduleRefresh(int features) {
+		EditPartViewer viewer = getViewer();
+		RefreshScheduler scheduler = viewer == null ? null : viewer.getRefreshScheduler();
+		if (scheduler != null && isActive()) {
+			scheduler.schedule(this, features);
+		} else {
+			performRefresh(features);
+		}
+	}
+
+	/**
+	 * Refreshes the given features of this EditPart. Called by the
+	 * {@link RefreshScheduler}.
+	 */
+	void performRefresh(int features) {
+		if ((features & RefreshScheduler.VISUALS) != 0) {
+			refreshVisuals();
+		}
+		if ((features & RefreshScheduler.CHILDREN) != 0) {
+			refreshChildren();
+		}
+	}
+
 	/**
 	 * Sets the value of the specified flag. Flag values are declared as static
 	 * constants. Subclasses may define additional constants above
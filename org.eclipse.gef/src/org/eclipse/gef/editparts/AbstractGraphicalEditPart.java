@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -607,6 +607,17 @@ public abstract class AbstractGraphicalEditPart extends AbstractEditPart impleme
 		targetConnections.remove(connection);
 	}
 
+	@Override
+	void performRefresh(int features) {
+		super.performRefresh(features);
+		if ((features & RefreshScheduler.SOURCE_CONNECTIONS) != 0) {
+			refreshSourceConnections();
+		}
+		if ((features & RefreshScheduler.TARGET_CONNECTIONS) != 0) {
+			refreshTargetConnections();
+		}
+	}
+
 	/**
 	 * Extends {@link AbstractEditPart#refresh()} to refresh two additional
 	 * structural features: <i>source</i> and <i>target</i> connections. Subclasses
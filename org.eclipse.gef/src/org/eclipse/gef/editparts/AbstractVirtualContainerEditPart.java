@@ -0,0 +1,449 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.gef.editparts;
+
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.Viewport;
+import org.eclipse.draw2d.ViewportUtilities;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.eclipse.gef.EditPart;
+import org.eclipse.gef.EditPartListener;
+import org.eclipse.gef.ui.parts.ScrollingGraphicalViewer;
+
+/**
+ * A container EditPart which only creates the EditParts of those model children
+ * which are in or near the visible area of the enclosing {@link Viewport}.
+ * Diagrams with a very large number of model children can therefore be opened
+ * without creating an EditPart and a figure for each of them.
+ * <p>
+ * Subclasses provide the bounds of every model child via
+ * {@link #getModelChildBounds(Object)}. The model children are indexed by these
+ * bounds whenever {@link #refreshChildren()} is called, which is why clients
+ * must also call it after the bounds of a model child have changed. Whenever
+ * the viewport is scrolled or resized, the EditParts of the model children
+ * within the {@link #getRealizedRegion() realized region} are created and the
+ * ones of the model children outside of it are removed. Removed EditParts are
+ * kept for a while and reused when their model child is scrolled back into
+ * view. Selected EditParts and the focus EditPart are never removed. The
+ * content pane additionally contains an invisible figure covering the bounds of
+ * all model children, so that the viewport can be scrolled over all of them.
+ * <p>
+ * The EditPart of any model child can be created on demand via
+ * {@link #realizeModelChild(Object)}. Within a
+ * {@link ScrollingGraphicalViewer}, this is done by
+ * {@link org.eclipse.gef.EditPartViewer#getEditPartForModel(Object)} and when
+ * a removed EditPart is revealed or selected. Such EditParts are removed again
+ * by the next update of the realized region, unless they are selected or have
+ * focus by then. Once they are neither selected nor have focus anymore, the
+ * update is queued.
+ * <p>
+ * Note that {@link #getChildren()} only contains the created EditParts. For
+ * example, selecting all EditParts only selects the ones which currently exist,
+ * and connections are only shown if both their source and target EditPart
+ * exist.
+ *
+ * @since 3.22
+ */
+public abstract class AbstractVirtualContainerEditPart extends AbstractGraphicalEditPart {
+
+	private static final int CELL_SIZE = 512;
+	private static final int MIN_RECYCLED = 64;
+
+	private static final class Entry {
+		private final Object model;
+		private final Rectangle bounds;
+		private final int order;
+		private int stamp;
+
+		private Entry(Object model, Rectangle bounds, int order) {
+			this.model = model;
+			this.bounds = bounds;
+			this.order = order;
+		}
+
+		private boolean intersects(Rectangle region) {
+			return bounds.x <= region.right() && bounds.y <= region.bottom() && bounds.right() >= region.x
+					&& bounds.bottom() >= region.y;
+		}
+	}
+
+	private final Map<Object, Entry> entries = new HashMap<>();
+	private final Map<Long, List<Entry>> cells = new HashMap<>();
+	private final List<Entry> unbounded = new ArrayList<>();
+	private List<Object> models = Collections.emptyList();
+	/** The model child whose EditPart is created on demand */
+	private Object requested;
+	/** The removed EditParts in the order in which they have been removed */
+	private final Map<Object, EditPart> recycled = new LinkedHashMap<>();
+	private final IFigure extentFigure = new Figure();
+	private final PropertyChangeListener viewportListener = event -> queueRegionUpdate();
+	private final EditPartListener selectionListener = new EditPartListener.Stub() {
+		@Override
+		public void selectedStateChanged(EditPart part) {
+			if (part.getSelected() == SELECTED_NONE && !part.hasFocus() && isOutsideRealizedRegion(part.getModel())) {
+				queueRegionUpdate();
+			}
+		}
+	};
+	private Viewport viewport;
+	private int stamp;
+	private boolean refreshing;
+	private boolean updatingRegion;
+	private boolean updateQueued;
+
+	/**
+	 * Returns the bounds of the given model child, in the coordinates of the
+	 * children of the {@link #getContentPane() content pane}. If
+	 * <code>null</code> is returned, the EditPart of the model child is always
+	 * created.
+	 *
+	 * @param model the model child
+	 * @return the bounds of the model child or <code>null</code>
+	 */
+	protected abstract Rectangle getModelChildBounds(Object model);
+
+	/**
+	 * Returns the region for which the EditParts of the model children are
+	 * created, in the coordinates of the children of the {@link #getContentPane()
+	 * content pane}. The default implementation returns the bounds of the
+	 * nearest enclosing viewport, expanded by half of its size in each direction.
+	 * If there is no viewport, <code>null</code> is returned and the EditParts of
+	 * all model children are created.
+	 *
+	 * @return the realized region or <code>null</code>
+	 */
+	protected Rectangle getRealizedRegion() {
+		IFigure contentPane = getContentPane();
+		Viewport port = ViewportUtilities.getNearestEnclosingViewport(contentPane);
+		if (port == null) {
+			return null;
+		}
+		Rectangle region = port.getBounds().getCopy();
+		port.translateToAbsolute(region);
+		contentPane.translateToRelative(region);
+		contentPane.translateFromParent(region);
+		return region.expand(region.width / 2, region.height / 2);
+	}
+
+	/**
+	 * Creates the EditPart of the given model child, if it doesn't exist yet.
+	 * Returns <code>null</code> if the object is not a model child of this
+	 * EditPart, if this EditPart is not active or if its children are currently
+	 * being refreshed. If the model child is outside of the realized region, its
+	 * EditPart is removed by the next update of the region, unless it is selected
+	 * or has focus by then.
+	 *
+	 * @param model the model child
+	 * @return the EditPart of the model child or <code>null</code>
+	 */
+	public EditPart realizeModelChild(Object model) {
+		if (!isActive() || refreshing || !entries.containsKey(model)) {
+			return null;
+		}
+		for (EditPart child : getChildren()) {
+			if (child.getModel() == model) {
+				return child;
+			}
+		}
+		requested = model;
+		try {
+			updateRegion();
+		} finally {
+			requested = null;
+		}
+		for (EditPart child : getChildren()) {
+			if (child.getModel() == model) {
+				return child;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Extends the superclass implementation to update the created EditParts
+	 * whenever the enclosing viewport is scrolled or resized, and to register
+	 * this EditPart with its {@link ScrollingGraphicalViewer}.
+	 *
+	 * @see org.eclipse.gef.EditPart#activate()
+	 */
+	@Override
+	public void activate() {
+		super.activate();
+		if (getViewer() instanceof ScrollingGraphicalViewer scrollingViewer) {
+			scrollingViewer.addVirtualContainer(this);
+		}
+		viewport = ViewportUtilities.getNearestEnclosingViewport(getContentPane());
+		if (viewport != null) {
+			viewport.getHorizontalRangeModel().addPropertyChangeListener(viewportListener);
+			viewport.getVerticalRangeModel().addPropertyChangeListener(viewportListener);
+			queueRegionUpdate();
+		}
+	}
+
+	/**
+	 * Extends the superclass implementation to remove the viewport listeners, to
+	 * unregister this EditPart from its {@link ScrollingGraphicalViewer} and to
+	 * release the removed EditParts.
+	 *
+	 * @see org.eclipse.gef.EditPart#deactivate()
+	 */
+	@Override
+	public void deactivate() {
+		if (viewport != null) {
+			viewport.getHorizontalRangeModel().removePropertyChangeListener(viewportListener);
+			viewport.getVerticalRangeModel().removePropertyChangeListener(viewportListener);
+			viewport = null;
+		}
+		if (getViewer() instanceof ScrollingGraphicalViewer scrollingViewer) {
+			scrollingViewer.removeVirtualContainer(this);
+		}
+		updateQueued = false;
+		recycled.clear();
+		super.deactivate();
+	}
+
+	/**
+	 * Extends the superclass implementation to reuse a previously removed
+	 * EditPart of the same model child.
+	 *
+	 * @see AbstractEditPart#createChild(Object)
+	 */
+	@Override
+	protected EditPart createChild(Object model) {
+		EditPart child = recycled.remove(model);
+		return child != null ? child : super.createChild(model);
+	}
+
+	/**
+	 * Extends the superclass implementation to update the created EditParts
+	 * whenever a child outside of the realized region is deselected or loses
+	 * focus.
+	 *
+	 * @see AbstractEditPart#addChild(EditPart, int)
+	 */
+	@Override
+	protected void addChild(EditPart child, int index) {
+		super.addChild(child, index);
+		child.addEditPartListener(selectionListener);
+	}
+
+	/**
+	 * Extends the superclass implementation to keep the EditParts which are
+	 * removed because they are no longer in the realized region.
+	 *
+	 * @see AbstractEditPart#removeChild(EditPart)
+	 */
+	@Override
+	protected void removeChild(EditPart child) {
+		child.removeEditPartListener(selectionListener);
+		super.removeChild(child);
+		Object model = child.getModel();
+		if (refreshing && entries.containsKey(model)) {
+			recycled.put(model, child);
+			int limit = Math.max(MIN_RECYCLED, getChildren().size());
+			Iterator<EditPart> iter = recycled.values().iterator();
+			while (recycled.size() > limit) {
+				iter.next();
+				iter.remove();
+			}
+		}
+	}
+
+	/**
+	 * Extends the superclass implementation to index the model children by their
+	 * bounds, before only the EditParts of the model children within the realized
+	 * region are created.
+	 *
+	 * @see AbstractEditPart#refreshChildren()
+	 */
+	@Override
+	protected void refreshChildren() {
+		refreshing = true;
+		try {
+			super.refreshChildren();
+		} finally {
+			refreshing = false;
+		}
+	}
+
+	@Override
+	List<? extends Object> getRealizedModelChildren() {
+		if (!updatingRegion) {
+			buildIndex();
+		}
+		Rectangle region = getRealizedRegion();
+		if (region == null) {
+			return models;
+		}
+
+		List<Entry> realized = new ArrayList<>();
+		stamp++;
+		collectEntries(region, realized);
+		unbounded.forEach(entry -> addEntry(entry, realized));
+		for (EditPart child : getChildren()) {
+			if (child.getSelected() != SELECTED_NONE || child.hasFocus()) {
+				addEntry(entries.get(child.getModel()), realized);
+			}
+		}
+		if (requested != null) {
+			addEntry(entries.get(requested), realized);
+		}
+
+		realized.sort(Comparator.comparingInt(entry -> entry.order));
+		List<Object> result = new ArrayList<>(realized.size());
+		realized.forEach(entry -> result.add(entry.model));
+		return result;
+	}
+
+	private void buildIndex() {
+		entries.clear();
+		cells.clear();
+		unbounded.clear();
+		models = new ArrayList<>(getModelChildren());
+		Rectangle extent = null;
+		for (int i = 0; i < models.size(); i++) {
+			Object model = models.get(i);
+			Rectangle bounds = getModelChildBounds(model);
+			Entry entry = new Entry(model, bounds == null ? null : bounds.getCopy(), i);
+			entries.put(model, entry);
+			if (bounds == null) {
+				unbounded.add(entry);
+				continue;
+			}
+			if (extent == null) {
+				extent = bounds.getCopy();
+			} else {
+				extent.union(bounds);
+			}
+			int minX = Math.floorDiv(bounds.x, CELL_SIZE);
+			int minY = Math.floorDiv(bounds.y, CELL_SIZE);
+			int maxX = Math.floorDiv(bounds.right(), CELL_SIZE);
+			int maxY = Math.floorDiv(bounds.bottom(), CELL_SIZE);
+			for (int x = minX; x <= maxX; x++) {
+				for (int y = minY; y <= maxY; y++) {
+					cells.computeIfAbsent(getCellKey(x, y), key -> new ArrayList<>()).add(entry);
+				}
+			}
+		}
+		recycled.keySet().retainAll(entries.keySet());
+		updateExtentFigure(extent);
+	}
+
+	private void updateExtentFigure(Rectangle extent) {
+		IFigure contentPane = getContentPane();
+		if (extent == null) {
+			if (extentFigure.getParent() != null) {
+				extentFigure.getParent().remove(extentFigure);
+			}
+			return;
+		}
+		if (extentFigure.getParent() != contentPane) {
+			if (extentFigure.getParent() != null) {
+				extentFigure.getParent().remove(extentFigure);
+			}
+			extentFigure.setVisible(false);
+			// Must be the last child, so that the figures of the children keep their
+			// indices
+			contentPane.add(extentFigure);
+		}
+		extentFigure.setBounds(extent);
+		contentPane.setConstraint(extentFigure, extent);
+	}
+
+	private void collectEntries(Rectangle region, List<Entry> result) {
+		int minX = Math.floorDiv(region.x, CELL_SIZE);
+		int minY = Math.floorDiv(region.y, CELL_SIZE);
+		int maxX = Math.floorDiv(region.right(), CELL_SIZE);
+		int maxY = Math.floorDiv(region.bottom(), CELL_SIZE);
+		// Large regions are cheaper to query by visiting the occupied cells
+		if ((maxX - minX + 1L) * (maxY - minY + 1L) > cells.size()) {
+			for (List<Entry> cell : cells.values()) {
+				collectEntries(cell, region, result);
+			}
+			return;
+		}
+		for (int x = minX; x <= maxX; x++) {
+			for (int y = minY; y <= maxY; y++) {
+				List<Entry> cell = cells.get(getCellKey(x, y));
+				if (cell != null) {
+					collectEntries(cell, region, result);
+				}
+			}
+		}
+	}
+
+	private void collectEntries(List<Entry> cell, Rectangle region, List<Entry> result) {
+		for (Entry entry : cell) {
+			if (entry.stamp != stamp && entry.intersects(region)) {
+				addEntry(entry, result);
+			}
+		}
+	}
+
+	private void addEntry(Entry entry, List<Entry> result) {
+		if (entry != null && entry.stamp != stamp) {
+			entry.stamp = stamp;
+			result.add(entry);
+		}
+	}
+
+	private boolean isOutsideRealizedRegion(Object model) {
+		Entry entry = entries.get(model);
+		if (entry == null || entry.bounds == null) {
+			return false;
+		}
+		Rectangle region = getRealizedRegion();
+		return region != null && !entry.intersects(region);
+	}
+
+	private static long getCellKey(int x, int y) {
+		return ((long) x << 32) | (y & 0xFFFFFFFFL);
+	}
+
+	private void queueRegionUpdate() {
+		if (!updateQueued) {
+			updateQueued = true;
+			getFigure().getUpdateManager().runWithUpdate(() -> {
+				updateQueued = false;
+				if (isActive()) {
+					updateRegion();
+				}
+			});
+		}
+	}
+
+	/**
+	 * Updates the created EditParts without re-indexing the model children.
+	 */
+	private void updateRegion() {
+		updatingRegion = true;
+		try {
+			refreshChildren();
+		} finally {
+			updatingRegion = false;
+		}
+	}
+
+}
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.gef.editparts;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import org.eclipse.core.runtime.Assert;
+
+/**
+ * Coalesces the refreshes of the EditParts of a viewer. Instead of refreshing
+ * itself for every model notification, an EditPart
+ * {@link AbstractEditPart#scheduleRefresh(int) schedules} which of its features
+ * are out of date. The features scheduled for the same EditPart are combined
+ * and refreshed only once, either when the scheduler is {@link #flush()
+ * flushed} or when the executor runs the next flush, whichever comes first.
+ * Within a {@link org.eclipse.gef.ui.parts.GraphicalViewerImpl}, this happens
+ * once per update cycle of its lightweight system.
+ * <p>
+ * EditParts are refreshed in the order in which they have been scheduled first.
+ * EditParts which are no longer active when the scheduler is flushed are not
+ * refreshed.
+ * <p>
+ * This class must only be accessed from the UI thread.
+ *
+ * @since 3.22
+ */
+public final class RefreshScheduler {
+
+	/**
+	 * Refreshes the visuals of an EditPart.
+	 *
+	 * @see AbstractEditPart#refreshVisuals()
+	 */
+	public static final int VISUALS = 1;
+
+	/**
+	 * Refreshes the children of an EditPart.
+	 *
+	 * @see AbstractEditPart#refreshChildren()
+	 */
+	public static final int CHILDREN = 2;
+
+	/**
+	 * Refreshes the source connections of a graphical EditPart.
+	 *
+	 * @see AbstractGraphicalEditPart#refreshSourceConnections()
+	 */
+	public static final int SOURCE_CONNECTIONS = 4;
+
+	/**
+	 * Refreshes the target connections of a graphical EditPart.
+	 *
+	 * @see AbstractGraphicalEditPart#refreshTargetConnections()
+	 */
+	public static final int TARGET_CONNECTIONS = 8;
+
+	/**
+	 * Refreshes all features of an EditPart.
+	 */
+	public static final int ALL = VISUALS | CHILDREN | SOURCE_CONNECTIONS | TARGET_CONNECTIONS;
+
+	private final Executor executor;
+	private Map<AbstractEditPart, Integer> scheduled = new LinkedHashMap<>();
+	private boolean flushQueued;
+
+	/**
+	 * Creates a new scheduler, which uses the given executor to flush the
+	 * scheduled refreshes asynchronously.
+	 *
+	 * @param executor the executor running the asynchronous flushes
+	 */
+	public RefreshScheduler(Executor executor) {
+		Assert.isNotNull(executor);
+		this.executor = executor;
+	}
+
+	/**
+	 * Schedules the refresh of the given features of the EditPart. The features
+	 * are combined with the ones which have already been scheduled for it.
+	 *
+	 * @param editPart the EditPart to refresh
+	 * @param features a combination of {@link #VISUALS}, {@link #CHILDREN},
+	 *                 {@link #SOURCE_CONNECTIONS} and {@link #TARGET_CONNECTIONS}
+	 */
+	public void schedule(AbstractEditPart editPart, int features) {
+		Assert.isNotNull(editPart);
+		if ((features & ALL) == 0) {
+			return;
+		}
+		scheduled.merge(editPart, features & ALL, (a, b) -> a | b);
+		if (!flushQueued) {
+			flushQueued = true;
+			executor.execute(() -> {
+				flushQueued = false;
+				flush();
+			});
+		}
+	}
+
+	/**
+	 * Returns the features of the EditPart whose refresh is scheduled.
+	 *
+	 * @param editPart the EditPart
+	 * @return the scheduled features or <code>0</code>
+	 */
+	public int getScheduledFeatures(AbstractEditPart editPart) {
+		return scheduled.getOrDefault(editPart, 0);
+	}
+
+	/**
+	 * Returns whether the refresh of any EditPart is scheduled.
+	 *
+	 * @return <code>true</code> if a refresh is scheduled
+	 */
+	public boolean hasScheduledRefreshes() {
+		return !scheduled.isEmpty();
+	}
+
+	/**
+	 * Refreshes all scheduled EditParts. Refreshes which are scheduled while
+	 * flushing are performed as well.
+	 */
+	public void flush() {
+		while (!scheduled.isEmpty()) {
+			Map<AbstractEditPart, Integer> batch = scheduled;
+			scheduled = new LinkedHashMap<>();
+			batch.forEach((editPart, features) -> {
+				if (editPart.isActive()) {
+					editPart.performRefresh(features);
+				}
+			});
+		}
+	}
+
+}
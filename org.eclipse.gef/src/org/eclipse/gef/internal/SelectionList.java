@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.gef.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import org.eclipse.gef.EditPart;
+
+/**
+ * The raw list of selected edit parts of a viewer. Viewers and their subclasses
+ * may modify this list directly. The modification count allows the
+ * {@link org.eclipse.gef.SelectionManager} to detect such changes, in order to
+ * keep the data it derives from the selection up to date.
+ */
+public final class SelectionList extends ArrayList<EditPart> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient List<EditPart> unmodifiableView = Collections.unmodifiableList(this);
+
+	/**
+	 * Returns the unmodifiable view of this list, which is returned by the viewer
+	 * as its selected edit parts. The same instance is returned every time.
+	 *
+	 * @return the unmodifiable view of this list
+	 */
+	public List<EditPart> getUnmodifiableView() {
+		return unmodifiableView;
+	}
+
+	/**
+	 * Returns the number of modifications of this list. Unlike the modification
+	 * count of an {@link ArrayList}, the count is also incremented when an edit
+	 * part is replaced.
+	 *
+	 * @return the modification count
+	 */
+	public int getModificationCount() {
+		return modCount;
+	}
+
+	@Override
+	public EditPart set(int index, EditPart element) {
+		modCount++;
+		return super.set(index, element);
+	}
+
+	@Override
+	public void replaceAll(UnaryOperator<EditPart> operator) {
+		modCount++;
+		super.replaceAll(operator);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -294,8 +294,9 @@ public class CreationTool extends TargetingTool {
 		if (model == null || viewer == null) {
 			return;
 		}
-		EditPart editpart = viewer.getEditPartForModel(model);
+		// Perform any scheduled refresh which creates the new EditPart
 		viewer.flush();
+		EditPart editpart = viewer.getEditPartForModel(model);
 		if (editpart != null && editpart.isSelectable()) {
 			// Force the new object to get positioned in the viewer.
 			viewer.select(editpart);
@@ -0,0 +1,237 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.gef.tools;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.eclipse.gef.GraphicalEditPart;
+
+/**
+ * A uniform grid over the absolute bounds of the figures of a fixed set of edit
+ * parts. The bounds are captured when the index is created. Queries return all
+ * edit parts whose bounds touch the requested area. The result is a superset of
+ * the edit parts that are touched by or contained in the area, which then still
+ * need to be checked against the current bounds of their figures.
+ * <p>
+ * Edit parts whose bounds span many cells, such as large containers, are not
+ * stored in the grid but returned by every query. This keeps the size of the
+ * grid linear in the number of edit parts.
+ */
+final class EditPartSpatialIndex {
+
+	/**
+	 * The minimum size of a single cell, in pixels.
+	 */
+	private static final int MIN_CELL_SIZE = 32;
+
+	/**
+	 * The maximum number of cells per edit part. Edit parts spanning more cells
+	 * are returned by every query.
+	 */
+	private static final int MAX_CELLS_PER_PART = 64;
+
+	private final GraphicalEditPart[] parts;
+	private final int[] bounds;
+	private final int[] largeParts;
+	private final int left, top, columns, rows, cellSize;
+	private final int[] cellStart;
+	private final int[] cellParts;
+	private final IFigure reference;
+	private final Rectangle referenceBounds;
+
+	/**
+	 * Query results are deduplicated by marking each edit part with the number of
+	 * the current query.
+	 */
+	private final int[] visited;
+	private int queryCount;
+
+	/**
+	 * Creates a new index over the current absolute bounds of the figures of the
+	 * given edit parts.
+	 *
+	 * @param editParts The edit parts to index.
+	 * @param reference A figure which is scrolled and zoomed together with all
+	 *                  indexed figures, e.g. the figure of the viewer contents.
+	 *                  It is used to detect whether the index is still valid.
+	 */
+	EditPartSpatialIndex(Collection<? extends GraphicalEditPart> editParts, IFigure reference) {
+		this.reference = reference;
+		this.referenceBounds = getReferenceBounds(reference);
+		parts = editParts.toArray(new GraphicalEditPart[editParts.size()]);
+		bounds = new int[4 * parts.length];
+		visited = new int[parts.length];
+
+		int minX = Integer.MAX_VALUE;
+		int minY = Integer.MAX_VALUE;
+		int maxX = Integer.MIN_VALUE;
+		int maxY = Integer.MIN_VALUE;
+		long area = 0;
+		Rectangle r = new Rectangle();
+		for (int i = 0; i < parts.length; i++) {
+			IFigure figure = parts[i].getFigure();
+			figure.translateToAbsolute(r.setBounds(figure.getBounds()));
+			bounds[4 * i] = r.x;
+			bounds[4 * i + 1] = r.y;
+			bounds[4 * i + 2] = r.width;
+			bounds[4 * i + 3] = r.height;
+			minX = Math.min(minX, r.x);
+			minY = Math.min(minY, r.y);
+			maxX = Math.max(maxX, r.x + r.width);
+			maxY = Math.max(maxY, r.y + r.height);
+			area += (long) Math.max(1, r.width) * Math.max(1, r.height);
+		}
+
+		if (parts.length == 0) {
+			left = top = 0;
+			columns = rows = 0;
+			cellSize = MIN_CELL_SIZE;
+			largeParts = new int[0];
+			cellStart = new int[1];
+			cellParts = new int[0];
+			return;
+		}
+
+		// Cells about the size of an average edit part, but no more cells than
+		// edit parts.
+		long extent = Math.max(1, (long) (maxX - minX + 1) * (maxY - minY + 1));
+		int size = (int) Math.max(Math.sqrt((double) area / parts.length), Math.sqrt((double) extent / parts.length));
+		cellSize = Math.max(MIN_CELL_SIZE, size);
+		left = minX;
+		top = minY;
+		columns = (maxX - minX) / cellSize + 1;
+		rows = (maxY - minY) / cellSize + 1;
+
+		// Counting sort of all edit parts by cell
+		cellStart = new int[columns * rows + 1];
+		int[] large = new int[parts.length];
+		int largeCount = 0;
+		for (int i = 0; i < parts.length; i++) {
+			if (getCellCount(i) > MAX_CELLS_PER_PART) {
+				large[largeCount++] = i;
+				continue;
+			}
+			for (int row = getRow(bounds[4 * i + 1]); row <= getRow(bounds[4 * i + 1] + bounds[4 * i + 3]); row++) {
+				for (int column = getColumn(bounds[4 * i]); column <= getColumn(
+						bounds[4 * i] + bounds[4 * i + 2]); column++) {
+					cellStart[row * columns + column + 1]++;
+				}
+			}
+		}
+		largeParts = Arrays.copyOf(large, largeCount);
+		for (int cell = 0; cell < columns * rows; cell++) {
+			cellStart[cell + 1] += cellStart[cell];
+		}
+		cellParts = new int[cellStart[columns * rows]];
+		int[] next = Arrays.copyOf(cellStart, columns * rows);
+		for (int i = 0; i < parts.length; i++) {
+			if (getCellCount(i) > MAX_CELLS_PER_PART) {
+				continue;
+			}
+			for (int row = getRow(bounds[4 * i + 1]); row <= getRow(bounds[4 * i + 1] + bounds[4 * i + 3]); row++) {
+				for (int column = getColumn(bounds[4 * i]); column <= getColumn(
+						bounds[4 * i] + bounds[4 * i + 2]); column++) {
+					cellParts[next[row * columns + column]++] = i;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns all edit parts whose bounds touch the given rectangle, including
+	 * edit parts which are only touched by its border.
+	 *
+	 * @param area The area in absolute coordinates.
+	 * @return The edit parts in the given area, in no particular order.
+	 */
+	List<GraphicalEditPart> query(Rectangle area) {
+		List<GraphicalEditPart> result = new ArrayList<>();
+		if (++queryCount == 0) {
+			Arrays.fill(visited, 0);
+			queryCount = 1;
+		}
+		for (int i : largeParts) {
+			addIfTouched(i, area, result);
+		}
+		if (columns == 0) {
+			return result;
+		}
+		int firstColumn = Math.max(0, getColumn(area.x));
+		int lastColumn = Math.min(columns - 1, getColumn(area.x + area.width));
+		int firstRow = Math.max(0, getRow(area.y));
+		int lastRow = Math.min(rows - 1, getRow(area.y + area.height));
+		for (int row = firstRow; row <= lastRow; row++) {
+			for (int column = firstColumn; column <= lastColumn; column++) {
+				int cell = row * columns + column;
+				for (int j = cellStart[cell]; j < cellStart[cell + 1]; j++) {
+					addIfTouched(cellParts[j], area, result);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Checks whether the absolute coordinates of the indexed figures are still the
+	 * same as when this index was created. This is not the case anymore once the
+	 * viewer has been scrolled or zoomed.
+	 *
+	 * @return <code>true</code>, if this index may still be used.
+	 */
+	boolean isValid() {
+		return getReferenceBounds(reference).equals(referenceBounds);
+	}
+
+	/**
+	 * Returns a fixed rectangle in the coordinates of the given figure, translated
+	 * to absolute coordinates.
+	 */
+	private static Rectangle getReferenceBounds(IFigure reference) {
+		Rectangle r = new Rectangle(0, 0, 1024, 1024);
+		reference.translateToAbsolute(r);
+		return r;
+	}
+
+	private void addIfTouched(int i, Rectangle area, List<GraphicalEditPart> result) {
+		if (visited[i] == queryCount) {
+			return;
+		}
+		visited[i] = queryCount;
+		int x = bounds[4 * i];
+		int y = bounds[4 * i + 1];
+		if (x <= area.x + area.width && area.x <= x + bounds[4 * i + 2] && y <= area.y + area.height
+				&& area.y <= y + bounds[4 * i + 3]) {
+			result.add(parts[i]);
+		}
+	}
+
+	private long getCellCount(int i) {
+		long width = getColumn(bounds[4 * i] + bounds[4 * i + 2]) - getColumn(bounds[4 * i]) + 1;
+		long height = getRow(bounds[4 * i + 1] + bounds[4 * i + 3]) - getRow(bounds[4 * i + 1]) + 1;
+		return width * height;
+	}
+
+	private int getColumn(int x) {
+		return Math.floorDiv(x - left, cellSize);
+	}
+
+	private int getRow(int y) {
+		return Math.floorDiv(y - top, cellSize);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -15,6 +15,8 @@ package org.eclipse.gef.tools;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.KeyEvent;
@@ -214,6 +216,14 @@ public class MarqueeSelectionTool extends AbstractTool {
 
 	private Collection<? extends GraphicalEditPart> selectedEditParts;
 
+	/**
+	 * The marquee selectable edit parts, indexed by the absolute bounds of their
+	 * figures. The index is created when the marquee is first dragged and used
+	 * until the drag is finished, unless the viewer is scrolled or zoomed in the
+	 * meantime.
+	 */
+	private EditPartSpatialIndex spatialIndex;
+
 	private Request targetRequest;
 
 	/**
@@ -288,6 +298,28 @@ public class MarqueeSelectionTool extends AbstractTool {
 	 * @since 3.7
 	 */
 	private Collection<GraphicalEditPart> calculatePrimaryMarqueeSelectedEditParts() {
+		Collection<GraphicalEditPart> editPartsToProcess;
+		if (isInState(STATE_DRAG | STATE_DRAG_IN_PROGRESS)) {
+			// while dragging, only visit the edit parts around the marquee
+			editPartsToProcess = getSpatialIndex().query(getCurrentMarqueeSelectionRectangle());
+		} else {
+			editPartsToProcess = calculateMarqueeSelectableEditParts();
+		}
+
+		// process all edit parts and determine which are affected by the current
+		// marquee selection
+		return editPartsToProcess.stream().filter(this::isPrimaryMarqueeSelectedEditPart).toList();
+	}
+
+	/**
+	 * Calculates all edit parts which may potentially be included in the current
+	 * marquee selection, based on the current marquee behavior and
+	 * {@link #isMarqueeSelectable(GraphicalEditPart)}.
+	 *
+	 * @return A {@link List} containing all marquee selectable
+	 *         {@link GraphicalEditPart}s.
+	 */
+	private List<GraphicalEditPart> calculateMarqueeSelectableEditParts() {
 		Collection<GraphicalEditPart> editPartsToProcess = new HashSet<>();
 		if (marqueeBehavior != BEHAVIOR_CONNECTIONS_CONTAINED && marqueeBehavior != BEHAVIOR_CONNECTIONS_TOUCHED) {
 			// process nodes
@@ -301,10 +333,7 @@ public class MarqueeSelectionTool extends AbstractTool {
 					.getAllNestedConnectionEditParts((GraphicalEditPart) getCurrentViewer().getRootEditPart()));
 		}
 
-		// process all edit parts and determine which are affected by the current
-		// marquee selection
-		return editPartsToProcess.stream().filter(this::isMarqueeSelectable)
-				.filter(this::isPrimaryMarqueeSelectedEditPart).toList();
+		return editPartsToProcess.stream().filter(this::isMarqueeSelectable).toList();
 	}
 
 	/**
@@ -352,6 +381,8 @@ public class MarqueeSelectionTool extends AbstractTool {
 			eraseMarqueeFeedback();
 			eraseTargetFeedback();
 		}
+		selectedEditParts = null;
+		spatialIndex = null;
 		super.deactivate();
 		setState(STATE_TERMINAL);
 	}
@@ -429,6 +460,14 @@ public class MarqueeSelectionTool extends AbstractTool {
 		return new MarqueeRectangleFigure();
 	}
 
+	private EditPartSpatialIndex getSpatialIndex() {
+		if (spatialIndex == null || !spatialIndex.isValid()) {
+			IFigure contentPane = ((GraphicalEditPart) getCurrentViewer().getRootEditPart()).getContentPane();
+			spatialIndex = new EditPartSpatialIndex(calculateMarqueeSelectableEditParts(), contentPane);
+		}
+		return spatialIndex;
+	}
+
 	private Request getTargetRequest() {
 		if (targetRequest == null) {
 			targetRequest = createTargetRequest();
@@ -468,6 +507,8 @@ public class MarqueeSelectionTool extends AbstractTool {
 		if (stateTransition(STATE_DRAG_IN_PROGRESS, STATE_TERMINAL)) {
 			eraseTargetFeedback();
 			eraseMarqueeFeedback();
+			selectedEditParts = null;
+			spatialIndex = null;
 			performMarqueeSelect();
 		}
 		handleFinished();
@@ -481,9 +522,9 @@ public class MarqueeSelectionTool extends AbstractTool {
 	protected boolean handleDragInProgress() {
 		if (isInState(STATE_DRAG | STATE_DRAG_IN_PROGRESS)) {
 			showMarqueeFeedback();
-			eraseTargetFeedback();
+			Collection<? extends GraphicalEditPart> previousEditParts = selectedEditParts;
 			selectedEditParts = calculateMarqueeSelectedEditParts();
-			showTargetFeedback();
+			updateTargetFeedback(previousEditParts);
 		}
 		return true;
 	}
@@ -510,6 +551,7 @@ public class MarqueeSelectionTool extends AbstractTool {
 	protected boolean handleInvalidInput() {
 		eraseTargetFeedback();
 		eraseMarqueeFeedback();
+		selectedEditParts = null;
 		return true;
 	}
 
@@ -773,10 +815,31 @@ public class MarqueeSelectionTool extends AbstractTool {
 		marqueeFeedbackFigure.validate();
 	}
 
-	private void showTargetFeedback() {
+	/**
+	 * Only erases the feedback of those edit parts which are no longer affected by
+	 * the marquee selection and only shows the feedback of those edit parts which
+	 * weren't affected before.
+	 */
+	private void updateTargetFeedback(Collection<? extends GraphicalEditPart> previousEditParts) {
+		if (previousEditParts == null) {
+			previousEditParts = Set.of();
+		}
+		Set<?> previous = toSet(previousEditParts);
+		Set<?> current = toSet(selectedEditParts);
+		for (EditPart editPart : previousEditParts) {
+			if (!current.contains(editPart)) {
+				editPart.eraseTargetFeedback(getTargetRequest());
+			}
+		}
 		for (EditPart editPart : selectedEditParts) {
-			editPart.showTargetFeedback(getTargetRequest());
+			if (!previous.contains(editPart)) {
+				editPart.showTargetFeedback(getTargetRequest());
+			}
 		}
 	}
 
+	private static Set<?> toSet(Collection<?> collection) {
+		return collection instanceof Set<?> set ? set : new HashSet<>(collection);
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -14,12 +14,15 @@ package org.eclipse.gef.tools;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.gef.EditPart;
 import org.eclipse.gef.EditPartViewer;
 import org.eclipse.gef.Request;
+import org.eclipse.gef.SelectionManager;
 
 /**
  * Utilities for {@link org.eclipse.gef.Tool Tools}.
@@ -28,13 +31,17 @@ public class ToolUtilities {
 
 	/**
 	 * Returns a list containing the top level selected edit parts based on the
-	 * viewer's selection.
+	 * viewer's selection, as returned by
+	 * {@link EditPartViewer#getSelectedEditParts()}. If this is the selection
+	 * managed by the viewer's {@link SelectionManager}, the top level edit parts
+	 * are only computed once per selection.
 	 *
 	 * @param viewer the viewer
 	 * @return the selection excluding dependants
+	 * @see SelectionManager#getSelectionWithoutDependants()
 	 */
 	public static List<? extends EditPart> getSelectionWithoutDependants(EditPartViewer viewer) {
-		return getSelectionWithoutDependants(viewer.getSelectedEditParts());
+		return new ArrayList<>(viewer.getSelectionManager().getSelectionWithoutDependants());
 	}
 
 	/**
@@ -45,7 +52,8 @@ public class ToolUtilities {
 	 * @return the selection excluding dependants
 	 */
 	public static List<? extends EditPart> getSelectionWithoutDependants(List<? extends EditPart> selectedParts) {
-		return new ArrayList<>(selectedParts.stream().filter(ep -> !isAncestorContainedIn(selectedParts, ep)).toList());
+		Set<EditPart> selectedSet = new HashSet<>(selectedParts);
+		return new ArrayList<>(selectedParts.stream().filter(ep -> !isAncestorContainedIn(selectedSet, ep)).toList());
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -14,7 +14,6 @@ package org.eclipse.gef.ui.parts;
 
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -55,6 +54,7 @@ import org.eclipse.gef.EditPartViewer;
 import org.eclipse.gef.KeyHandler;
 import org.eclipse.gef.RootEditPart;
 import org.eclipse.gef.SelectionManager;
+import org.eclipse.gef.internal.SelectionList;
 
 /**
  * The base implementation for EditPartViewer.
@@ -70,12 +70,12 @@ public abstract class AbstractEditPartViewer implements EditPartViewer {
 	/**
 	 * The raw list of selected editparts.
 	 */
-	protected final List<EditPart> selection = new ArrayList<>();
+	protected final List<EditPart> selection = new SelectionList();
 
 	/**
 	 * The unmodifiable list of selected editparts.
 	 */
-	protected final List<EditPart> constantSelection = Collections.unmodifiableList(selection);
+	protected final List<EditPart> constantSelection = ((SelectionList) selection).getUnmodifiableView();
 
 	/**
 	 * The list of selection listeners.
@@ -369,7 +369,19 @@ public abstract class AbstractEditPartViewer implements EditPartViewer {
 	 */
 	@Override
 	public final EditPart getEditPartForModel(Object model) {
-		return getEditPartRegistry().get(model);
+		EditPart part = getEditPartRegistry().get(model);
+		return part != null ? part : realizeEditPart(model);
+	}
+
+	/**
+	 * Creates the EditPart of the given model, if it hasn't been created by its
+	 * parent yet. Called by {@link #getEditPartForModel(Object)} if the model is
+	 * not registered. Returns <code>null</code> by default.
+	 *
+	 * @see ScrollingGraphicalViewer
+	 */
+	EditPart realizeEditPart(Object model) {
+		return null;
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -52,6 +52,7 @@ import org.eclipse.gef.MouseWheelHandler;
 import org.eclipse.gef.MouseWheelHelper;
 import org.eclipse.gef.RootEditPart;
 import org.eclipse.gef.editparts.LayerManager;
+import org.eclipse.gef.editparts.RefreshScheduler;
 import org.eclipse.gef.editparts.ScalableRootEditPart;
 
 /**
@@ -63,6 +64,8 @@ import org.eclipse.gef.editparts.ScalableRootEditPart;
 public class GraphicalViewerImpl extends AbstractEditPartViewer implements GraphicalViewer {
 
 	private final LightweightSystem lws = createLightweightSystem();
+	private final RefreshScheduler refreshScheduler = new RefreshScheduler(
+			runnable -> getLightweightSystem().getUpdateManager().runWithUpdate(runnable));
 	IFigure rootFigure;
 	private DomainEventDispatcher eventDispatcher;
 	private FocusListener lFocus;
@@ -191,12 +194,14 @@ public class GraphicalViewerImpl extends AbstractEditPartViewer implements Graph
 	}
 
 	/**
-	 * Flushes and pending layouts and paints in the lightweight system.
+	 * Performs the scheduled refreshes of the EditParts and flushes any pending
+	 * layouts and paints in the lightweight system.
 	 *
 	 * @see org.eclipse.gef.EditPartViewer#flush()
 	 */
 	@Override
 	public void flush() {
+		refreshScheduler.flush();
 		getLightweightSystem().getUpdateManager().performUpdate();
 	}
 
@@ -229,6 +234,17 @@ public class GraphicalViewerImpl extends AbstractEditPartViewer implements Graph
 		return lws;
 	}
 
+	/**
+	 * Returns the refresh scheduler, which performs the scheduled refreshes once
+	 * per update cycle of the lightweight system.
+	 *
+	 * @see org.eclipse.gef.EditPartViewer#getRefreshScheduler()
+	 */
+	@Override
+	public RefreshScheduler getRefreshScheduler() {
+		return refreshScheduler;
+	}
+
 	/**
 	 * Returns the root figure
 	 *
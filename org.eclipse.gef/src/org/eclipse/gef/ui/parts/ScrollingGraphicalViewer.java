@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,9 +12,16 @@
  *******************************************************************************/
 package org.eclipse.gef.ui.parts;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.jface.viewers.StructuredSelection;
+
 import org.eclipse.draw2d.FigureCanvas;
 import org.eclipse.draw2d.IFigure;
 import org.eclipse.draw2d.Viewport;
@@ -24,6 +31,7 @@ import org.eclipse.draw2d.geometry.Rectangle;
 
 import org.eclipse.gef.EditPart;
 import org.eclipse.gef.GraphicalEditPart;
+import org.eclipse.gef.editparts.AbstractVirtualContainerEditPart;
 
 /**
  * A Graphical Viewer implementation which uses a
@@ -36,11 +44,20 @@ import org.eclipse.gef.GraphicalEditPart;
  * does, that viewport will be set as the FigureCanvas' viewport. FigureCanvas
  * has certain requirements on the viewport figure, see
  * {@link FigureCanvas#setViewport(Viewport)}.
+ * <P>
+ * The EditParts of the model children of an
+ * {@link AbstractVirtualContainerEditPart} are created on demand by
+ * {@link #getEditPartForModel(Object)}. EditParts of such model children which
+ * have been removed by their container are created again when they are
+ * revealed or selected. The {@link #getEditPartRegistry() EditPart registry}
+ * only contains the EditParts which exist.
  *
  * @author hudsonr
  */
 public class ScrollingGraphicalViewer extends GraphicalViewerImpl {
 
+	private final List<AbstractVirtualContainerEditPart> virtualContainers = new ArrayList<>();
+
 	/**
 	 * Constructs a ScrollingGraphicalViewer;
 	 */
@@ -75,6 +92,7 @@ public class ScrollingGraphicalViewer extends GraphicalViewerImpl {
 	 */
 	@Override
 	public void reveal(EditPart part) {
+		part = getRealizedEditPart(part);
 		super.reveal(part);
 		Viewport port = getFigureCanvas().getViewport();
 		IFigure target = ((GraphicalEditPart) part).getFigure();
@@ -106,6 +124,100 @@ public class ScrollingGraphicalViewer extends GraphicalViewerImpl {
 		getFigureCanvas().scrollSmoothTo(finalLocation.x, finalLocation.y);
 	}
 
+	/**
+	 * Extends the superclass implementation to create the EditPart again, if it
+	 * has been removed by its virtual container.
+	 *
+	 * @see org.eclipse.gef.EditPartViewer#appendSelection(EditPart)
+	 */
+	@Override
+	public void appendSelection(EditPart editpart) {
+		super.appendSelection(getRealizedEditPart(editpart));
+	}
+
+	/**
+	 * Extends the superclass implementation to create the EditPart again, if it
+	 * has been removed by its virtual container.
+	 *
+	 * @see org.eclipse.gef.EditPartViewer#select(EditPart)
+	 */
+	@Override
+	public void select(EditPart editpart) {
+		super.select(getRealizedEditPart(editpart));
+	}
+
+	/**
+	 * Extends the superclass implementation to create the selected EditParts
+	 * again, which have been removed by their virtual container.
+	 *
+	 * @see org.eclipse.jface.viewers.ISelectionProvider#setSelection(ISelection)
+	 */
+	@Override
+	public void setSelection(ISelection newSelection) {
+		if (newSelection instanceof IStructuredSelection selection) {
+			List<Object> elements = selection.stream()
+					.map(element -> element instanceof EditPart part ? getRealizedEditPart(part) : element).toList();
+			newSelection = new StructuredSelection(elements);
+		}
+		super.setSelection(newSelection);
+	}
+
+	/**
+	 * Registers an active virtual container, whose model children are created by
+	 * {@link #getEditPartForModel(Object)} on demand. Called by
+	 * {@link AbstractVirtualContainerEditPart#activate()}. Clients should not call
+	 * this method.
+	 *
+	 * @param container the virtual container
+	 * @since 3.22
+	 */
+	public void addVirtualContainer(AbstractVirtualContainerEditPart container) {
+		virtualContainers.add(container);
+	}
+
+	/**
+	 * Unregisters a virtual container. Called by
+	 * {@link AbstractVirtualContainerEditPart#deactivate()}. Clients should not
+	 * call this method.
+	 *
+	 * @param container the virtual container
+	 * @since 3.22
+	 */
+	public void removeVirtualContainer(AbstractVirtualContainerEditPart container) {
+		virtualContainers.remove(container);
+	}
+
+	/**
+	 * Creates the EditPart of the given model via the
+	 * {@link AbstractVirtualContainerEditPart virtual containers} of this viewer.
+	 */
+	@Override
+	EditPart realizeEditPart(Object model) {
+		if (virtualContainers.isEmpty()) {
+			return null;
+		}
+		// Realizing a model child may activate further virtual containers
+		for (AbstractVirtualContainerEditPart container : List.copyOf(virtualContainers)) {
+			EditPart part = container.realizeModelChild(model);
+			if (part != null) {
+				return part;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the registered EditPart of the model of the given EditPart, if the
+	 * given EditPart has been removed by its virtual container.
+	 */
+	private EditPart getRealizedEditPart(EditPart part) {
+		if (part == null || part.getParent() != null || part == getRootEditPart()) {
+			return part;
+		}
+		EditPart realized = getEditPartForModel(part.getModel());
+		return realized != null ? realized : part;
+	}
+
 	/**
 	 * If the figure is a viewport, set the canvas' viewport, otherwise, set its
 	 * contents.
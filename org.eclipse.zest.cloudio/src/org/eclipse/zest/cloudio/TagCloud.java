@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2025 Stephan Schwiebert and others.
+ * Copyright (c) 2011, 2026 Stephan Schwiebert and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -15,9 +15,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EventListener;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.MouseEvent;
@@ -34,7 +38,6 @@ import org.eclipse.swt.graphics.FontMetrics;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
-import org.eclipse.swt.graphics.PaletteData;
 import org.eclipse.swt.graphics.Path;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
@@ -194,6 +197,18 @@ public class TagCloud extends Canvas {
 
 	private ImageData mask;
 
+	/**
+	 * The masks of the words of the last layout, which are reused if the same
+	 * words are laid out again.
+	 */
+	private final Map<WordMask.Key, WordMask> masks = new HashMap<>();
+
+	/**
+	 * The number of words which are rendered on the UI thread, before their masks
+	 * are computed in the background.
+	 */
+	private static final int MASK_BATCH_SIZE = 32;
+
 	/**
 	 * Creates a new Tag cloud on the given parent. When using this constructor,
 	 * please read the following carefully: <br>
@@ -254,6 +269,7 @@ public class TagCloud extends Canvas {
 	 */
 	private void internalDispose() {
 		removeListeners();
+		masks.clear();
 		textLayerImage.dispose();
 		if (selectionLayerImage != null) {
 			selectionLayerImage.dispose();
@@ -435,7 +451,10 @@ public class TagCloud extends Canvas {
 
 	/**
 	 * Calculates the bounds of each word, by determining the {@link Rectangle} a
-	 * {@link Path} would require to render an element.
+	 * {@link Path} would require to render an element. Words are rendered on the
+	 * UI thread, while their rendered images are analyzed in the background.
+	 * Words which have already been rendered by the previous layout are not
+	 * rendered again.
 	 *
 	 * @param monitor
 	 */
@@ -451,25 +470,45 @@ public class TagCloud extends Canvas {
 		double current = 0;
 		int next = 10;
 		final Color color = gc.getDevice().getSystemColor(SWT.COLOR_BLACK);
+		final Map<WordMask.Key, WordMask> usedMasks = new ConcurrentHashMap<>();
+		final List<CompletableFuture<Void>> tasks = new ArrayList<>();
+		List<Runnable> batch = new ArrayList<>(MASK_BATCH_SIZE);
 		for (final Word word : wordsToUse) {
 			FontData[] fontData = word.getFontData();
 			int fontSize = (int) getFontSize(word);
 			for (FontData data : fontData) {
 				data.setHeight(fontSize);
 			}
-			final Font font = new Font(gc.getDevice(), fontData);
-			gc.setFont(font);
-			final Point stringExtent = gc.stringExtent(word.string);
-			FontMetrics fm = gc.getFontMetrics();
-			stringExtent.y = fm.getHeight();
-			double radian = Math.toRadians(word.angle);
-			final double sin = Math.abs(Math.sin(radian));
-			final double cos = Math.abs(Math.cos(radian));
-			final int x = (int) ((cos * stringExtent.x) + (sin * stringExtent.y));
-			final int y = (int) ((cos * stringExtent.y) + (sin * stringExtent.x));
-			ImageData id = createImageData(word, font, stringExtent, sin, cos, x, y, color);
-			calcWordExtents(word, id);
-			font.dispose();
+			final WordMask.Key key = new WordMask.Key(word.string, fontData, word.angle, antialias);
+			final WordMask cachedMask = masks.get(key);
+			if (cachedMask != null) {
+				cachedMask.applyExtents(word);
+				usedMasks.put(key, cachedMask);
+				batch.add(() -> word.tree = cachedMask.createTree(word.id));
+			} else {
+				final Font font = new Font(gc.getDevice(), fontData);
+				gc.setFont(font);
+				final Point stringExtent = gc.stringExtent(word.string);
+				FontMetrics fm = gc.getFontMetrics();
+				stringExtent.y = fm.getHeight();
+				double radian = Math.toRadians(word.angle);
+				final double sin = Math.abs(Math.sin(radian));
+				final double cos = Math.abs(Math.cos(radian));
+				final int x = (int) ((cos * stringExtent.x) + (sin * stringExtent.y));
+				final int y = (int) ((cos * stringExtent.y) + (sin * stringExtent.x));
+				final ImageData id = createImageData(word, font, stringExtent, sin, cos, x, y, color);
+				final int treeSize = getTreeSize(x, y);
+				font.dispose();
+				batch.add(() -> {
+					WordMask mask = new WordMask(id, stringExtent, treeSize, accuracy);
+					usedMasks.put(key, mask);
+					word.tree = mask.createTree(word.id);
+				});
+			}
+			if (batch.size() == MASK_BATCH_SIZE) {
+				tasks.add(submit(batch));
+				batch = new ArrayList<>(MASK_BATCH_SIZE);
+			}
 			if (monitor != null) {
 				current += step;
 				if (current > next) {
@@ -478,6 +517,11 @@ public class TagCloud extends Canvas {
 				}
 			}
 		}
+		tasks.add(submit(batch));
+		tasks.forEach(CompletableFuture::join);
+		// Only keep the masks of the current words, to limit the size of the cache
+		masks.clear();
+		masks.putAll(usedMasks);
 		Collections.sort(wordsToUse, (o1, o2) -> (o2.width * o2.height) - (o1.width * o1.height));
 		short i = 1;
 		for (Word word : wordsToUse) {
@@ -486,6 +530,14 @@ public class TagCloud extends Canvas {
 		}
 	}
 
+	/**
+	 * Scans the rendered words and builds their collision trees in the
+	 * background, while the next batch of words is rendered on the UI thread.
+	 */
+	private static CompletableFuture<Void> submit(List<Runnable> batch) {
+		return CompletableFuture.runAsync(() -> batch.forEach(Runnable::run));
+	}
+
 	private ImageData createImageData(final Word word, Font font, Point stringExtent, final double sin,
 			final double cos, int x, int y, Color color) {
 		Image img = new Image(null, x, y);
@@ -507,14 +559,6 @@ public class TagCloud extends Canvas {
 		// Why is drawString sooo slow? between 30 and 90 percent of the whole
 		// draw time...
 		g.drawString(word.string, 0, 0, false);
-		int max = Math.max(x, y);
-		int tmp = maxSize;
-		while (max < tmp) {
-			tmp = tmp / 2;
-		}
-		tmp = tmp * 2;
-		SmallRect root = new SmallRect(0, 0, tmp, tmp);
-		word.tree = new RectTree(root, accuracy);
 		final ImageData id = img.getImageData();
 		t.dispose();
 		g.dispose();
@@ -523,35 +567,15 @@ public class TagCloud extends Canvas {
 	}
 
 	/**
-	 * Calculates the extents of a word, based on its rendered image.
+	 * Returns the size of the {@link RectTree} of a word with the given bounds.
 	 */
-	private void calcWordExtents(final Word word, final ImageData id) {
-		final int[] pixels = new int[id.width];
-		final PaletteData palette = id.palette;
-		Set<SmallRect> inserted = new HashSet<>();
-		for (int y = 0; y < id.height; y++) {
-			id.getPixels(0, y, id.width, pixels, 0);
-			for (int i = 0; i < pixels.length; i++) {
-				int pixel = pixels[i];
-				// Extracting color values as in PaletteData.getRGB(int pixel):
-				int r = pixel & palette.redMask;
-				r = (palette.redShift < 0) ? r >>> -palette.redShift : r << palette.redShift;
-				int g = pixel & palette.greenMask;
-				g = (palette.greenShift < 0) ? g >>> -palette.greenShift : g << palette.greenShift;
-				int b = pixel & palette.blueMask;
-				b = (palette.blueShift < 0) ? b >>> -palette.blueShift : b << palette.blueShift;
-				if (r < 250 || g < 250 || b < 250) {
-					SmallRect rect = new SmallRect((i / accuracy) * accuracy, (y / accuracy) * accuracy, accuracy,
-							accuracy);
-					if (!inserted.contains(rect)) {
-						word.tree.insert(rect, word.id);
-						inserted.add(rect);
-					}
-					i += accuracy - 1;
-				}
-			}
+	private int getTreeSize(int x, int y) {
+		int max = Math.max(x, y);
+		int tmp = maxSize;
+		while (max < tmp) {
+			tmp = tmp / 2;
 		}
-		word.tree.releaseRects();
+		return tmp * 2;
 	}
 
 	/**
@@ -725,7 +749,7 @@ public class TagCloud extends Canvas {
 	private void resetMask() {
 		Word word = new Word("mask"); //$NON-NLS-1$
 		word.tree = new RectTree(new SmallRect(0, 0, cloudArea.width, cloudArea.height), accuracy);
-		calcWordExtents(word, mask);
+		WordMask.fill(word.tree, WordMask.scan(mask, accuracy), accuracy, word.id);
 		word.tree.place(cloudMatrix, RectTree.BACKGROUND);
 	}
 
@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.zest.cloudio;
+
+import java.util.Arrays;
+
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.Point;
+
+import org.eclipse.zest.cloudio.util.RectTree;
+import org.eclipse.zest.cloudio.util.SmallRect;
+
+/**
+ * The rendered shape of a word, stored as the cells of the collision raster
+ * which contain at least one pixel of the word. A mask only depends on the
+ * string, font, angle and antialiasing of a word. It can therefore be reused by
+ * subsequent layouts, without rendering the word again.
+ * <p>
+ * Masks are immutable and don't reference any system resources, which allows
+ * them to be created and used outside of the UI thread.
+ */
+final class WordMask {
+
+	/**
+	 * Identifies all words with the same mask. The font data is stored as string,
+	 * as {@link FontData} is mutable.
+	 */
+	record Key(String string, String fontData, float angle, int antialias) {
+		Key(String string, FontData[] fontData, float angle, int antialias) {
+			this(string, Arrays.toString(fontData), angle, antialias);
+		}
+	}
+
+	private final int width;
+	private final int height;
+	private final Point stringExtent;
+	private final int treeSize;
+	private final int accuracy;
+	private final int[] cells;
+
+	/**
+	 * Creates the mask of a word from its rendered image.
+	 *
+	 * @param imageData    The image of the rendered word.
+	 * @param stringExtent The extent of the unrotated string.
+	 * @param treeSize     The size of the {@link RectTree} of the word.
+	 * @param accuracy     The size of a single cell of the collision raster.
+	 */
+	WordMask(ImageData imageData, Point stringExtent, int treeSize, int accuracy) {
+		this.width = imageData.width;
+		this.height = imageData.height;
+		this.stringExtent = new Point(stringExtent.x, stringExtent.y);
+		this.treeSize = treeSize;
+		this.accuracy = accuracy;
+		this.cells = scan(imageData, accuracy);
+	}
+
+	/**
+	 * Returns the upper-left corner of all cells of the given image which contain
+	 * at least one non-white pixel. The coordinates are stored as consecutive
+	 * {@code (x, y)} pairs, in the order in which the cells are found.
+	 *
+	 * @param imageData The image to scan.
+	 * @param accuracy  The size of a single cell.
+	 * @return The coordinates of all occupied cells.
+	 */
+	static int[] scan(ImageData imageData, int accuracy) {
+		final int[] pixels = new int[imageData.width];
+		final PaletteData palette = imageData.palette;
+		final int columns = (imageData.width + accuracy - 1) / accuracy;
+		final int rows = (imageData.height + accuracy - 1) / accuracy;
+		final boolean[] occupied = new boolean[columns * rows];
+		int[] cells = new int[64];
+		int size = 0;
+		for (int y = 0; y < imageData.height; y++) {
+			imageData.getPixels(0, y, imageData.width, pixels, 0);
+			for (int i = 0; i < pixels.length; i++) {
+				int pixel = pixels[i];
+				// Extracting color values as in PaletteData.getRGB(int pixel):
+				int r = pixel & palette.redMask;
+				r = (palette.redShift < 0) ? r >>> -palette.redShift : r << palette.redShift;
+				int g = pixel & palette.greenMask;
+				g = (palette.greenShift < 0) ? g >>> -palette.greenShift : g << palette.greenShift;
+				int b = pixel & palette.blueMask;
+				b = (palette.blueShift < 0) ? b >>> -palette.blueShift : b << palette.blueShift;
+				if (r < 250 || g < 250 || b < 250) {
+					int cell = (y / accuracy) * columns + i / accuracy;
+					if (!occupied[cell]) {
+						occupied[cell] = true;
+						if (size == cells.length) {
+							cells = Arrays.copyOf(cells, 2 * size);
+						}
+						cells[size++] = (i / accuracy) * accuracy;
+						cells[size++] = (y / accuracy) * accuracy;
+					}
+					i += accuracy - 1;
+				}
+			}
+		}
+		return Arrays.copyOf(cells, size);
+	}
+
+	/**
+	 * Inserts the given cells into the tree and releases all nodes which are no
+	 * longer required once the leaves are known.
+	 *
+	 * @param tree     The tree to fill.
+	 * @param cells    The cells as returned by {@link #scan(ImageData, int)}.
+	 * @param accuracy The size of a single cell.
+	 * @param id       The id with which the cells are inserted.
+	 */
+	static void fill(RectTree tree, int[] cells, int accuracy, short id) {
+		for (int i = 0; i < cells.length; i += 2) {
+			tree.insert(new SmallRect(cells[i], cells[i + 1], accuracy, accuracy), id);
+		}
+		tree.releaseRects();
+	}
+
+	/**
+	 * Creates a new tree containing the cells of this mask. Each word requires its
+	 * own tree, as the tree stores the position at which the word is placed.
+	 *
+	 * @param id The id with which the cells are inserted.
+	 * @return The collision tree of a word with this mask.
+	 */
+	RectTree createTree(short id) {
+		RectTree tree = new RectTree(new SmallRect(0, 0, treeSize, treeSize), accuracy);
+		fill(tree, cells, accuracy, id);
+		return tree;
+	}
+
+	/**
+	 * Copies the dimensions of this mask to the given word.
+	 *
+	 * @param word The word using this mask.
+	 */
+	void applyExtents(Word word) {
+		word.width = width;
+		word.height = height;
+		word.stringExtent = new Point(stringExtent.x, stringExtent.y);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Stephan Schwiebert and others.
+ * Copyright (c) 2011, 2026 Stephan Schwiebert and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -15,7 +15,9 @@ import org.eclipse.zest.cloudio.util.RectTree.RectNode;
 
 /**
  * This class contains all global information about the drawable area and the
- * layouted words in form of a {@link RectTree}.
+ * layouted words in form of a {@link RectTree}. In addition, the occupied cells
+ * are stored in a bitset, one bit per cell, which allows collision tests to
+ * check 64 cells at once.
  *
  * @author sschwieb
  *
@@ -28,6 +30,27 @@ public class CloudMatrix {
 
 	private final int minResolution;
 
+	/**
+	 * The number of cells per row and column.
+	 */
+	private final int cells;
+
+	/**
+	 * The number of longs per row of {@link #occupied}.
+	 */
+	private final int wordsPerRow;
+
+	/**
+	 * One bit per cell, set if the cell is not empty. Each row starts at a new
+	 * long.
+	 */
+	private long[] occupied;
+
+	/**
+	 * The number of occupied cells per row.
+	 */
+	private int[] occupiedPerRow;
+
 	public int getMinResolution() {
 		return minResolution;
 	}
@@ -35,6 +58,8 @@ public class CloudMatrix {
 	public CloudMatrix(int maxSize, int minResolution) {
 		this.max = maxSize;
 		this.minResolution = minResolution;
+		this.cells = (maxSize + minResolution - 1) / minResolution;
+		this.wordsPerRow = (cells + 63) >>> 6;
 		reset();
 	}
 
@@ -43,6 +68,9 @@ public class CloudMatrix {
 	}
 
 	public boolean isEmpty(int x, int y) {
+		if (x >= 0 && y >= 0 && x < cells && y < cells) {
+			return (occupied[y * wordsPerRow + (x >>> 6)] & (1L << x)) == 0;
+		}
 		short id = tree.getRoot().getWordId(x * minResolution, y * minResolution);
 		return id == RectTree.EMPTY;
 	}
@@ -50,6 +78,8 @@ public class CloudMatrix {
 	public void reset() {
 		SmallRect root = new SmallRect(0, 0, max, max);
 		tree = new RectTree(root, minResolution);
+		occupied = new long[cells * wordsPerRow];
+		occupiedPerRow = new int[cells];
 	}
 
 	public void set(RectNode node, short id, short xOffset, short yOffset, int minResolution) {
@@ -57,6 +87,72 @@ public class CloudMatrix {
 		int cleanY = ((yOffset + node.rect.y) / minResolution) * minResolution;
 		SmallRect rect = new SmallRect(cleanX, cleanY, minResolution, minResolution);
 		tree.insert(rect, id);
+		int x = cleanX / minResolution;
+		int y = cleanY / minResolution;
+		if (x >= 0 && y >= 0 && x < cells && y < cells) {
+			int index = y * wordsPerRow + (x >>> 6);
+			if ((occupied[index] & (1L << x)) == 0) {
+				occupied[index] |= 1L << x;
+				occupiedPerRow[y]++;
+			}
+		}
+	}
+
+	/**
+	 * Checks whether the given area lies within this matrix.
+	 *
+	 * @param x      The first column of the area.
+	 * @param y      The first row of the area.
+	 * @param width  The number of columns of the area.
+	 * @param height The number of rows of the area.
+	 * @return <code>true</code>, if all cells of the area lie within this matrix.
+	 */
+	boolean contains(int x, int y, int width, int height) {
+		return x >= 0 && y >= 0 && x + width <= cells && y + height <= cells;
+	}
+
+	/**
+	 * Tests the given mask against the occupied cells of this matrix. The mask
+	 * stores one bit per cell, where each row starts at a new long. Rows are
+	 * tested in cyclic order, starting at <code>firstRow</code>, such that the row
+	 * which collided last time can be tested first. Rows of the matrix without any
+	 * occupied cells are skipped. The mask must lie within this matrix, as checked
+	 * by {@link #contains(int, int, int, int)}.
+	 *
+	 * @param mask      The cells of the mask.
+	 * @param maskWords The number of longs per row of the mask.
+	 * @param x         The column at which the first column of the mask is
+	 *                  placed.
+	 * @param y         The row at which the first row of the mask is placed.
+	 * @param firstRow  The row of the mask which is tested first.
+	 * @return The first row of the mask which collides with an occupied cell, or
+	 *         <code>-1</code> if the mask fits.
+	 */
+	int findCollision(long[] mask, int maskWords, int x, int y, int firstRow) {
+		int rows = mask.length / maskWords;
+		int shift = x & 63;
+		int offset = x >>> 6;
+		for (int i = 0; i < rows; i++) {
+			int row = (firstRow + i) % rows;
+			int matrixRow = y + row;
+			if (occupiedPerRow[matrixRow] == 0) {
+				continue;
+			}
+			int maskIndex = row * maskWords;
+			int matrixIndex = matrixRow * wordsPerRow + offset;
+			long carry = 0;
+			for (int j = 0; j < maskWords; j++) {
+				long bits = mask[maskIndex + j];
+				if ((occupied[matrixIndex + j] & ((bits << shift) | carry)) != 0) {
+					return row;
+				}
+				carry = shift == 0 ? 0 : bits >>> (64 - shift);
+			}
+			if (carry != 0 && (occupied[matrixIndex + maskWords] & carry) != 0) {
+				return row;
+			}
+		}
+		return -1;
 	}
 
 }
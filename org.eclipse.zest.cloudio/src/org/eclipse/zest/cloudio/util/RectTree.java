@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Stephan Schwiebert and others.
+ * Copyright (c) 2011, 2026 Stephan Schwiebert and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -36,6 +36,21 @@ public class RectTree {
 
 	private LinkedList<RectNode> leaves;
 
+	/**
+	 * The leaves as bitset, one bit per cell, where each row starts at a new long.
+	 * Only the rows between {@link #maskTop} and the last occupied row are stored.
+	 */
+	private long[] mask;
+
+	private int maskTop, maskColumns, maskWords;
+
+	/**
+	 * The row of the mask which collided during the last call to
+	 * {@link #fits(CloudMatrix)}. As the word is only moved slightly between two
+	 * calls, this row is the most likely to collide again.
+	 */
+	private int collisionRow;
+
 	public static short EMPTY = -3, MISC = -2, BACKGROUND = -1;
 
 	class RectNode {
@@ -174,6 +189,23 @@ public class RectTree {
 	}
 
 	public boolean fits(final CloudMatrix mainTree) {
+		if (xOffset >= 0 && yOffset >= 0 && mainTree.getMinResolution() == minResolution) {
+			long[] mask = getMask();
+			int x = xOffset / minResolution;
+			int y = yOffset / minResolution + maskTop;
+			int rows = mask.length / maskWords;
+			if (rows == 0) {
+				return true;
+			}
+			if (mainTree.contains(x, y, maskColumns, rows)) {
+				int row = mainTree.findCollision(mask, maskWords, x, y, collisionRow);
+				if (row == -1) {
+					return true;
+				}
+				collisionRow = row;
+				return false;
+			}
+		}
 		LinkedList<RectNode> leaves = getLeaves();
 		Iterator<RectNode> nodes = leaves.iterator();
 		while (nodes.hasNext()) {
@@ -187,6 +219,37 @@ public class RectTree {
 		return true;
 	}
 
+	/**
+	 * Returns the upper-left cell of all leaves as bitset. Like
+	 * {@link #fits(CloudMatrix)}, only the upper-left cell of each leaf is
+	 * considered.
+	 */
+	private long[] getMask() {
+		if (mask == null) {
+			LinkedList<RectNode> leaves = getLeaves();
+			int top = Integer.MAX_VALUE;
+			int bottom = -1;
+			int columns = 0;
+			for (RectNode node : leaves) {
+				int y = node.rect.y / minResolution;
+				top = Math.min(top, y);
+				bottom = Math.max(bottom, y);
+				columns = Math.max(columns, node.rect.x / minResolution + 1);
+			}
+			maskTop = bottom == -1 ? 0 : top;
+			maskColumns = columns;
+			maskWords = Math.max(1, (columns + 63) >>> 6);
+			long[] bits = new long[(bottom - maskTop + 1) * maskWords];
+			for (RectNode node : leaves) {
+				int x = node.rect.x / minResolution;
+				int y = node.rect.y / minResolution - maskTop;
+				bits[y * maskWords + (x >>> 6)] |= 1L << x;
+			}
+			mask = bits;
+		}
+		return mask;
+	}
+
 	LinkedList<RectNode> getLeaves() {
 		if (leaves == null) {
 			leaves = new LinkedList<>();
@@ -228,6 +291,7 @@ public class RectTree {
 
 	public void reset() {
 		root = new RectNode(root.rect);
+		mask = null;
 	}
 
 }
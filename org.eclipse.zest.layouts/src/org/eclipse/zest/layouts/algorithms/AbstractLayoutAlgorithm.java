@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright 2005, 2024 CHISEL Group, University of Victoria, Victoria, BC,
+ * Copyright 2005, 2026 CHISEL Group, University of Victoria, Victoria, BC,
  *                      Canada, Johannes Kepler University Linz and others.
  *
  * This program and the accompanying materials are made available under the
@@ -878,30 +878,18 @@ public abstract class AbstractLayoutAlgorithm implements LayoutAlgorithm {
 		 *
 		 */
 		private static DisplayIndependentDimension getMinimumDistance(InternalNode[] entitiesToLayout) {
-			DisplayIndependentDimension horAndVertdistance = new DisplayIndependentDimension(Double.MAX_VALUE,
-					Double.MAX_VALUE);
-			double minDistance = Double.MAX_VALUE; // the minimum distance between all the nodes
-			// TODO: Very Slow!
+			double[] x = new double[entitiesToLayout.length];
+			double[] y = new double[entitiesToLayout.length];
 			for (int i = 0; i < entitiesToLayout.length; i++) {
-				InternalNode layoutEntity1 = entitiesToLayout[i];
-				double x1 = layoutEntity1.getInternalX();
-				double y1 = layoutEntity1.getInternalY();
-				for (int j = i + 1; j < entitiesToLayout.length; j++) {
-					InternalNode layoutEntity2 = entitiesToLayout[j];
-					double x2 = layoutEntity2.getInternalX();
-					double y2 = layoutEntity2.getInternalY();
-					double distanceX = Math.abs(x1 - x2);
-					double distanceY = Math.abs(y1 - y2);
-					double distance = Math.sqrt(Math.pow(distanceX, 2) + Math.pow(distanceY, 2));
-
-					if (distance < minDistance) {
-						minDistance = distance;
-						horAndVertdistance.width = distanceX;
-						horAndVertdistance.height = distanceY;
-					}
-				}
+				x[i] = entitiesToLayout[i].getInternalX();
+				y[i] = entitiesToLayout[i].getInternalY();
+			}
+			int[] pair = new KdTree(x, y).getClosestPair();
+			if (pair == null) {
+				return new DisplayIndependentDimension(Double.MAX_VALUE, Double.MAX_VALUE);
 			}
-			return horAndVertdistance;
+			return new DisplayIndependentDimension(Math.abs(x[pair[0]] - x[pair[1]]),
+					Math.abs(y[pair[0]] - y[pair[1]]));
 		}
 
 		/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005-2010, 2024 The Chisel Group and others.
+ * Copyright (c) 2005-2010, 2026 The Chisel Group and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -186,26 +186,17 @@ public class AlgorithmHelper {
 	 *
 	 */
 	public static DisplayIndependentDimension getMinimumDistance(EntityLayout[] entities) {
-		DisplayIndependentDimension horAndVertdistance = new DisplayIndependentDimension(Double.MAX_VALUE,
-				Double.MAX_VALUE);
-		double minDistance = Double.MAX_VALUE;
-
-		// TODO: Very Slow!
+		double[] x = new double[entities.length];
+		double[] y = new double[entities.length];
 		for (int i = 0; i < entities.length; i++) {
-			DisplayIndependentPoint location1 = entities[i].getLocation();
-			for (int j = i + 1; j < entities.length; j++) {
-				DisplayIndependentPoint location2 = entities[j].getLocation();
-				double distanceX = location1.x - location2.x;
-				double distanceY = location1.y - location2.y;
-				double distance = distanceX * distanceX + distanceY * distanceY;
-
-				if (distance < minDistance) {
-					minDistance = distance;
-					horAndVertdistance.width = Math.abs(distanceX);
-					horAndVertdistance.height = Math.abs(distanceY);
-				}
-			}
+			DisplayIndependentPoint location = entities[i].getLocation();
+			x[i] = location.x;
+			y[i] = location.y;
+		}
+		int[] pair = new KdTree(x, y).getClosestPair();
+		if (pair == null) {
+			return new DisplayIndependentDimension(Double.MAX_VALUE, Double.MAX_VALUE);
 		}
-		return horAndVertdistance;
+		return new DisplayIndependentDimension(Math.abs(x[pair[0]] - x[pair[1]]), Math.abs(y[pair[0]] - y[pair[1]]));
 	}
 }
@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.zest.layouts.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * A quadtree over a set of points, which is used to approximate the repulsion
+ * between all pairs of points in {@code O(n log n)}, as described by Barnes and
+ * Hut. Each cell stores the number of points it contains and their center of
+ * mass. A cell which is small compared to its distance to a given point is
+ * then treated as a single point, instead of visiting all points within the
+ * cell.
+ * <p>
+ * The tree may be rebuilt for different points. Its memory is reused between
+ * builds. Once built, the repulsion may be computed concurrently for different
+ * points.
+ */
+final class BarnesHutTree {
+
+	/**
+	 * Cells are no longer subdivided beyond this depth. This guarantees that the
+	 * tree stays finite for points with (almost) identical locations.
+	 */
+	private static final int MAX_DEPTH = 32;
+
+	private double[] x, y;
+	private int[] nextPoint = new int[0];
+
+	private double[] left = new double[0];
+	private double[] top = new double[0];
+	private double[] size = new double[0];
+	private double[] mass = new double[0];
+	private double[] centerX = new double[0];
+	private double[] centerY = new double[0];
+	private int[] firstChild = new int[0];
+	private int[] firstPoint = new int[0];
+	private int cellCount;
+
+	/**
+	 * Rebuilds this tree for the given points. The arrays are referenced, not
+	 * copied, and must not be modified while the tree is in use.
+	 *
+	 * @param x The x coordinates of the points.
+	 * @param y The y coordinates of the points.
+	 */
+	void build(double[] x, double[] y) {
+		this.x = x;
+		this.y = y;
+		if (nextPoint.length < x.length) {
+			nextPoint = new int[x.length];
+		}
+		double minX = Double.POSITIVE_INFINITY;
+		double minY = Double.POSITIVE_INFINITY;
+		double maxX = Double.NEGATIVE_INFINITY;
+		double maxY = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < x.length; i++) {
+			minX = Math.min(minX, x[i]);
+			minY = Math.min(minY, y[i]);
+			maxX = Math.max(maxX, x[i]);
+			maxY = Math.max(maxY, y[i]);
+		}
+		double span = Math.max(maxX - minX, maxY - minY);
+
+		cellCount = 0;
+		createCell(minX, minY, span > 0 ? span : 1);
+		for (int i = 0; i < x.length; i++) {
+			insert(i);
+		}
+		for (int cell = 0; cell < cellCount; cell++) {
+			if (mass[cell] > 0) {
+				centerX[cell] /= mass[cell];
+				centerY[cell] /= mass[cell];
+			}
+		}
+	}
+
+	/**
+	 * Adds the repulsion of all other points on the given point to the force
+	 * vector. Two points at distance {@code d} repel each other with a force of
+	 * {@code strength / d^2}, where {@code d} is at least {@code minDistance}. A
+	 * cell is treated as a single point if the ratio between its size and the
+	 * distance to its center of mass is less than {@code theta}. With a theta of
+	 * {@code 0}, the exact repulsion is computed.
+	 *
+	 * @param point       The index of the point.
+	 * @param theta       The approximation threshold.
+	 * @param minDistance The minimum distance between two points.
+	 * @param strength    The strength of the repulsion.
+	 * @param force       The force vector {@code (x, y)} to which the repulsion is
+	 *                    added.
+	 */
+	void addRepulsion(int point, double theta, double minDistance, double strength, double[] force) {
+		double px = x[point];
+		double py = y[point];
+		double thetaSq = theta * theta;
+		double minDistanceSq = minDistance * minDistance;
+		int[] stack = new int[3 * MAX_DEPTH + 4];
+		int depth = 0;
+		stack[depth++] = 0;
+		while (depth > 0) {
+			int cell = stack[--depth];
+			if (mass[cell] == 0) {
+				continue;
+			}
+			if (firstChild[cell] == -1) {
+				for (int i = firstPoint[cell]; i != -1; i = nextPoint[i]) {
+					if (i != point) {
+						addRepulsion(px - x[i], py - y[i], 1, minDistanceSq, strength, force);
+					}
+				}
+				continue;
+			}
+			double dx = px - centerX[cell];
+			double dy = py - centerY[cell];
+			double distanceSq = dx * dx + dy * dy;
+			if (size[cell] * size[cell] < thetaSq * distanceSq && !contains(cell, px, py)) {
+				addRepulsion(dx, dy, mass[cell], minDistanceSq, strength, force);
+			} else {
+				int child = firstChild[cell];
+				stack[depth++] = child;
+				stack[depth++] = child + 1;
+				stack[depth++] = child + 2;
+				stack[depth++] = child + 3;
+			}
+		}
+	}
+
+	private static void addRepulsion(double dx, double dy, double mass, double minDistanceSq, double strength,
+			double[] force) {
+		double distanceSq = Math.max(minDistanceSq, dx * dx + dy * dy);
+		double distance = Math.sqrt(distanceSq);
+		double f = mass * strength / distanceSq;
+		force[0] += f * dx / distance;
+		force[1] += f * dy / distance;
+	}
+
+	/**
+	 * A cell must never be approximated by a single point if it contains the point
+	 * for which the repulsion is computed, as that point would then repel itself.
+	 */
+	private boolean contains(int cell, double px, double py) {
+		return px >= left[cell] && px <= left[cell] + size[cell] && py >= top[cell] && py <= top[cell] + size[cell];
+	}
+
+	private void insert(int point) {
+		double px = x[point];
+		double py = y[point];
+		int cell = 0;
+		for (int depth = 0;; depth++) {
+			mass[cell]++;
+			centerX[cell] += px;
+			centerY[cell] += py;
+			if (firstChild[cell] != -1) {
+				cell = getChild(cell, px, py);
+			} else if (firstPoint[cell] == -1 || depth >= MAX_DEPTH) {
+				nextPoint[point] = firstPoint[cell];
+				firstPoint[cell] = point;
+				return;
+			} else {
+				subdivide(cell);
+				cell = getChild(cell, px, py);
+			}
+		}
+	}
+
+	/**
+	 * Splits the given leaf into four children and moves its point into the
+	 * corresponding child.
+	 */
+	private void subdivide(int cell) {
+		double half = size[cell] / 2;
+		int child = createCell(left[cell], top[cell], half);
+		createCell(left[cell] + half, top[cell], half);
+		createCell(left[cell], top[cell] + half, half);
+		createCell(left[cell] + half, top[cell] + half, half);
+		firstChild[cell] = child;
+
+		int point = firstPoint[cell];
+		firstPoint[cell] = -1;
+		int target = getChild(cell, x[point], y[point]);
+		mass[target] = 1;
+		centerX[target] = x[point];
+		centerY[target] = y[point];
+		firstPoint[target] = point;
+		nextPoint[point] = -1;
+	}
+
+	private int getChild(int cell, double px, double py) {
+		double half = size[cell] / 2;
+		int quadrant = 0;
+		if (px >= left[cell] + half) {
+			quadrant += 1;
+		}
+		if (py >= top[cell] + half) {
+			quadrant += 2;
+		}
+		return firstChild[cell] + quadrant;
+	}
+
+	private int createCell(double cellLeft, double cellTop, double cellSize) {
+		if (cellCount == left.length) {
+			int capacity = Math.max(64, 2 * cellCount);
+			left = Arrays.copyOf(left, capacity);
+			top = Arrays.copyOf(top, capacity);
+			size = Arrays.copyOf(size, capacity);
+			mass = Arrays.copyOf(mass, capacity);
+			centerX = Arrays.copyOf(centerX, capacity);
+			centerY = Arrays.copyOf(centerY, capacity);
+			firstChild = Arrays.copyOf(firstChild, capacity);
+			firstPoint = Arrays.copyOf(firstPoint, capacity);
+		}
+		int cell = cellCount++;
+		left[cell] = cellLeft;
+		top[cell] = cellTop;
+		size[cell] = cellSize;
+		mass[cell] = 0;
+		centerX[cell] = 0;
+		centerY[cell] = 0;
+		firstChild[cell] = -1;
+		firstPoint[cell] = -1;
+		return cell;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright 2005-2010, 2024 CHISEL Group, University of Victoria, Victoria,
+ * Copyright 2005-2010, 2026 CHISEL Group, University of Victoria, Victoria,
  *                           BC, Canada and others.
  *
  * This program and the accompanying materials are made available under the
@@ -149,6 +149,8 @@ public class DirectedGraphLayoutAlgorithm extends AbstractLayoutAlgorithm {
 	}
 
 	private int orientation = SWT.VERTICAL;
+	private int componentPacking = DirectedGraphLayout.PACKING_NONE;
+	private boolean parallelLayoutEnabled;
 
 	/**
 	 * @since 2.0
@@ -178,6 +180,61 @@ public class DirectedGraphLayoutAlgorithm extends AbstractLayoutAlgorithm {
 		}
 	}
 
+	/**
+	 * Returns how the components of the graph are packed.
+	 *
+	 * @return one of {@link DirectedGraphLayout#PACKING_NONE},
+	 *         {@link DirectedGraphLayout#PACKING_ROW} or
+	 *         {@link DirectedGraphLayout#PACKING_SHELF}
+	 * @since 2.1
+	 */
+	public int getComponentPacking() {
+		return componentPacking;
+	}
+
+	/**
+	 * Sets how the weakly connected components of the graph are packed. Unless
+	 * the packing is {@link DirectedGraphLayout#PACKING_NONE}, each component is
+	 * laid out on its own.
+	 *
+	 * @param packing one of {@link DirectedGraphLayout#PACKING_NONE},
+	 *                {@link DirectedGraphLayout#PACKING_ROW} or
+	 *                {@link DirectedGraphLayout#PACKING_SHELF}
+	 * @throws IllegalArgumentException if the packing is not one of the above
+	 * @see DirectedGraphLayout#setComponentPacking(int)
+	 * @since 2.1
+	 */
+	public void setComponentPacking(int packing) {
+		if (packing != DirectedGraphLayout.PACKING_NONE && packing != DirectedGraphLayout.PACKING_ROW
+				&& packing != DirectedGraphLayout.PACKING_SHELF) {
+			throw new IllegalArgumentException("Invalid packing: " + packing); //$NON-NLS-1$
+		}
+		componentPacking = packing;
+	}
+
+	/**
+	 * Returns whether the components of the graph are laid out in parallel.
+	 *
+	 * @return {@code true} if the components are laid out on multiple threads
+	 * @since 2.1
+	 */
+	public boolean isParallelLayoutEnabled() {
+		return parallelLayoutEnabled;
+	}
+
+	/**
+	 * Sets whether the components of the graph are laid out on multiple threads,
+	 * if they are packed.
+	 *
+	 * @param enabled {@code true} if the components should be laid out in parallel
+	 *                (default is {@code false})
+	 * @see DirectedGraphLayout#setParallelLayoutEnabled(boolean)
+	 * @since 2.1
+	 */
+	public void setParallelLayoutEnabled(boolean enabled) {
+		parallelLayoutEnabled = enabled;
+	}
+
 	@Override
 	public void applyLayout(boolean clean) {
 		if (!clean) {
@@ -202,6 +259,8 @@ public class DirectedGraphLayoutAlgorithm extends AbstractLayoutAlgorithm {
 			}
 		}
 		DirectedGraphLayout directedGraphLayout = new ExtendedDirectedGraphLayout();
+		directedGraphLayout.setComponentPacking(componentPacking);
+		directedGraphLayout.setParallelLayoutEnabled(parallelLayoutEnabled);
 		directedGraphLayout.visit(graph);
 
 		for (Object node2 : graph.nodes) {
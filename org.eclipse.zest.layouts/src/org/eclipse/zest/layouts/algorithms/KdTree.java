@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.zest.layouts.algorithms;
+
+/**
+ * A two-dimensional k-d tree over a fixed set of points, which is used for
+ * neighbor queries. The points are split alternately along the x and the y axis
+ * at their median, which results in a balanced tree that is built in
+ * {@code O(n log n)}. Both the nearest neighbor of a single point and the
+ * closest pair of all points are then found without comparing all pairs of
+ * points.
+ * <p>
+ * The tree is stored implicitly as a permutation of the point indices. The
+ * median of each range is the root of the subtree spanning this range.
+ * Instances are not thread-safe.
+ */
+final class KdTree {
+
+	private final double[] x, y;
+	private final int[] order;
+
+	private int bestPoint;
+	private int bestOther;
+	private double bestDistance;
+
+	/**
+	 * Creates the tree for the given points. The arrays are referenced, not
+	 * copied, and must not be modified while the tree is in use.
+	 *
+	 * @param x The x coordinates of the points.
+	 * @param y The y coordinates of the points.
+	 */
+	KdTree(double[] x, double[] y) {
+		this.x = x;
+		this.y = y;
+		order = new int[x.length];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		build(0, order.length, 0);
+	}
+
+	/**
+	 * Returns the point which is closest to the given point, excluding the point
+	 * itself. If multiple points have the same distance, the point with the
+	 * smallest index is returned.
+	 *
+	 * @param point The index of the point.
+	 * @return The index of the nearest point or {@code -1}, if there are no other
+	 *         points.
+	 */
+	int getNearest(int point) {
+		bestPoint = point;
+		bestOther = -1;
+		bestDistance = Double.POSITIVE_INFINITY;
+		findNearest(0, order.length, 0, point, -1);
+		return bestOther;
+	}
+
+	/**
+	 * Returns the two points with the smallest distance to each other. If multiple
+	 * pairs have the same distance, the pair which comes first in lexicographic
+	 * order is returned. This is the same pair that is found by comparing all
+	 * pairs {@code (i, j)} with {@code i < j}, in ascending order.
+	 *
+	 * @return The indices {@code i < j} of the closest pair or {@code null}, if
+	 *         there are less than two points.
+	 */
+	int[] getClosestPair() {
+		bestPoint = -1;
+		bestOther = -1;
+		bestDistance = Double.POSITIVE_INFINITY;
+		for (int point = 0; point < x.length; point++) {
+			// Pairs (point, j) with j < point have already been visited
+			findNearest(0, order.length, 0, point, point);
+			if (bestDistance == 0) {
+				// The pairs of all remaining points come later and can't be closer
+				break;
+			}
+		}
+		return bestOther == -1 ? null : new int[] { bestPoint, bestOther };
+	}
+
+	/**
+	 * Searches the subtree in the given range for a point closer to the given
+	 * point than the current best match. Only points with an index greater than
+	 * {@code minIndex} are considered.
+	 */
+	private void findNearest(int lo, int hi, int depth, int point, int minIndex) {
+		if (lo >= hi) {
+			return;
+		}
+		int mid = (lo + hi) >>> 1;
+		int candidate = order[mid];
+		double dx = x[point] - x[candidate];
+		double dy = y[point] - y[candidate];
+		if (candidate != point && candidate > minIndex) {
+			double distance = dx * dx + dy * dy;
+			if (distance < bestDistance
+					|| (distance == bestDistance && point == bestPoint && candidate < bestOther)) {
+				bestPoint = point;
+				bestOther = candidate;
+				bestDistance = distance;
+			}
+		}
+		double diff = (depth & 1) == 0 ? dx : dy;
+		if (diff < 0) {
+			findNearest(lo, mid, depth + 1, point, minIndex);
+			if (isReachable(diff, point)) {
+				findNearest(mid + 1, hi, depth + 1, point, minIndex);
+			}
+		} else {
+			findNearest(mid + 1, hi, depth + 1, point, minIndex);
+			if (isReachable(diff, point)) {
+				findNearest(lo, mid, depth + 1, point, minIndex);
+			}
+		}
+	}
+
+	/**
+	 * Checks whether the other side of a split at the given distance may contain a
+	 * point that replaces the current best match. Points on the split itself may
+	 * still have the same distance as the current match and only replace it if
+	 * they have a smaller index.
+	 */
+	private boolean isReachable(double diff, int point) {
+		double distance = diff * diff;
+		return distance < bestDistance || (distance == bestDistance && point == bestPoint);
+	}
+
+	private void build(int lo, int hi, int depth) {
+		if (hi - lo <= 1) {
+			return;
+		}
+		int mid = (lo + hi) >>> 1;
+		select(lo, hi - 1, mid, (depth & 1) == 0 ? x : y);
+		build(lo, mid, depth + 1);
+		build(mid + 1, hi, depth + 1);
+	}
+
+	/**
+	 * Partially sorts the given range of {@link #order}, so that the k-th point
+	 * is at its sorted position, all points before have a smaller or equal and all
+	 * points after a greater or equal coordinate.
+	 */
+	private void select(int left, int right, int k, double[] coordinates) {
+		while (left < right) {
+			// Median of three as pivot, to avoid the worst case for sorted input
+			int center = (left + right) >>> 1;
+			if (coordinates[order[center]] < coordinates[order[left]]) {
+				swap(center, left);
+			}
+			if (coordinates[order[right]] < coordinates[order[left]]) {
+				swap(right, left);
+			}
+			if (coordinates[order[right]] < coordinates[order[center]]) {
+				swap(right, center);
+			}
+			double pivot = coordinates[order[center]];
+			int i = left;
+			int j = right;
+			while (i <= j) {
+				while (coordinates[order[i]] < pivot) {
+					i++;
+				}
+				while (coordinates[order[j]] > pivot) {
+					j--;
+				}
+				if (i <= j) {
+					swap(i++, j--);
+				}
+			}
+			if (k <= j) {
+				right = j;
+			} else if (k >= i) {
+				left = i;
+			} else {
+				return;
+			}
+		}
+	}
+
+	private void swap(int i, int j) {
+		int tmp = order[i];
+		order[i] = order[j];
+		order[j] = tmp;
+	}
+}
@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.zest.layouts.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * The relations between the nodes of a graph, stored in compressed sparse row
+ * format. For each node, the indices of all adjacent nodes are stored in
+ * ascending order, together with the number of relations and the sum of their
+ * weights. Relations are undirected, meaning a relation between two nodes is
+ * visible from both nodes. The memory required is linear in the number of nodes
+ * and relations.
+ * <p>
+ * The neighbors of node {@code i} are stored at the positions
+ * {@link #getFirstIndex(int) getFirstIndex(i)} (inclusive) to
+ * {@link #getLastIndex(int) getLastIndex(i)} (exclusive).
+ */
+final class SparseRelations {
+
+	private final int[] offsets;
+	private final int[] neighbors;
+	private final int[] counts;
+	private final double[] weights;
+
+	private SparseRelations(int[] offsets, int[] neighbors, int[] counts, double[] weights) {
+		this.offsets = offsets;
+		this.neighbors = neighbors;
+		this.counts = counts;
+		this.weights = weights;
+	}
+
+	/**
+	 * @return The number of nodes.
+	 */
+	int size() {
+		return offsets.length - 1;
+	}
+
+	/**
+	 * @param node The index of the node.
+	 * @return The position of the first neighbor of the given node.
+	 */
+	int getFirstIndex(int node) {
+		return offsets[node];
+	}
+
+	/**
+	 * @param node The index of the node.
+	 * @return The position after the last neighbor of the given node.
+	 */
+	int getLastIndex(int node) {
+		return offsets[node + 1];
+	}
+
+	/**
+	 * @param index The position of the neighbor.
+	 * @return The index of the node at the given position.
+	 */
+	int getNeighbor(int index) {
+		return neighbors[index];
+	}
+
+	/**
+	 * @param index The position of the neighbor.
+	 * @return The number of relations with the node at the given position.
+	 */
+	int getCount(int index) {
+		return counts[index];
+	}
+
+	/**
+	 * @param index The position of the neighbor.
+	 * @return The sum of the weights of all relations with the node at the given
+	 *         position.
+	 */
+	double getWeight(int index) {
+		return weights[index];
+	}
+
+	/**
+	 * Returns the position at which the target node is stored as neighbor of the
+	 * source node.
+	 *
+	 * @param source The index of the source node.
+	 * @param target The index of the target node.
+	 * @return The position of the target node or {@code -1}, if the two nodes are
+	 *         not related.
+	 */
+	int indexOf(int source, int target) {
+		int index = Arrays.binarySearch(neighbors, offsets[source], offsets[source + 1], target);
+		return index < 0 ? -1 : index;
+	}
+
+	/**
+	 * Collects the relations between the nodes of a graph. Relations may be added
+	 * in any order. Multiple relations between the same nodes are merged and
+	 * relations of a node with itself are ignored.
+	 */
+	static final class Builder {
+		private final int size;
+		private int[] sources = new int[16];
+		private int[] targets = new int[16];
+		private double[] relationWeights = new double[16];
+		private int relationCount;
+
+		/**
+		 * @param size The number of nodes.
+		 */
+		Builder(int size) {
+			this.size = size;
+		}
+
+		/**
+		 * Adds a relation between the given nodes.
+		 *
+		 * @param source The index of the source node.
+		 * @param target The index of the target node.
+		 * @param weight The weight of the relation.
+		 */
+		void add(int source, int target, double weight) {
+			if (source == target) {
+				return;
+			}
+			if (relationCount == sources.length) {
+				int capacity = 2 * relationCount;
+				sources = Arrays.copyOf(sources, capacity);
+				targets = Arrays.copyOf(targets, capacity);
+				relationWeights = Arrays.copyOf(relationWeights, capacity);
+			}
+			sources[relationCount] = source;
+			targets[relationCount] = target;
+			relationWeights[relationCount] = weight;
+			relationCount++;
+		}
+
+		/**
+		 * Creates the compressed relations. The weights of multiple relations between
+		 * the same nodes are summed up in the order in which they have been added.
+		 *
+		 * @return The relations added to this builder.
+		 */
+		SparseRelations build() {
+			// Both directions of each relation, stably sorted by target node and then
+			// by source node. This groups all neighbors of a node in ascending order.
+			int entryCount = 2 * relationCount;
+			int[] byTarget = new int[entryCount];
+			int[] offsets = new int[size + 1];
+			for (int i = 0; i < relationCount; i++) {
+				offsets[targets[i] + 1]++;
+				offsets[sources[i] + 1]++;
+			}
+			for (int i = 0; i < size; i++) {
+				offsets[i + 1] += offsets[i];
+			}
+			int[] next = Arrays.copyOf(offsets, size);
+			for (int i = 0; i < relationCount; i++) {
+				byTarget[next[targets[i]]++] = 2 * i;
+				byTarget[next[sources[i]]++] = 2 * i + 1;
+			}
+			int[] bySource = new int[entryCount];
+			System.arraycopy(offsets, 0, next, 0, size);
+			for (int entry : byTarget) {
+				bySource[next[getSource(entry)]++] = entry;
+			}
+
+			// Merge consecutive entries with the same source and target
+			int[] neighbors = new int[entryCount];
+			int[] counts = new int[entryCount];
+			double[] weights = new double[entryCount];
+			int index = 0;
+			for (int node = 0; node < size; node++) {
+				int first = offsets[node];
+				int last = offsets[node + 1];
+				offsets[node] = index;
+				for (int i = first; i < last; i++) {
+					int entry = bySource[i];
+					int neighbor = getTarget(entry);
+					if (index > offsets[node] && neighbors[index - 1] == neighbor) {
+						counts[index - 1]++;
+						weights[index - 1] += relationWeights[entry / 2];
+					} else {
+						neighbors[index] = neighbor;
+						counts[index] = 1;
+						weights[index] = relationWeights[entry / 2];
+						index++;
+					}
+				}
+			}
+			offsets[size] = index;
+			return new SparseRelations(offsets, Arrays.copyOf(neighbors, index), Arrays.copyOf(counts, index),
+					Arrays.copyOf(weights, index));
+		}
+
+		private int getSource(int entry) {
+			return (entry & 1) == 0 ? sources[entry / 2] : targets[entry / 2];
+		}
+
+		private int getTarget(int entry) {
+			return (entry & 1) == 0 ? targets[entry / 2] : sources[entry / 2];
+		}
+	}
+}
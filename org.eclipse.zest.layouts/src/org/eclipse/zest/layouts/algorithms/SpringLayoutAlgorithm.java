@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright 2005.2010, 2024 CHISEL Group, University of Victoria, Victoria, BC,
+ * Copyright 2005.2010, 2026 CHISEL Group, University of Victoria, Victoria, BC,
  *                           Canada, Johannes Kepler University Linz and others.
  *
  * This program and the accompanying materials are made available under the
@@ -18,6 +18,9 @@ package org.eclipse.zest.layouts.algorithms;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
 
 import org.eclipse.zest.layouts.LayoutStyles;
 import org.eclipse.zest.layouts.dataStructures.DisplayIndependentDimension;
@@ -156,18 +159,6 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 		 */
 		private double largestMovement = 0;
 
-		/**
-		 * Maps a src and dest object to the number of relations between them. Key is
-		 * src.toString() + dest.toString(), value is an Integer
-		 */
-		private Map<String, Integer> srcDestToNumRelsMap;
-
-		/**
-		 * Maps a src and dest object to the average weight of the relations between
-		 * them. Key is src.toString() + dest.toString(), value is a Double
-		 */
-		private Map<String, Double> srcDestToRelsAvgWeightMap;
-
 		/**
 		 * Maps a relationship type to a weight. Key is a string, value is a Double
 		 */
@@ -175,9 +166,10 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 
 		private int iteration;
 
-		private int[][] srcDestToNumRels;
-
-		private double[][] srcDestToRelsAvgWeight;
+		/**
+		 * The number of relations and the sum of their weights between any two nodes.
+		 */
+		private SparseRelations relations;
 
 		private double[] tempLocationsX;
 
@@ -198,8 +190,6 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 		 */
 		public Zest1(int styles) {
 			super(styles);
-			srcDestToNumRelsMap = new HashMap<>();
-			srcDestToRelsAvgWeightMap = new HashMap<>();
 			date = new Date();
 		}
 
@@ -392,8 +382,7 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 			forcesY = null;
 			anchors = null;
 			setDefaultConditions();
-			srcDestToNumRelsMap = new HashMap<>();
-			srcDestToRelsAvgWeightMap = new HashMap<>();
+			relations = null;
 			relTypeToWeightMap = new HashMap<>();
 		}
 
@@ -417,12 +406,8 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 			for (int i = 0; i < entitiesToLayout.length; i++) {
 				anchors[i] = DEFAULT_ANCHOR;
 			}
-			for (InternalRelationship layoutRelationship : relationshipsToConsider) {
-				addRelation(layoutRelationship);
-			}
-
 			// do the calculations
-			preCompute(entitiesToLayout);
+			preCompute(entitiesToLayout, relationshipsToConsider);
 			startTime = date.getTime();
 		}
 
@@ -432,54 +417,29 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 			reset(entitiesToLayout);
 		}
 
-		/**
-		 * Adds a simple relation between two nodes to the relation repository.
-		 *
-		 * @param layoutRelationship The simple relation to be added
-		 * @throws java.lang.NullPointerExcetption If <code>sr</code> is null
-		 * @see SimpleRelation
-		 */
-		private void addRelation(InternalRelationship layoutRelationship) {
-			if (layoutRelationship == null) {
-				throw new IllegalArgumentException("The arguments can not be null!"); //$NON-NLS-1$
-			}
-			double weight = layoutRelationship.getWeight();
-			weight = (weight <= 0 ? 0.1 : weight);
-			String key1 = layoutRelationship.getSource().toString() + layoutRelationship.getDestination().toString();
-			String key2 = layoutRelationship.getDestination().toString() + layoutRelationship.getSource().toString();
-			String[] keys = { key1, key2 };
-			for (String key : keys) {
-				Integer count = srcDestToNumRelsMap.get(key);
-				Double avgWeight = srcDestToRelsAvgWeightMap.get(key);
-				if (count == null) {
-					count = Integer.valueOf(1);
-					avgWeight = Double.valueOf(weight);
-				} else {
-					int newCount = count.intValue() + 1;
-					double newAverage = (avgWeight.doubleValue() * count.doubleValue() + weight) / newCount;
-					avgWeight = Double.valueOf(newAverage);
-					count = Integer.valueOf(newCount);
-				}
-				srcDestToNumRelsMap.put(key, count);
-				srcDestToRelsAvgWeightMap.put(key, avgWeight);
+		private void preCompute(InternalNode[] entitiesToLayout, InternalRelationship[] relationshipsToConsider) {
+			// count number of relationships between all nodes and the sum of
+			// their weights
+			Map<InternalNode, Integer> entityToPosition = new HashMap<>();
+			for (int i = 0; i < entitiesToLayout.length; i++) {
+				entityToPosition.put(entitiesToLayout[i], Integer.valueOf(i));
 			}
-		}
 
-		private void preCompute(InternalNode[] entitiesToLayout) {
-			// count number of relationships between all nodes and the average
-			// weight between them
-			srcDestToNumRels = new int[entitiesToLayout.length][entitiesToLayout.length];
-			srcDestToRelsAvgWeight = new double[entitiesToLayout.length][entitiesToLayout.length];
-
-			for (int i = 0; i < entitiesToLayout.length - 1; i++) {
-				InternalNode layoutEntity1 = entitiesToLayout[i];
-				for (int j = i + 1; j < entitiesToLayout.length; j++) {
-					InternalNode layoutEntity2 = entitiesToLayout[j];
-					srcDestToNumRels[i][j] = numRelations(layoutEntity1, layoutEntity2);
-					srcDestToNumRels[i][j] += numRelations(layoutEntity2, layoutEntity1);
-					srcDestToRelsAvgWeight[i][j] = avgWeight(layoutEntity1, layoutEntity2);
+			SparseRelations.Builder builder = new SparseRelations.Builder(entitiesToLayout.length);
+			for (InternalRelationship layoutRelationship : relationshipsToConsider) {
+				if (layoutRelationship == null) {
+					throw new IllegalArgumentException("The arguments can not be null!"); //$NON-NLS-1$
 				}
+				Integer source = entityToPosition.get(layoutRelationship.getSource());
+				Integer destination = entityToPosition.get(layoutRelationship.getDestination());
+				if (source == null || destination == null) {
+					continue;
+				}
+				double weight = layoutRelationship.getWeight();
+				weight = (weight <= 0 ? 0.1 : weight);
+				builder.add(source.intValue(), destination.intValue(), weight);
 			}
+			relations = builder.build();
 
 			if (sprRandom) {
 				placeRandomly(entitiesToLayout); // put vertices in random places
@@ -654,8 +614,6 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 				forcesY[i] = 0.0;
 			}
 
-			// TODO: Again really really slow!
-
 			for (int i = 0; i < entitiesToLayout.length - 1; i++) {
 				InternalNode sourceEntity = entitiesToLayout[i];
 
@@ -664,6 +622,13 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 				double fx = forcesX[i]; // force in x direction
 				double fy = forcesY[i]; // force in y direction
 
+				// the related nodes are sorted, so they can be visited alongside j
+				int next = relations.getFirstIndex(i);
+				int last = relations.getLastIndex(i);
+				while (next < last && relations.getNeighbor(next) <= i) {
+					next++;
+				}
+
 				for (int j = i + 1; j < entitiesToLayout.length; j++) {
 					InternalNode destinationEntity = entitiesToLayout[j];
 
@@ -681,8 +646,14 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 						// then decrease force on srcObj (a pull) in direction of destObj
 						// If no relation between srcObj and destObj then increase
 						// force on srcObj (a push) from direction of destObj.
-						int numRels = srcDestToNumRels[i][j];
-						double avgWeight = srcDestToRelsAvgWeight[i][j];
+						int numRels = 0;
+						double avgWeight = 0;
+						if (next < last && relations.getNeighbor(next) == j) {
+							// each relation is considered in both directions
+							numRels = 2 * relations.getCount(next);
+							avgWeight = relations.getWeight(next) / relations.getCount(next);
+							next++;
+						}
 						if (numRels > 0) {
 							// nodes are pulled towards each other
 							double f = sprStrain * Math.log(distance / sprLength) * numRels * avgWeight;
@@ -794,34 +765,6 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 			}
 		}
 
-		/**
-		 * Examines the number of specified relation between the <code>src</code> and
-		 * the <code>dest</code> that exist in this SpringLayoutAlgorithm's relation
-		 * repository.
-		 *
-		 * @param src  The source part of the relaton to be examined.
-		 * @param dest The destination part of the relation to be examined.
-		 * @return The number of relations between src and dest.
-		 */
-		private int numRelations(Object src, Object dest) {
-			String key = src.toString() + dest.toString();
-			Integer count = srcDestToNumRelsMap.get(key);
-			return (count == null) ? 0 : count.intValue();
-		}
-
-		/**
-		 * Returns the average weight between a src and dest object.
-		 *
-		 * @param src
-		 * @param dest
-		 * @return The average weight between the given src and dest nodes
-		 */
-		private double avgWeight(Object src, Object dest) {
-			String key = src.toString() + dest.toString();
-			Double avgWeight = srcDestToRelsAvgWeightMap.get(key);
-			return (avgWeight == null) ? 1 : avgWeight.doubleValue();
-		}
-
 		@Override
 		protected boolean isValidConfiguration(boolean asynchronous, boolean continueous) {
 			return asynchronous || !continueous;
@@ -864,6 +807,31 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 	 */
 	public static final double DEFAULT_SPRING_GRAVITATION = 2.0f;
 
+	/**
+	 * The default value for the Barnes-Hut approximation threshold. By default,
+	 * the exact forces are computed.
+	 *
+	 * @since 2.1
+	 */
+	public static final double DEFAULT_SPRING_THETA = 0.0d;
+
+	/**
+	 * The minimum number of nodes for which the forces are computed in parallel.
+	 * The forces of smaller graphs are always computed on the calling thread.
+	 */
+	private static final int PARALLEL_THRESHOLD = 256;
+
+	/**
+	 * The number of nodes which are processed by a single parallel task.
+	 */
+	private static final int PARALLEL_GRAIN = 64;
+
+	/**
+	 * The maximum number of blocks into which the pairs of nodes are split when
+	 * computing the exact forces in parallel.
+	 */
+	private static final int PARALLEL_BLOCKS = 32;
+
 	/**
 	 * Minimum distance considered between nodes
 	 */
@@ -916,9 +884,21 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 	 */
 	private boolean resize = false;
 
+	/**
+	 * The variable can be customized to approximate the repulsion between nodes.
+	 */
+	private double sprTheta = DEFAULT_SPRING_THETA;
+
+	/**
+	 * The variable can be customized to compute the forces on multiple threads.
+	 */
+	private boolean sprParallel = false;
+
 	private int iteration;
 
-	private double[][] srcDestToSumOfWeights;
+	private SparseRelations relations;
+
+	private BarnesHutTree barnesHutTree;
 
 	private EntityLayout[] entities;
 
@@ -1134,6 +1114,31 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 		maxTimeMS = timeout;
 	}
 
+	/**
+	 * Sets whether the forces are computed in parallel, using the common
+	 * {@link ForkJoinPool}. The partial forces computed by each task are summed up
+	 * in a fixed order, so the layout is the same for every run and any number of
+	 * threads. It may however differ marginally from the sequential layout, due to
+	 * the different order in which the forces are summed up.
+	 *
+	 * @param parallel {@code true} if the forces should be computed on multiple
+	 *                 threads (default is {@code false})
+	 * @since 2.1
+	 */
+	public void setSpringParallel(boolean parallel) {
+		sprParallel = parallel;
+	}
+
+	/**
+	 * Returns whether the forces are computed in parallel.
+	 *
+	 * @return {@code true} if the forces are computed on multiple threads.
+	 * @since 2.1
+	 */
+	public boolean isSpringParallel() {
+		return sprParallel;
+	}
+
 	/**
 	 * Returns the length-control value of this SpringLayoutAlgorithm in double
 	 * presion.
@@ -1181,6 +1186,35 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 		return sprIterations;
 	}
 
+	/**
+	 * Sets the threshold used to approximate the repulsion between nodes. With a
+	 * value of {@code 0}, the repulsion is computed between every pair of nodes,
+	 * which requires quadratic time per iteration. With a positive value, the
+	 * nodes are put into a quadtree and a group of nodes is treated as a single
+	 * node if the ratio between its size and its distance is less than the
+	 * threshold (Barnes-Hut approximation). This reduces the time per iteration
+	 * to {@code O(n log n)}. Values around {@code 0.5} are a good compromise
+	 * between accuracy and speed for large graphs.
+	 *
+	 * @param theta The approximation threshold, or {@code 0} to compute the exact
+	 *              forces.
+	 * @since 2.1
+	 */
+	public void setSpringTheta(double theta) {
+		sprTheta = theta;
+	}
+
+	/**
+	 * Returns the threshold used to approximate the repulsion between nodes.
+	 *
+	 * @return The approximation threshold, or {@code 0} if the exact forces are
+	 *         computed.
+	 * @since 2.1
+	 */
+	public double getSpringTheta() {
+		return sprTheta;
+	}
+
 	/**
 	 * Sets whether or not this SpringLayoutAlgorithm will layout the nodes randomly
 	 * before beginning iterations.
@@ -1206,7 +1240,7 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 		bounds = context.getBounds();
 		loadLocations();
 
-		srcDestToSumOfWeights = new double[entities.length][entities.length];
+		SparseRelations.Builder builder = new SparseRelations.Builder(entities.length);
 		Map<EntityLayout, Integer> entityToPosition = new HashMap<>();
 		for (int i = 0; i < entities.length; i++) {
 			entityToPosition.put(entities[i], Integer.valueOf(i));
@@ -1221,9 +1255,9 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 			}
 			double weight = connection.getWeight();
 			weight = (weight <= 0 ? 0.1 : weight);
-			srcDestToSumOfWeights[source.intValue()][target.intValue()] += weight;
-			srcDestToSumOfWeights[target.intValue()][source.intValue()] += weight;
+			builder.add(source.intValue(), target.intValue(), weight);
 		}
+		relations = builder.build();
 
 		if (sprRandom) {
 			placeRandomly(); // put vertices in random places
@@ -1370,43 +1404,12 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 				locationsY[i] = this.locationsY[i];
 			}
 		}
-		// TODO: Again really really slow!
 
 		for (int k = 0; k < 2; k++) {
-			for (int i = 0; i < this.locationsX.length; i++) {
-
-				for (int j = i + 1; j < locationsX.length; j++) {
-					double dx = (locationsX[i] - locationsX[j]) / bounds.width / boundsScaleX;
-					double dy = (locationsY[i] - locationsY[j]) / bounds.height / boundsScaleY;
-					double distance_sq = dx * dx + dy * dy;
-					// make sure distance and distance squared not too small
-					distance_sq = Math.max(MIN_DISTANCE * MIN_DISTANCE, distance_sq);
-					double distance = Math.sqrt(distance_sq);
-
-					// If there are relationships between srcObj and destObj
-					// then decrease force on srcObj (a pull) in direction of
-					// destObj
-					// If no relation between srcObj and destObj then increase
-					// force on srcObj (a push) from direction of destObj.
-					double sumOfWeights = srcDestToSumOfWeights[i][j];
-
-					double f;
-					if (sumOfWeights > 0) {
-						// nodes are pulled towards each other
-						f = -sprStrain * Math.log(distance / sprLength) * sumOfWeights;
-					} else {
-						// nodes are repelled from each other
-						f = sprGravitation / (distance_sq);
-					}
-					double dfx = f * dx / distance;
-					double dfy = f * dy / distance;
-
-					forcesX[k][i] += dfx;
-					forcesY[k][i] += dfy;
-
-					forcesX[k][j] -= dfx;
-					forcesY[k][j] -= dfy;
-				}
+			if (sprTheta > 0) {
+				computeApproximateForces(locationsX, locationsY, forcesX[k], forcesY[k]);
+			} else {
+				computeExactForces(locationsX, locationsY, forcesX[k], forcesY[k]);
 			}
 
 			for (int i = 0; i < entities.length; i++) {
@@ -1458,6 +1461,182 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 
 	}
 
+	/**
+	 * Computes the forces between every pair of nodes, which requires quadratic
+	 * time. In parallel mode, the nodes are split into blocks with roughly the
+	 * same number of pairs. The forces of each block are accumulated in separate
+	 * buffers, which are then merged in the order of the blocks. The blocks only
+	 * depend on the number of nodes, so that the result doesn't depend on the
+	 * number of threads.
+	 */
+	private void computeExactForces(double[] locationsX, double[] locationsY, double[] forcesX, double[] forcesY) {
+		int nodeCount = locationsX.length;
+		if (!isParallel(nodeCount)) {
+			computeExactForces(0, nodeCount, locationsX, locationsY, forcesX, forcesY);
+			return;
+		}
+		int blockCount = Math.min(PARALLEL_BLOCKS, nodeCount / PARALLEL_GRAIN);
+		int[] firstNodes = new int[blockCount + 1];
+		long pairCount = (long) nodeCount * (nodeCount - 1) / 2;
+		long pairs = 0;
+		for (int i = 0, block = 1; i < nodeCount && block < blockCount; i++) {
+			pairs += nodeCount - 1 - i;
+			if (pairs >= pairCount * block / blockCount) {
+				firstNodes[block++] = i + 1;
+			}
+		}
+		firstNodes[blockCount] = nodeCount;
+
+		double[][] blockForcesX = new double[blockCount][nodeCount];
+		double[][] blockForcesY = new double[blockCount][nodeCount];
+		forEach(blockCount, 1, true, block -> computeExactForces(firstNodes[block], firstNodes[block + 1], locationsX,
+				locationsY, blockForcesX[block], blockForcesY[block]));
+		for (int block = 0; block < blockCount; block++) {
+			for (int i = 0; i < nodeCount; i++) {
+				forcesX[i] += blockForcesX[block][i];
+				forcesY[i] += blockForcesY[block][i];
+			}
+		}
+	}
+
+	/**
+	 * Adds the forces between each node in {@code [from, to)} and all nodes after
+	 * it to the given force vectors.
+	 */
+	private void computeExactForces(int from, int to, double[] locationsX, double[] locationsY, double[] forcesX,
+			double[] forcesY) {
+		for (int i = from; i < to; i++) {
+			// the neighbors are sorted, so they can be visited alongside j
+			int next = relations.getFirstIndex(i);
+			int last = relations.getLastIndex(i);
+			while (next < last && relations.getNeighbor(next) < i) {
+				next++;
+			}
+
+			for (int j = i + 1; j < locationsX.length; j++) {
+				double dx = (locationsX[i] - locationsX[j]) / bounds.width / boundsScaleX;
+				double dy = (locationsY[i] - locationsY[j]) / bounds.height / boundsScaleY;
+				double distance_sq = dx * dx + dy * dy;
+				// make sure distance and distance squared not too small
+				distance_sq = Math.max(MIN_DISTANCE * MIN_DISTANCE, distance_sq);
+				double distance = Math.sqrt(distance_sq);
+
+				// If there are relationships between srcObj and destObj
+				// then decrease force on srcObj (a pull) in direction of
+				// destObj
+				// If no relation between srcObj and destObj then increase
+				// force on srcObj (a push) from direction of destObj.
+				double sumOfWeights = 0;
+				if (next < last && relations.getNeighbor(next) == j) {
+					sumOfWeights = relations.getWeight(next++);
+				}
+
+				double f;
+				if (sumOfWeights > 0) {
+					// nodes are pulled towards each other
+					f = -sprStrain * Math.log(distance / sprLength) * sumOfWeights;
+				} else {
+					// nodes are repelled from each other
+					f = sprGravitation / (distance_sq);
+				}
+				double dfx = f * dx / distance;
+				double dfy = f * dy / distance;
+
+				forcesX[i] += dfx;
+				forcesY[i] += dfy;
+
+				forcesX[j] -= dfx;
+				forcesY[j] -= dfy;
+			}
+		}
+	}
+
+	/**
+	 * Computes the repulsion between all nodes using the Barnes-Hut approximation.
+	 * The repulsion between related nodes is then replaced by their attraction,
+	 * which only requires to visit the relations of each node.
+	 */
+	private void computeApproximateForces(double[] locationsX, double[] locationsY, double[] forcesX,
+			double[] forcesY) {
+		double[] scaledX = new double[locationsX.length];
+		double[] scaledY = new double[locationsY.length];
+		for (int i = 0; i < locationsX.length; i++) {
+			scaledX[i] = locationsX[i] / bounds.width / boundsScaleX;
+			scaledY[i] = locationsY[i] / bounds.height / boundsScaleY;
+		}
+		if (barnesHutTree == null) {
+			barnesHutTree = new BarnesHutTree();
+		}
+		barnesHutTree.build(scaledX, scaledY);
+
+		forEach(locationsX.length, PARALLEL_GRAIN, isParallel(locationsX.length), i -> {
+			double[] force = new double[2];
+			barnesHutTree.addRepulsion(i, sprTheta, MIN_DISTANCE, sprGravitation, force);
+
+			for (int k = relations.getFirstIndex(i); k < relations.getLastIndex(i); k++) {
+				int j = relations.getNeighbor(k);
+				double dx = scaledX[i] - scaledX[j];
+				double dy = scaledY[i] - scaledY[j];
+				double distance_sq = Math.max(MIN_DISTANCE * MIN_DISTANCE, dx * dx + dy * dy);
+				double distance = Math.sqrt(distance_sq);
+
+				// related nodes are pulled towards each other instead of being repelled
+				double f = -sprStrain * Math.log(distance / sprLength) * relations.getWeight(k)
+						- sprGravitation / distance_sq;
+				force[0] += f * dx / distance;
+				force[1] += f * dy / distance;
+			}
+			forcesX[i] = force[0];
+			forcesY[i] = force[1];
+		});
+	}
+
+	private boolean isParallel(int nodeCount) {
+		return sprParallel && nodeCount >= PARALLEL_THRESHOLD;
+	}
+
+	/**
+	 * Performs the given action for each index in {@code [0, count)}. If requested,
+	 * the indices are split into tasks of at most {@code grain} indices, which are
+	 * executed by the common {@link ForkJoinPool}. The action must therefore only
+	 * modify the state associated with the given index.
+	 */
+	private static void forEach(int count, int grain, boolean parallel, IntConsumer action) {
+		if (parallel && count > grain) {
+			ForkJoinPool.commonPool().invoke(new RangeAction(0, count, grain, action));
+		} else {
+			for (int i = 0; i < count; i++) {
+				action.accept(i);
+			}
+		}
+	}
+
+	private static class RangeAction extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int from, to, grain;
+		private final transient IntConsumer action;
+
+		public RangeAction(int from, int to, int grain, IntConsumer action) {
+			this.from = from;
+			this.to = to;
+			this.grain = grain;
+			this.action = action;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= grain) {
+				for (int i = from; i < to; i++) {
+					action.accept(i);
+				}
+			} else {
+				int middle = (from + to) >>> 1;
+				invokeAll(new RangeAction(from, middle, grain, action), new RangeAction(middle, to, grain, action));
+			}
+		}
+	}
+
 	/**
 	 * Computes the position for each node in this SpringLayoutAlgorithm. The
 	 * computed position will be stored in the data repository. position = position
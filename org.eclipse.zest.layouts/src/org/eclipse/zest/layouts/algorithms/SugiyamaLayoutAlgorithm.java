@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2024 Rene Kuhlemann and others.
+ * Copyright (c) 2012, 2026 Rene Kuhlemann and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -187,10 +187,10 @@ public class SugiyamaLayoutAlgorithm extends AbstractLayoutAlgorithm {
 		createLayers();
 		padLayers();
 		layers.forEach(layer -> { // reduce and refine
-			reduceCrossings();    // iteratively, depending on
-			refineLayers();       // the depth of the graph
+			reduceCrossings(false); // iteratively, depending on
+			refineLayers();         // the depth of the graph
 		});
-		reduceCrossings();
+		reduceCrossings(true);
 		calculatePositions();
 	}
 
@@ -262,20 +262,103 @@ public class SugiyamaLayoutAlgorithm extends AbstractLayoutAlgorithm {
 	/**
 	 * Reduces connection crossings between two adjacent layers by a combined
 	 * top-down and bottom-up approach. It uses a heuristic approach based on the
-	 * predecessor's barycenter.
+	 * predecessor's barycenter. Each sweep only depends on the current order, so
+	 * the sweeps stop once two sweeps in the same direction yield the same order,
+	 * as all further sweeps would repeat them.
+	 *
+	 * @param keepBest whether the order with the fewest crossings should be kept,
+	 *                 instead of the order after the last sweep. The sweeps then
+	 *                 also stop once there are no crossings.
 	 */
-	private void reduceCrossings() {
-		for (int round = 0; round < MAX_SWEEPS; round++) {
+	private void reduceCrossings(boolean keepBest) {
+		long bestCrossings = keepBest ? countCrossings() : -1;
+		List<List<NodeWrapper>> bestOrder = keepBest ? getOrder() : null;
+		List<List<NodeWrapper>> previousOrder = null;
+		for (int round = 0; round < MAX_SWEEPS && bestCrossings != 0; round++) {
 			if ((round & 1) == 0) { // if round is even then do a bottom-up scan
 				for (int index = 1; index < layers.size(); index++) {
 					reduceCrossingsDown(layers.get(index));
 				}
+				// the last round is even as well
+				List<List<NodeWrapper>> order = getOrder();
+				if (order.equals(previousOrder)) {
+					break;
+				}
+				previousOrder = order;
 			} else { // else top-down
 				for (int index = layers.size() - 2; index >= 0; index--) {
 					reduceCrossingsUp(layers.get(index));
 				}
 			}
+			if (keepBest) {
+				long crossings = countCrossings();
+				if (crossings < bestCrossings) {
+					bestCrossings = crossings;
+					bestOrder = getOrder();
+				}
+			}
+		}
+		if (keepBest && countCrossings() > bestCrossings) {
+			for (int index = 0; index < layers.size(); index++) {
+				List<NodeWrapper> layer = layers.get(index);
+				layer.clear();
+				layer.addAll(bestOrder.get(index));
+				updateIndex(layer);
+			}
+		}
+	}
+
+	private List<List<NodeWrapper>> getOrder() {
+		List<List<NodeWrapper>> order = new ArrayList<>(layers.size());
+		for (List<NodeWrapper> layer : layers) {
+			order.add(new ArrayList<>(layer));
+		}
+		return order;
+	}
+
+	/**
+	 * Counts the connection crossings between all adjacent layers, using the
+	 * accumulator tree of Barth, Jünger and Mutzel. The connections between two
+	 * layers are sorted by the index of their predecessor and then by the index of
+	 * their successor. Two connections cross, if and only if the indices of their
+	 * successors are inverted in this order, which are counted in
+	 * {@code O(e log v)}.
+	 *
+	 * @return the number of crossings
+	 */
+	private long countCrossings() {
+		long crossings = 0;
+		for (int index = 0; index < layers.size() - 1; index++) {
+			int size = layers.get(index + 1).size();
+			int firstLeaf = 1;
+			while (firstLeaf < size) {
+				firstLeaf *= 2;
+			}
+			int[] tree = new int[2 * firstLeaf - 1];
+			firstLeaf--;
+			for (NodeWrapper node : layers.get(index)) {
+				int[] successors = new int[node.succ.size()];
+				int i = 0;
+				for (NodeWrapper succ : node.succ) {
+					successors[i++] = succ.index;
+				}
+				Arrays.sort(successors);
+				for (int successor : successors) {
+					int leaf = successor + firstLeaf;
+					tree[leaf]++;
+					while (leaf > 0) {
+						if (leaf % 2 == 1) {
+							// left child, all successors in the right sibling are
+							// further right
+							crossings += tree[leaf + 1];
+						}
+						leaf = (leaf - 1) / 2;
+						tree[leaf]++;
+					}
+				}
+			}
 		}
+		return crossings;
 	}
 
 	private static void reduceCrossingsDown(ArrayList<NodeWrapper> layer) {
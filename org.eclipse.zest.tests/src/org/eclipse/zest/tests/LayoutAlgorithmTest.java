@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024, 2025 Patrick Ziegler and others.
+ * Copyright (c) 2024, 2026 Patrick Ziegler and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -20,9 +20,14 @@ import java.util.Set;
 
 import org.eclipse.zest.layouts.InvalidLayoutConfiguration;
 import org.eclipse.zest.layouts.LayoutAlgorithm;
+import org.eclipse.zest.layouts.LayoutBendPoint;
 import org.eclipse.zest.layouts.LayoutEntity;
 import org.eclipse.zest.layouts.LayoutRelationship;
+import org.eclipse.zest.layouts.LayoutStyles;
 import org.eclipse.zest.layouts.algorithms.GridLayoutAlgorithm;
+import org.eclipse.zest.layouts.algorithms.SpringLayoutAlgorithm;
+import org.eclipse.zest.layouts.constraints.BasicEdgeConstraints;
+import org.eclipse.zest.layouts.constraints.LayoutConstraint;
 import org.eclipse.zest.layouts.progress.ProgressEvent;
 import org.eclipse.zest.layouts.progress.ProgressListener;
 
@@ -91,4 +96,191 @@ public class LayoutAlgorithmTest {
 		layoutAlgorithm.applyLayout(nodes, new LayoutRelationship[0], 0, 0, 0, 0, false, false);
 		assertEquals(logger.size(), 1); // $NON-NLS-1$
 	}
+
+	/**
+	 * The spring layout must move the nodes to the same locations as when the
+	 * relations between the nodes were stored in an n&times;n matrix. The graph
+	 * contains relations in both directions and with different weights, which are
+	 * averaged per pair of nodes, as well as an unconnected node.
+	 */
+	@Test
+	@SuppressWarnings("static-method")
+	public void testSpringLayoutAlgorithmZest1() throws InvalidLayoutConfiguration {
+		int[][] locations = { { 10, 10 }, { 200, 40 }, { 60, 180 }, { 300, 300 }, { 150, 120 }, { 20, 350 } };
+		int[][] relations = { { 0, 1, 1 }, { 1, 2, 2 }, { 2, 0, 1 }, { 2, 3, 3 }, { 3, 4, 1 }, { 4, 2, 1 },
+				{ 1, 0, 4 } };
+		// Locations computed before the relations were stored in sparse form
+		double[][] expected = { //
+				{ 396.30105523360766, 25.0 }, //
+				{ 430.1309183684822, 29.034743418141467 }, //
+				{ 414.67015425830823, 78.82696166232154 }, //
+				{ 447.93610949210034, 98.67045117330017 }, //
+				{ 414.9434009240543, 120.64269061571378 }, //
+				{ 25.0, 447.93610949210034 } };
+
+		TestEntity[] entities = new TestEntity[locations.length];
+		for (int i = 0; i < entities.length; i++) {
+			entities[i] = new TestEntity("node" + i, locations[i][0], locations[i][1]); //$NON-NLS-1$
+		}
+		TestRelationship[] relationships = new TestRelationship[relations.length];
+		for (int i = 0; i < relationships.length; i++) {
+			relationships[i] = new TestRelationship(entities[relations[i][0]], entities[relations[i][1]],
+					relations[i][2]);
+		}
+
+		SpringLayoutAlgorithm.Zest1 algorithm = new SpringLayoutAlgorithm.Zest1(
+				LayoutStyles.NO_LAYOUT_NODE_RESIZING);
+		algorithm.setRandom(false);
+		algorithm.setIterations(100);
+		algorithm.applyLayout(entities, relationships, 0, 0, 500, 500, false, false);
+
+		for (int i = 0; i < entities.length; i++) {
+			assertEquals(expected[i][0], entities[i].getXInLayout(), 1e-6);
+			assertEquals(expected[i][1], entities[i].getYInLayout(), 1e-6);
+		}
+	}
+
+	private static class TestEntity implements LayoutEntity {
+		private final String name;
+		private double x;
+		private double y;
+		private double width = 20;
+		private double height = 10;
+		private Object layoutInformation;
+		private Object graphData;
+
+		public TestEntity(String name, double x, double y) {
+			this.name = name;
+			this.x = x;
+			this.y = y;
+		}
+
+		@Override
+		public int compareTo(Object o) {
+			return 0;
+		}
+
+		@Override
+		public void setGraphData(Object o) {
+			graphData = o;
+		}
+
+		@Override
+		public Object getGraphData() {
+			return graphData;
+		}
+
+		@Override
+		public void setLocationInLayout(double x, double y) {
+			this.x = x;
+			this.y = y;
+		}
+
+		@Override
+		public void setSizeInLayout(double width, double height) {
+			this.width = width;
+			this.height = height;
+		}
+
+		@Override
+		public double getXInLayout() {
+			return x;
+		}
+
+		@Override
+		public double getYInLayout() {
+			return y;
+		}
+
+		@Override
+		public double getWidthInLayout() {
+			return width;
+		}
+
+		@Override
+		public double getHeightInLayout() {
+			return height;
+		}
+
+		@Override
+		public Object getLayoutInformation() {
+			return layoutInformation;
+		}
+
+		@Override
+		public void setLayoutInformation(Object internalEntity) {
+			layoutInformation = internalEntity;
+		}
+
+		@Override
+		public void populateLayoutConstraint(LayoutConstraint constraint) {
+			// no constraints
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+	}
+
+	private static class TestRelationship implements LayoutRelationship {
+		private final LayoutEntity source;
+		private final LayoutEntity destination;
+		private final int weight;
+		private Object layoutInformation;
+		private Object graphData;
+
+		public TestRelationship(LayoutEntity source, LayoutEntity destination, int weight) {
+			this.source = source;
+			this.destination = destination;
+			this.weight = weight;
+		}
+
+		@Override
+		public void setGraphData(Object o) {
+			graphData = o;
+		}
+
+		@Override
+		public Object getGraphData() {
+			return graphData;
+		}
+
+		@Override
+		public LayoutEntity getSourceInLayout() {
+			return source;
+		}
+
+		@Override
+		public LayoutEntity getDestinationInLayout() {
+			return destination;
+		}
+
+		@Override
+		public void setLayoutInformation(Object layoutInformation) {
+			this.layoutInformation = layoutInformation;
+		}
+
+		@Override
+		public Object getLayoutInformation() {
+			return layoutInformation;
+		}
+
+		@Override
+		public void setBendPoints(LayoutBendPoint[] bendPoints) {
+			// not supported
+		}
+
+		@Override
+		public void clearBendPoints() {
+			// not supported
+		}
+
+		@Override
+		public void populateLayoutConstraint(LayoutConstraint constraint) {
+			if (constraint instanceof BasicEdgeConstraints edgeConstraints) {
+				edgeConstraints.weight = weight;
+			}
+		}
+	}
 }
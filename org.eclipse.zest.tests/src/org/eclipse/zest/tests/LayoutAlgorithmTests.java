@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2025 Fabian Steeg and others.
+ * Copyright (c) 2011, 2026 Fabian Steeg and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,20 +12,39 @@
 package org.eclipse.zest.tests;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Item;
 import org.eclipse.swt.widgets.Shell;
 
+import org.eclipse.draw2d.graph.DirectedGraphLayout;
+
 import org.eclipse.zest.core.widgets.DAGExpandCollapseManager;
 import org.eclipse.zest.core.widgets.DefaultSubgraph;
 import org.eclipse.zest.core.widgets.Graph;
 import org.eclipse.zest.core.widgets.GraphConnection;
 import org.eclipse.zest.core.widgets.GraphNode;
+import org.eclipse.zest.core.widgets.ZestStyles;
 import org.eclipse.zest.layouts.LayoutAlgorithm;
 import org.eclipse.zest.layouts.algorithms.AbstractLayoutAlgorithm;
+import org.eclipse.zest.layouts.algorithms.AlgorithmHelper;
+import org.eclipse.zest.layouts.algorithms.DirectedGraphLayoutAlgorithm;
 import org.eclipse.zest.layouts.algorithms.GridLayoutAlgorithm;
+import org.eclipse.zest.layouts.algorithms.SpringLayoutAlgorithm;
+import org.eclipse.zest.layouts.algorithms.SugiyamaLayoutAlgorithm;
+import org.eclipse.zest.layouts.dataStructures.DisplayIndependentDimension;
+import org.eclipse.zest.layouts.dataStructures.DisplayIndependentPoint;
+import org.eclipse.zest.layouts.interfaces.EntityLayout;
 import org.eclipse.zest.layouts.interfaces.LayoutContext;
 
 import org.junit.jupiter.api.Test;
@@ -138,4 +157,244 @@ public class LayoutAlgorithmTests {
 		graph.setLayoutAlgorithm(new GridLayoutAlgorithm(), true);
 		assertEquals(GridLayoutAlgorithm.class, graph.getLayoutAlgorithm().getClass());
 	}
+
+	/**
+	 * Like the {@link DirectedGraphLayout}, the
+	 * {@link DirectedGraphLayoutAlgorithm} must reject invalid packings.
+	 */
+	@Test
+	@SuppressWarnings("static-method")
+	public void testDirectedGraphLayoutAlgorithmComponentPacking() {
+		DirectedGraphLayoutAlgorithm algorithm = new DirectedGraphLayoutAlgorithm();
+		algorithm.setComponentPacking(DirectedGraphLayout.PACKING_SHELF);
+		assertThrows(IllegalArgumentException.class, () -> algorithm.setComponentPacking(-1));
+		assertThrows(IllegalArgumentException.class, () -> algorithm.setComponentPacking(3));
+		assertEquals(DirectedGraphLayout.PACKING_SHELF, algorithm.getComponentPacking());
+	}
+
+	/**
+	 * The Barnes-Hut approximation of the {@link SpringLayoutAlgorithm} should
+	 * move the nodes almost the same way as the exact computation.
+	 */
+	@Test
+	@SuppressWarnings("static-method")
+	public void testSpringLayoutAlgorithmApproximation() {
+		Shell shell = new Shell();
+		SpringLayoutAlgorithm algorithm = new SpringLayoutAlgorithm();
+		List<GraphNode> exact = createSpringLayoutGraph(shell, 50, algorithm);
+		algorithm = new SpringLayoutAlgorithm();
+		algorithm.setSpringTheta(0.3);
+		List<GraphNode> approximate = createSpringLayoutGraph(shell, 50, algorithm);
+		assertLocationsEqual(exact, approximate, 2);
+	}
+
+	/**
+	 * The parallel computation of the {@link SpringLayoutAlgorithm} must always
+	 * yield the same result and should move the nodes almost the same way as the
+	 * sequential computation.
+	 */
+	@Test
+	@SuppressWarnings("static-method")
+	public void testSpringLayoutAlgorithmParallel() {
+		Shell shell = new Shell();
+		SpringLayoutAlgorithm algorithm = new SpringLayoutAlgorithm();
+		List<GraphNode> sequential = createSpringLayoutGraph(shell, 500, algorithm);
+		algorithm = new SpringLayoutAlgorithm();
+		algorithm.setSpringParallel(true);
+		List<GraphNode> parallel1 = createSpringLayoutGraph(shell, 500, algorithm);
+		algorithm = new SpringLayoutAlgorithm();
+		algorithm.setSpringParallel(true);
+		List<GraphNode> parallel2 = createSpringLayoutGraph(shell, 500, algorithm);
+		assertLocationsEqual(parallel1, parallel2, 0);
+		assertLocationsEqual(sequential, parallel1, 2);
+	}
+
+	/**
+	 * The minimum distance must be the distance of the first pair of nodes with
+	 * the smallest distance, as found by comparing all pairs of nodes.
+	 */
+	@Test
+	@SuppressWarnings("static-method")
+	public void testMinimumDistance() {
+		Graph graph = new Graph(new Shell(), SWT.NONE);
+		// Distinct cells of a coarse grid, so that many pairs of nodes have the
+		// same distance
+		List<Integer> cells = new ArrayList<>();
+		for (int i = 0; i < 40 * 40; i++) {
+			cells.add(i);
+		}
+		Collections.shuffle(cells, new Random(42));
+		for (int cell : cells.subList(0, 200)) {
+			GraphNode node = new GraphNode(graph, SWT.NONE);
+			node.setLocation(cell % 40 * 30, cell / 40 * 40);
+		}
+		EntityLayout[] entities = graph.getLayoutContext().getEntities();
+
+		DisplayIndependentDimension expected = null;
+		double minDistance = Double.MAX_VALUE;
+		for (int i = 0; i < entities.length; i++) {
+			for (int j = i + 1; j < entities.length; j++) {
+				DisplayIndependentPoint location1 = entities[i].getLocation();
+				DisplayIndependentPoint location2 = entities[j].getLocation();
+				double dx = Math.abs(location1.x - location2.x);
+				double dy = Math.abs(location1.y - location2.y);
+				if (dx * dx + dy * dy < minDistance) {
+					minDistance = dx * dx + dy * dy;
+					expected = new DisplayIndependentDimension(dx, dy);
+				}
+			}
+		}
+		DisplayIndependentDimension actual = AlgorithmHelper.getMinimumDistance(entities);
+		assertEquals(expected.width, actual.width, 0);
+		assertEquals(expected.height, actual.height, 0);
+	}
+
+	/**
+	 * The nearest neighbor found by the k-d tree must be the point with the
+	 * smallest distance and, among those, the smallest index, as found by
+	 * comparing the point with all other points. The tree is package private,
+	 * so it is accessed via reflection.
+	 */
+	@Test
+	@SuppressWarnings({ "static-method", "nls" })
+	public void testKdTreeNearest() throws ReflectiveOperationException {
+		Class<?> type = Class.forName("org.eclipse.zest.layouts.algorithms.KdTree", true,
+				AlgorithmHelper.class.getClassLoader());
+		Constructor<?> constructor = type.getDeclaredConstructor(double[].class, double[].class);
+		constructor.setAccessible(true);
+		Method getNearest = type.getDeclaredMethod("getNearest", int.class);
+		getNearest.setAccessible(true);
+		Random random = new Random(42);
+		for (int run = 0; run < 100; run++) {
+			// Few distinct coordinates, so that many points have the same distance
+			double[] x = new double[random.nextInt(60)];
+			double[] y = new double[x.length];
+			for (int i = 0; i < x.length; i++) {
+				x[i] = random.nextInt(8) * 10;
+				y[i] = random.nextInt(8) * 10;
+			}
+			Object tree = constructor.newInstance(x, y);
+			for (int i = 0; i < x.length; i++) {
+				int expected = -1;
+				double minDistance = Double.POSITIVE_INFINITY;
+				for (int j = 0; j < x.length; j++) {
+					double distance = (x[i] - x[j]) * (x[i] - x[j]) + (y[i] - y[j]) * (y[i] - y[j]);
+					if (j != i && distance < minDistance) {
+						minDistance = distance;
+						expected = j;
+					}
+				}
+				assertEquals(expected, getNearest.invoke(tree, Integer.valueOf(i)));
+			}
+		}
+	}
+
+	/**
+	 * The crossings counted by the accumulator tree of the
+	 * {@link SugiyamaLayoutAlgorithm} must be the crossings of all pairs of
+	 * connections between adjacent layers. The layers are private, so they are
+	 * accessed via reflection.
+	 */
+	@Test
+	@SuppressWarnings("static-method")
+	public void testSugiyamaLayoutAlgorithmCrossings() throws ReflectiveOperationException {
+		Shell shell = new Shell();
+		Random random = new Random(42);
+		Field layersField = SugiyamaLayoutAlgorithm.class.getDeclaredField("layers"); //$NON-NLS-1$
+		layersField.setAccessible(true);
+		Method countCrossings = SugiyamaLayoutAlgorithm.class.getDeclaredMethod("countCrossings"); //$NON-NLS-1$
+		countCrossings.setAccessible(true);
+		for (int run = 0; run < 50; run++) {
+			// Bilayer graphs first, then graphs with up to five layers
+			int layerCount = run < 25 ? 2 : 2 + random.nextInt(4);
+			Graph graph = new Graph(shell, SWT.NONE);
+			graph.setConnectionStyle(ZestStyles.CONNECTIONS_DIRECTED);
+			List<List<GraphNode>> levels = new ArrayList<>();
+			for (int level = 0; level < layerCount; level++) {
+				List<GraphNode> nodes = new ArrayList<>();
+				int nodeCount = 1 + random.nextInt(8);
+				for (int i = 0; i < nodeCount; i++) {
+					GraphNode node = new GraphNode(graph, SWT.NONE);
+					if (level > 0) {
+						// Each node must be below its predecessors
+						List<GraphNode> previous = levels.get(level - 1);
+						new GraphConnection(graph, SWT.NONE, previous.get(random.nextInt(previous.size())), node);
+					}
+					nodes.add(node);
+				}
+				levels.add(nodes);
+			}
+			int connectionCount = random.nextInt(20);
+			for (int i = 0; i < connectionCount && layerCount > 1; i++) {
+				int level = random.nextInt(layerCount - 1);
+				List<GraphNode> sources = levels.get(level);
+				List<GraphNode> targets = levels.get(level + 1 + random.nextInt(layerCount - level - 1));
+				new GraphConnection(graph, SWT.NONE, sources.get(random.nextInt(sources.size())),
+						targets.get(random.nextInt(targets.size())));
+			}
+			SugiyamaLayoutAlgorithm algorithm = new SugiyamaLayoutAlgorithm();
+			graph.setLayoutAlgorithm(algorithm, false);
+			graph.applyLayoutNow();
+
+			long expected = 0;
+			for (Object layer : (List<?>) layersField.get(algorithm)) {
+				// The indices of all pairs of predecessor and successor
+				List<int[]> connections = new ArrayList<>();
+				for (Object node : (List<?>) layer) {
+					for (Object successor : (List<?>) getField(node, "succ")) { //$NON-NLS-1$
+						connections.add(new int[] { getIndex(node), getIndex(successor) });
+					}
+				}
+				for (int i = 0; i < connections.size(); i++) {
+					for (int j = i + 1; j < connections.size(); j++) {
+						int[] c1 = connections.get(i);
+						int[] c2 = connections.get(j);
+						if ((c1[0] - c2[0]) * (c1[1] - c2[1]) < 0) {
+							expected++;
+						}
+					}
+				}
+			}
+			assertEquals(expected, countCrossings.invoke(algorithm));
+			graph.dispose();
+		}
+	}
+
+	private static Object getField(Object node, String name) throws ReflectiveOperationException {
+		Field field = node.getClass().getDeclaredField(name);
+		field.setAccessible(true);
+		return field.get(node);
+	}
+
+	private static int getIndex(Object node) throws ReflectiveOperationException {
+		return ((Integer) getField(node, "index")).intValue(); //$NON-NLS-1$
+	}
+
+	private static void assertLocationsEqual(List<GraphNode> expected, List<GraphNode> actual, int delta) {
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).getLocation().x, actual.get(i).getLocation().x, delta);
+			assertEquals(expected.get(i).getLocation().y, actual.get(i).getLocation().y, delta);
+		}
+	}
+
+	private static List<GraphNode> createSpringLayoutGraph(Shell shell, int nodeCount,
+			SpringLayoutAlgorithm algorithm) {
+		Graph graph = new Graph(shell, SWT.NONE);
+		graph.setPreferredSize(1000, 1000);
+		Random random = new Random(42);
+		List<GraphNode> nodes = new ArrayList<>();
+		for (int i = 0; i < nodeCount; i++) {
+			GraphNode node = new GraphNode(graph, SWT.NONE);
+			node.setLocation(random.nextInt(1000), random.nextInt(1000));
+			if (i > 0) {
+				new GraphConnection(graph, SWT.NONE, nodes.get(random.nextInt(i)), node);
+			}
+			nodes.add(node);
+		}
+		algorithm.setRandom(false);
+		algorithm.setIterations(1);
+		graph.setLayoutAlgorithm(algorithm, false);
+		graph.applyLayoutNow();
+		return nodes;
+	}
 }
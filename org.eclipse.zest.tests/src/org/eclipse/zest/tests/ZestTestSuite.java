@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.zest.tests;
 
+import org.eclipse.zest.tests.cloudio.CloudMatrixTests;
 import org.eclipse.zest.tests.cloudio.TagCloudTests;
 import org.eclipse.zest.tests.cloudio.TagCloudViewerTests;
 import org.eclipse.zest.tests.examples.GraphJFaceTests;
@@ -36,6 +37,7 @@ import org.junit.platform.suite.api.Suite;
 	GraphJFaceTests.class,
 	GraphSWTTests.class,
 	GraphUMLTests.class,
+	CloudMatrixTests.class,
 	TagCloudTests.class,
 	TagCloudViewerTests.class
 })
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Patrick Ziegler and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Patrick Ziegler - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.zest.tests.cloudio;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.zest.cloudio.util.CloudMatrix;
+import org.eclipse.zest.cloudio.util.RectTree;
+import org.eclipse.zest.cloudio.util.SmallRect;
+
+import org.junit.jupiter.api.Test;
+
+public class CloudMatrixTests {
+
+	private static final int ACCURACY = 5;
+	private static final int MAX_SIZE = 640;
+
+	@SuppressWarnings("static-method")
+	@Test
+	public void testFitsMatchesWordIds() {
+		Random random = new Random(42);
+		CloudMatrix matrix = new CloudMatrix(MAX_SIZE, ACCURACY);
+		for (short id = 1; id <= 40; id++) {
+			RectTree tree = createTree(random, id);
+			tree.move(random.nextInt(MAX_SIZE - 160) / ACCURACY * ACCURACY,
+					random.nextInt(MAX_SIZE - 160) / ACCURACY * ACCURACY);
+			if (tree.fits(matrix)) {
+				tree.place(matrix, id);
+			}
+		}
+		for (int i = 0; i < 200; i++) {
+			List<int[]> cells = new ArrayList<>();
+			RectTree tree = createTree(random, (short) 0, cells);
+			for (int j = 0; j < 20; j++) {
+				// Includes offsets which aren't aligned to the raster
+				int x = random.nextInt(MAX_SIZE - 160);
+				int y = random.nextInt(MAX_SIZE - 160);
+				tree.move(x, y);
+				assertEquals(fits(matrix, cells, x, y), tree.fits(matrix));
+			}
+		}
+	}
+
+	@SuppressWarnings("static-method")
+	@Test
+	public void testFitsAcrossLongs() {
+		CloudMatrix matrix = new CloudMatrix(MAX_SIZE, ACCURACY);
+		// Occupy a single cell right behind the first 64 columns
+		RectTree occupied = new RectTree(new SmallRect(0, 0, 20, 20), ACCURACY);
+		occupied.insert(new SmallRect(0, 0, ACCURACY, ACCURACY), (short) 1);
+		occupied.releaseRects();
+		occupied.move(64 * ACCURACY, 10 * ACCURACY);
+		occupied.place(matrix, (short) 1);
+		assertFalse(matrix.isEmpty(64, 10));
+		assertTrue(matrix.isEmpty(63, 10));
+
+		// Horizontal line of 3 cells
+		RectTree word = new RectTree(new SmallRect(0, 0, 20, 20), ACCURACY);
+		for (int i = 0; i < 3; i++) {
+			word.insert(new SmallRect(i * ACCURACY, 0, ACCURACY, ACCURACY), (short) 2);
+		}
+		word.releaseRects();
+		for (int x = 55; x < 70; x++) {
+			word.move(x * ACCURACY, 10 * ACCURACY);
+			assertEquals(x > 64 || x + 2 < 64, word.fits(matrix));
+		}
+		word.move(62 * ACCURACY, 11 * ACCURACY);
+		assertTrue(word.fits(matrix));
+
+		matrix.reset();
+		assertTrue(matrix.isEmpty(64, 10));
+		word.move(63 * ACCURACY, 10 * ACCURACY);
+		assertTrue(word.fits(matrix));
+	}
+
+	/**
+	 * Reference implementation, which checks the word id of all cells.
+	 */
+	private static boolean fits(CloudMatrix matrix, List<int[]> cells, int x, int y) {
+		for (int[] cell : cells) {
+			if (matrix.get((cell[0] + x) / ACCURACY, (cell[1] + y) / ACCURACY) != RectTree.EMPTY) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static RectTree createTree(Random random, short id) {
+		return createTree(random, id, new ArrayList<>());
+	}
+
+	private static RectTree createTree(Random random, short id, List<int[]> cells) {
+		RectTree tree = new RectTree(new SmallRect(0, 0, 160, 160), ACCURACY);
+		int width = 1 + random.nextInt(32);
+		int height = 1 + random.nextInt(32);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				if (random.nextInt(3) == 0) {
+					cells.add(new int[] { x * ACCURACY, y * ACCURACY });
+					tree.insert(new SmallRect(x * ACCURACY, y * ACCURACY, ACCURACY, ACCURACY), id);
+				}
+			}
+		}
+		tree.releaseRects();
+		return tree;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2025 Stephan Schwiebert and others.
+ * Copyright (c) 2011, 2026 Stephan Schwiebert and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -488,6 +488,40 @@ public class TagCloudTests {
 		assertTrue(rectChanged);
 	}
 
+	@Test
+	public void testRepeatedLayout() {
+		TagCloud cloud = new TagCloud(composite, SWT.NONE);
+		List<Word> words = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			Word word = new Word("Word" + i); //$NON-NLS-1$
+			word.setColor(Display.getDefault().getSystemColor(SWT.COLOR_GRAY));
+			word.setFontData(composite.getFont().getFontData());
+			word.weight = (i % 10) / 10.0;
+			word.angle = (i % 3 - 1) * 45;
+			words.add(word);
+		}
+		cloud.setWords(words, null);
+		List<Rectangle> extents = new ArrayList<>();
+		for (Word word : words) {
+			assertNotNull(word.tree);
+			extents.add(new Rectangle(word.stringExtent.x, word.stringExtent.y, word.width, word.height));
+		}
+		// Rendered masks are reused and must result in the same extents
+		cloud.layoutCloud(null, true);
+		for (int i = 0; i < words.size(); i++) {
+			Word word = words.get(i);
+			assertNotNull(word.tree);
+			assertEquals(extents.get(i),
+					new Rectangle(word.stringExtent.x, word.stringExtent.y, word.width, word.height));
+		}
+		// Words with a different angle must be rendered again
+		Word word = words.get(1);
+		word.angle = 90;
+		cloud.layoutCloud(null, true);
+		assertEquals(extents.get(1).width, word.height);
+		assertEquals(extents.get(1).height, word.width);
+	}
+
 	// @Test
 	// public void testLayoutTooLarge() {
 	// TagCloud cloud = new TagCloud(composite, SWT.NONE);